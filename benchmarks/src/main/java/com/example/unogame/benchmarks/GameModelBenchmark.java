@@ -0,0 +1,142 @@
+package com.example.unogame.benchmarks;
+
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.exceptions.InvalidCardPlayException;
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link GameModel} playability checks and {@code playCard}
+ * with hand sizes from an opening hand up to the long-game range.
+ *
+ * @author
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameModelBenchmark {
+
+    @Param({"5", "10", "20", "40", "60"})
+    public int handSize;
+
+    private GameModel model;
+    private List<UnoCard> randomHand;
+    private List<UnoCard> unplayableHand;
+
+    @Setup(Level.Trial)
+    public void setUp() throws DeckEmptyException {
+        model = new GameModel();
+        Random random = new Random(42);
+
+        // Mano aleatoria realista: cartas robadas del propio mazo
+        randomHand = model.getUserHand();
+        while (randomHand.size() < handSize) {
+            randomHand.add(model.drawCard());
+        }
+
+        // Peor caso: ninguna carta coincide con el color ni con el valor del descarte
+        UnoCard top = model.getTopDiscard();
+        unplayableHand = model.getCpuHand();
+        unplayableHand.clear();
+        while (unplayableHand.size() < handSize) {
+            UnoCard.Color color = UnoCard.Color.values()[random.nextInt(4)];
+            UnoCard.Value value = UnoCard.Value.getValue(random.nextInt(10));
+            if (color != model.getCurrentColor() && value != top.getValue()) {
+                unplayableHand.add(new UnoCard(color, value));
+            }
+        }
+    }
+
+    @Benchmark
+    public void isValidPlay(Blackhole bh) {
+        for (UnoCard card : randomHand) {
+            bh.consume(model.isValidPlay(card));
+        }
+    }
+
+    @Benchmark
+    public boolean canPlayAnyCardRandomHand() {
+        return model.canPlayAnyCard(randomHand);
+    }
+
+    @Benchmark
+    public boolean canPlayAnyCardNoMatch() {
+        return model.canPlayAnyCard(unplayableHand);
+    }
+
+    /** The CPU's card choice: first playable card of a hand. */
+    @Benchmark
+    public UnoCard findPlayableCard() {
+        return model.findPlayableCard(true);
+    }
+
+    /**
+     * State for {@link #playCard}: a dealt game whose user hand is brought to the
+     * benchmark size with cards of the deck, so the deck, the discard pile and the
+     * hands always hold the 108 real cards. {@code start} is the position to go back
+     * to when a play made the CPU draw.
+     */
+    @State(Scope.Thread)
+    public static class PlayState {
+        GameModel model;
+        byte[] start;
+        int cpuHandSize;
+        int playIndex;
+
+        @Setup(Level.Trial)
+        public void setUp(GameModelBenchmark benchmark) throws InvalidCardPlayException, DeckEmptyException {
+            model = new GameModel();
+            List<UnoCard> hand = model.getUserHand();
+            while (hand.size() < benchmark.handSize) {
+                model.drawCode(GameModel.USER_SEAT);
+            }
+            while (hand.size() > benchmark.handSize) {
+                UnoCard card = hand.get(0);
+                model.setWildColor(card.getColor());
+                model.setUserTurn(true);
+                model.playCard(card, true);
+            }
+            cpuHandSize = model.getCpuHand().size();
+            start = new byte[model.snapshotSize()];
+            model.snapshot(start, 0);
+        }
+    }
+
+    /**
+     * One user play: the card is made valid by forcing its color, played, and
+     * replaced by a card drawn from the deck into the hand, so the hand size stays
+     * constant and the discard pile is recycled into the deck (amortized refill)
+     * with no card made up or lost. A +2 or +4 makes the CPU draw; the next
+     * invocation then restores the starting position, so the CPU hand does not
+     * grow and drain the deck. That restore follows 6-25% of the plays,
+     * depending on the starting hand, and is part of the measured time.
+     */
+    @Benchmark
+    public UnoCard playCard(PlayState state) throws InvalidCardPlayException, DeckEmptyException {
+        GameModel model = state.model;
+        if (model.getCpuHand().size() != state.cpuHandSize) {
+            model.restore(state.start, 0);
+        }
+        List<UnoCard> hand = model.getUserHand();
+        state.playIndex = (state.playIndex + 1) % hand.size();
+        UnoCard card = hand.get(state.playIndex);
+
+        model.setWildColor(card.getColor());
+        model.setUserTurn(true);
+        UnoCard played = model.playCard(card, true);
+        model.drawCode(GameModel.USER_SEAT);
+        return played;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.unogame.benchmarks;
+
+import com.example.unogame.engine.HeadlessGameEngine;
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.journal.GameJournal;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Same turn loop as {@link TurnLoopBenchmark} with every event recorded in a
+ * {@link GameJournal}, to compare the cost of journaling on the turn path.
+ *
+ * @author
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JournalBenchmark {
+    private Path directory;
+    private GameJournal journal;
+    private HeadlessGameEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, DeckEmptyException {
+        directory = Files.createTempDirectory("uno-journal-bench");
+        journal = new GameJournal(directory, 64L << 20, GameJournal.DEFAULT_FLUSH_INTERVAL_MILLIS);
+        engine = new HeadlessGameEngine(2, 42L);
+        journal.attach(engine.getModel());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int journaledTurn() throws DeckEmptyException {
+        if (engine.isFinished()) {
+            engine.newGame();
+        }
+        engine.playTurn();
+        return engine.getTurns();
+    }
+}
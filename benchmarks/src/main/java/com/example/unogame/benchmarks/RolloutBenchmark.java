@@ -0,0 +1,54 @@
+package com.example.unogame.benchmarks;
+
+import com.example.unogame.engine.HeadlessGameEngine;
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.model.GameModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One Monte Carlo playout as run by {@code MonteCarloPlayer}: copy the position,
+ * deal the hidden cards at random, and play the game to the end.
+ * State is per thread, so running with {@code -t N} shows how playouts scale
+ * across cores.
+ *
+ * @author
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RolloutBenchmark {
+
+    @Param({"2", "4", "10"})
+    public int seats;
+
+    private GameModel root;
+    private GameModel scratch;
+    private HeadlessGameEngine engine;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() throws DeckEmptyException {
+        root = new GameModel(seats, 42L);
+        scratch = new GameModel(seats, 43L);
+        engine = new HeadlessGameEngine(scratch);
+        random = new SplittableRandom(44L);
+    }
+
+    @Benchmark
+    public int rollout() {
+        scratch.copyFrom(root);
+        scratch.determinize(GameModel.CPU_SEAT, random);
+        engine.resumeGame();
+        engine.playGame();
+        return scratch.getWinner();
+    }
+}
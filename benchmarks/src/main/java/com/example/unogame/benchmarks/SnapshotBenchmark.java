@@ -0,0 +1,65 @@
+package com.example.unogame.benchmarks;
+
+import com.example.unogame.engine.HeadlessGameEngine;
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.model.GameModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of copying a mid-game position: encoding it into a reused byte array,
+ * restoring it into an existing model (both expected at 0 B/op), a full
+ * {@code snapshot()} to a new array, and {@code fork()} to a new model.
+ *
+ * @author
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+
+    @Param({"2", "10"})
+    public int seats;
+
+    private GameModel model;
+    private GameModel target;
+    private byte[] buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws DeckEmptyException {
+        HeadlessGameEngine engine = new HeadlessGameEngine(seats, 42L);
+        for (int i = 0; i < 10 && !engine.isFinished(); i++) {
+            engine.playTurn();
+        }
+        model = engine.getModel();
+        target = new GameModel(seats, 43L);
+        buffer = model.snapshot();
+    }
+
+    @Benchmark
+    public int snapshotInto() {
+        return model.snapshot(buffer, 0);
+    }
+
+    @Benchmark
+    public int restore() {
+        return target.restore(buffer, 0);
+    }
+
+    @Benchmark
+    public byte[] snapshot() {
+        return model.snapshot();
+    }
+
+    @Benchmark
+    public GameModel fork() {
+        return model.fork();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.unogame.benchmarks;
+
+import com.example.unogame.engine.HeadlessGameEngine;
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.model.GameModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state turn loop of the headless engine: one play or draw per operation,
+ * redealing on the same instance when a game ends.
+ * Expected allocation is 0 B/op (check gc.alloc.rate.norm), and the cost per turn
+ * should stay flat as the table grows to {@link GameModel#MAX_SEATS} seats.
+ *
+ * @author
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TurnLoopBenchmark {
+    @Param({"2", "4", "10"})
+    public int seats;
+
+    private HeadlessGameEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() throws DeckEmptyException {
+        engine = new HeadlessGameEngine(seats, 42L);
+    }
+
+    @Benchmark
+    public int turn() throws DeckEmptyException {
+        if (engine.isFinished()) {
+            engine.newGame();
+        }
+        engine.playTurn();
+        return engine.getTurns();
+    }
+}
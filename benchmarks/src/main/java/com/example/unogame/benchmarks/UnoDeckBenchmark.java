@@ -0,0 +1,63 @@
+package com.example.unogame.benchmarks;
+
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.model.UnoCard;
+import com.example.unogame.model.UnoDeck;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link UnoDeck} drawing, discard recycling and shuffling.
+ *
+ * @author
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UnoDeckBenchmark {
+    private UnoDeck deck;
+
+    @Setup(Level.Trial)
+    public void setUp() throws DeckEmptyException {
+        deck = new UnoDeck();
+        // Una carta en el descarte para que el mazo pueda reciclarse
+        deck.addToDiscardPile(deck.drawCard());
+    }
+
+    /**
+     * Draws a card and discards it straight away, so the implicit refill inside
+     * {@link UnoDeck#drawCard()} runs once every full pass through the deck.
+     */
+    @Benchmark
+    public UnoCard drawCard() throws DeckEmptyException {
+        UnoCard card = deck.drawCard();
+        deck.addToDiscardPile(card);
+        return card;
+    }
+
+    /**
+     * Moves the whole draw pile to the discard pile and refills it again.
+     * Includes the cost of drawing the cards back out (see {@link #drawCard()}).
+     */
+    @Benchmark
+    public int refillFromDiscard() throws DeckEmptyException {
+        while (deck.size() > 0) {
+            deck.addToDiscardPile(deck.drawCard());
+        }
+        deck.refillFromDiscard();
+        return deck.size();
+    }
+
+    @Benchmark
+    public int shuffle() {
+        deck.shuffle();
+        return deck.size();
+    }
+}
@@ -1,11 +1,21 @@
 package com.example.unogame;
 
+import com.example.unogame.controller.GameViewController;
+import com.example.unogame.jfr.UnoFlightRecorder;
+import com.example.unogame.view.CardAtlas;
+import com.example.unogame.view.CardImageCache;
+import com.example.unogame.view.PerformanceOverlay;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.stage.Stage;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Main JavaFX application class for the UNO Game.
@@ -17,6 +27,19 @@ import java.util.Objects;
  */
 
 public class UnoApplication extends Application {
+    private GameViewController controller;
+
+    /**
+     * Starts loading the card atlas and the deck image in the background before
+     * the stage is built, so the first hands and discards need no decoding.
+     * Also starts the flight recording requested with {@code -Duno.jfr}.
+     */
+    @Override
+    public void init() {
+        UnoFlightRecorder.startIfRequested();
+        CardAtlas.preloadAsync();
+        CompletableFuture.runAsync(CardImageCache.getInstance()::getDeck);
+    }
 
     /**
      * Initializes and shows the primary stage for the application.
@@ -30,6 +53,7 @@ public class UnoApplication extends Application {
                 getClass().getResource("/com/example/unogame/game-view.fxml")
         );
         Parent root = loader.load();
+        controller = loader.getController();
 
         Scene scene = new Scene(root, 800, 600);
 
@@ -39,11 +63,41 @@ public class UnoApplication extends Application {
                         .toExternalForm()
         );
 
+        new PerformanceOverlay(controller.getMetrics()).install(scene);
+        scene.addEventHandler(KeyEvent.KEY_PRESSED, e -> {
+            if (e.getCode() == KeyCode.F4) {
+                controller.toggleTurbo();
+            } else if (e.getCode() == KeyCode.F5) {
+                controller.toggleSpectator();
+            }
+        });
+
         stage.setTitle("UNO GAME");
         stage.setScene(scene);
         stage.show();
     }
 
+    /**
+     * Saves the game in progress so the next start resumes it, writes the
+     * performance histograms to the file named by {@code -Duno.perf}, if any,
+     * and closes the game journal.
+     */
+    @Override
+    public void stop() {
+        if (controller != null) {
+            controller.saveGame();
+            String report = System.getProperty("uno.perf");
+            if (report != null && !report.isBlank()) {
+                try {
+                    controller.getMetrics().writeReport(Paths.get(report));
+                } catch (IOException e) {
+                    System.err.println("No se pudo exportar el informe de rendimiento: " + e.getMessage());
+                }
+            }
+            controller.closeJournal();
+        }
+    }
+
     /**
      * Main entry point of the application.
      *
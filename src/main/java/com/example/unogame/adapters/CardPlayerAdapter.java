@@ -3,46 +3,113 @@ package com.example.unogame.adapters;
 import com.example.unogame.controller.interfaces.ICardPlayer;
 import com.example.unogame.exceptions.DeckEmptyException;
 import com.example.unogame.exceptions.InvalidCardPlayException;
+import com.example.unogame.jfr.CpuDecisionEvent;
 import com.example.unogame.model.UnoCard;
 import com.example.unogame.model.GameModel;
+import com.example.unogame.strategy.Decision;
+import com.example.unogame.strategy.FirstValidStrategy;
+import com.example.unogame.strategy.PositionView;
+import com.example.unogame.strategy.Strategy;
 
 /**
  * Adapter implementing ICardPlayer for user or CPU.
+ * CPU seats play the moves of a {@link Strategy}; the user's turn is driven by the UI.
  *
  * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
  */
 public class CardPlayerAdapter implements ICardPlayer {
     private final GameModel gameModel;
-    private final boolean isUser;
+    private final int seat;
+    private final Strategy strategy; // null para el usuario
+    private Decision lastDecision;
+    private boolean unoDeclared;
 
     public CardPlayerAdapter(GameModel gameModel, boolean isUser) {
+        this(gameModel, isUser ? GameModel.USER_SEAT : GameModel.CPU_SEAT,
+                isUser ? null : new FirstValidStrategy());
+    }
+
+    /**
+     * Creates a player for a seat.
+     *
+     * @param gameModel the game.
+     * @param seat      the seat it plays.
+     * @param strategy  the strategy that decides its moves, or null if the UI does.
+     */
+    public CardPlayerAdapter(GameModel gameModel, int seat, Strategy strategy) {
         this.gameModel = gameModel;
-        this.isUser = isUser;
+        this.seat = seat;
+        this.strategy = strategy;
     }
 
     @Override
     public void playTurn() throws InvalidCardPlayException, DeckEmptyException {
-        if (isUser) {
+        if (strategy == null) {
             // El turno del usuario es manejado por eventos UI
-        } else {
-            UnoCard card = gameModel.playCard(null, false);
-            // Lógica para CPU - ya implementada en playCpuTurn()
+            return;
+        }
+        unoDeclared = false;
+        CpuDecisionEvent event = new CpuDecisionEvent();
+        event.begin();
+        lastDecision = strategy.decide(PositionView.of(gameModel, seat));
+        event.finish(strategy.name(), seat, gameModel.getHand(seat).size(), lastDecision.getCode(), 0);
+        int status = lastDecision.apply(gameModel, seat);
+        if (!lastDecision.isDraw() && status < 0) {
+            throw new InvalidCardPlayException("La estrategia " + strategy.name() + " eligió una carta no válida: " + lastDecision);
+        }
+        if (lastDecision.callsUno()) {
+            declareUno();
         }
     }
 
     @Override
     public UnoCard drawCard() throws DeckEmptyException {
-        return gameModel.drawCard();
+        int code = gameModel.drawCode(seat);
+        if (code == GameModel.NO_CARD) {
+            throw new DeckEmptyException("No quedan cartas en el mazo ni en el descarte");
+        }
+        return UnoCard.of(code);
     }
 
     @Override
     public boolean canPlayCard() {
-        return isUser ? gameModel.canUserPlay() :
-                gameModel.canPlayAnyCard(gameModel.getCpuHand());
+        return gameModel.canPlayAnyCard(gameModel.getHand(seat));
     }
 
     @Override
     public void declareUno() {
-        // Implementar lógica para declarar UNO
+        unoDeclared = gameModel.getHand(seat).size() == 1;
+    }
+
+    @Override
+    public void onGameStart() {
+        if (strategy != null) {
+            strategy.onGameStart();
+        }
+    }
+
+    @Override
+    public void onMove(int seat, int code, UnoCard.Color color) {
+        if (strategy != null) {
+            strategy.onMove(seat, code, color);
+        }
+    }
+
+    /**
+     * Returns whether the player called UNO with its last card played.
+     *
+     * @return true if it holds one card and called UNO.
+     */
+    public boolean isUnoDeclared() {
+        return unoDeclared;
+    }
+
+    /**
+     * Returns the decision of the last {@link #playTurn()}.
+     *
+     * @return the decision, or null before the first CPU turn.
+     */
+    public Decision getLastDecision() {
+        return lastDecision;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,513 @@
+package com.example.unogame.ai;
+
+import com.example.unogame.engine.HeadlessGameEngine;
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.jfr.CpuDecisionEvent;
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CPU player based on single-observer Information Set Monte Carlo Tree Search.
+ *
+ * <p>Each iteration deals the cards the player cannot see at random
+ * ({@link GameModel#determinize}), walks the shared tree choosing among the
+ * moves legal in that deal with UCB1 (using availability counts, as ISMCTS
+ * requires), adds one node and finishes the game with the engine's default
+ * policy. Rival moves are part of the tree, so after every real move
+ * ({@link #observe}) the tree is re-rooted on the matching child and the
+ * statistics gathered for that line carry over to the next turn.</p>
+ *
+ * <p>Workers of a {@link ForkJoinPool} search the same tree without locks:
+ * children are linked with a compare-and-set on the parent's list head and
+ * counters are updated atomically. A visit is counted on the way down, before
+ * its result is known, which acts as a virtual loss that steers concurrent
+ * workers to different lines.</p>
+ *
+ * <p>The tree never grows past {@code maxNodes}: once full, iterations stop
+ * expanding, and before the next search the least-visited subtrees are
+ * evicted until the tree is back to half the cap.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public class IsmctsPlayer {
+    public static final int DEFAULT_MAX_NODES = 500_000;
+
+    private static final double EXPLORATION = 0.7;
+    private static final int MAX_DEPTH = 512;
+
+    // Acciones: 0-51 cartas de color, 52-55 comodín por color, 56-59 +4 por color, 60 robar
+    private static final int DRAW_ACTION = 60;
+    private static final int ACTION_COUNT = 61;
+    private static final UnoCard.Color[] WILD_COLORS = {
+            UnoCard.Color.RED, UnoCard.Color.BLUE, UnoCard.Color.GREEN, UnoCard.Color.YELLOW
+    };
+
+    private final ForkJoinPool pool;
+    private final long budgetNanos;
+    private final int maxNodes;
+    private final SplittableRandom seeds;
+    private final AtomicInteger nodeCount = new AtomicInteger();
+    private Node root;
+    private volatile long lastIterations;
+    private volatile long lastNanos;
+    private volatile int lastReusedNodes;
+
+    /**
+     * Creates a player that searches on the common ForkJoin pool.
+     *
+     * @param budgetMillis the thinking time per move, in milliseconds.
+     */
+    public IsmctsPlayer(long budgetMillis) {
+        this(ForkJoinPool.commonPool(), budgetMillis, DEFAULT_MAX_NODES, System.nanoTime());
+    }
+
+    /**
+     * Creates a player that searches on the given pool.
+     *
+     * @param pool         the pool running the workers; its parallelism sets the worker count.
+     * @param budgetMillis the thinking time per move, in milliseconds.
+     * @param maxNodes     the maximum number of tree nodes kept in memory.
+     * @param seed         the seed of the search randomness.
+     */
+    public IsmctsPlayer(ForkJoinPool pool, long budgetMillis, int maxNodes, long seed) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("El tiempo de búsqueda debe ser positivo: " + budgetMillis);
+        }
+        if (maxNodes < 2) {
+            throw new IllegalArgumentException("El árbol necesita al menos dos nodos: " + maxNodes);
+        }
+        this.pool = pool;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.maxNodes = maxNodes;
+        this.seeds = new SplittableRandom(seed);
+        reset();
+    }
+
+    /**
+     * Discards the tree, e.g. when a new game starts.
+     */
+    public synchronized void reset() {
+        root = new Node(-1);
+        nodeCount.set(1);
+    }
+
+    /**
+     * Moves the root to the child for a move that was really played, keeping its
+     * subtree. Must be called for every move of every seat, the search player's
+     * own included; if the move was never explored the tree starts over.
+     *
+     * @param seat the seat that moved.
+     * @param move the move it made; {@link Move#DRAW} if it drew, whatever happened next.
+     */
+    public synchronized void observe(int seat, Move move) {
+        int key = key(seat, action(move.getCode(), move.getColor()));
+        Node child = root.find(key);
+        if (child == null) {
+            reset();
+            return;
+        }
+        root = child;
+        nodeCount.set(child.countSubtree());
+    }
+
+    /**
+     * Chooses a move for the given seat, continuing the search of earlier turns.
+     *
+     * @param model the real game; it is only read.
+     * @param seat  the seat to play.
+     * @return the chosen move, or {@link Move#DRAW} if no card can be played.
+     */
+    public synchronized Move chooseMove(GameModel model, int seat) {
+        CpuDecisionEvent event = new CpuDecisionEvent();
+        event.begin();
+        Move[] candidates = MonteCarloPlayer.candidates(model, seat);
+        if (candidates.length <= 1) {
+            Move only = candidates.length == 0 ? Move.DRAW : candidates[0];
+            event.finish("ismcts", seat, model.getHand(seat).size(), only.getCode(), 0);
+            return only;
+        }
+
+        lastReusedNodes = nodeCount.get() - 1;
+        if (nodeCount.get() > maxNodes / 2) {
+            evict();
+        }
+
+        long start = System.nanoTime();
+        int workers = Math.max(1, pool.getParallelism());
+        long[] workerSeeds = new long[workers];
+        for (int i = 0; i < workers; i++) {
+            workerSeeds[i] = seeds.nextLong();
+        }
+        long iterations = pool.invoke(new Search(this, model, seat, start + budgetNanos, workerSeeds));
+        lastIterations = iterations;
+        lastNanos = System.nanoTime() - start;
+
+        // La jugada más visitada entre las legales en la posición real
+        Move best = candidates[0];
+        int bestVisits = -1;
+        for (Move candidate : candidates) {
+            Node child = root.find(key(seat, action(candidate.getCode(), candidate.getColor())));
+            int visits = child == null ? 0 : child.visits;
+            if (visits > bestVisits) {
+                bestVisits = visits;
+                best = candidate;
+            }
+        }
+        event.finish("ismcts", seat, model.getHand(seat).size(), best.getCode(), iterations);
+        return best;
+    }
+
+    /**
+     * Removes the least-visited subtrees until the tree holds at most half the cap.
+     * Runs between searches, so no worker is touching the tree.
+     */
+    private void evict() {
+        int threshold = 1;
+        while (nodeCount.get() > maxNodes / 2) {
+            nodeCount.set(root.prune(threshold) + 1);
+            threshold <<= 1;
+        }
+    }
+
+    public int getNodeCount() {
+        return nodeCount.get();
+    }
+
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    /** Iterations of the last {@link #chooseMove} call. */
+    public long getLastIterations() {
+        return lastIterations;
+    }
+
+    /**
+     * Returns the iteration rate of the last search.
+     *
+     * @return iterations per second.
+     */
+    public double getLastIterationsPerSecond() {
+        long nanos = lastNanos;
+        return nanos == 0 ? 0 : lastIterations * 1_000_000_000.0 / nanos;
+    }
+
+    /** Nodes inherited from earlier turns at the start of the last search. */
+    public int getLastReusedNodes() {
+        return lastReusedNodes;
+    }
+
+    static int action(int code, UnoCard.Color color) {
+        if (code == GameModel.NO_CARD) return DRAW_ACTION;
+        if (code < UnoCard.WILD_CODE) return code;
+        int base = code == UnoCard.WILD_CODE ? UnoCard.WILD_CODE : UnoCard.WILD_CODE + WILD_COLORS.length;
+        return base + (color == null ? 0 : color.ordinal());
+    }
+
+    private static int key(int seat, int action) {
+        return seat * ACTION_COUNT + action;
+    }
+
+    /**
+     * Tree node: the move that leads to it (mover seat and action) and its statistics.
+     * Children form a singly linked list whose head is replaced with a CAS.
+     */
+    static final class Node {
+        private static final VarHandle FIRST_CHILD;
+        private static final VarHandle VISITS;
+        private static final VarHandle WINS;
+        private static final VarHandle AVAILABILITY;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                FIRST_CHILD = lookup.findVarHandle(Node.class, "firstChild", Node.class);
+                VISITS = lookup.findVarHandle(Node.class, "visits", int.class);
+                WINS = lookup.findVarHandle(Node.class, "wins", int.class);
+                AVAILABILITY = lookup.findVarHandle(Node.class, "availability", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        final int key;
+        volatile Node firstChild;
+        Node nextSibling;
+        volatile int visits;
+        volatile int wins;
+        volatile int availability;
+
+        Node(int key) {
+            this.key = key;
+        }
+
+        int seat() {
+            return key / ACTION_COUNT;
+        }
+
+        Node find(int key) {
+            for (Node child = firstChild; child != null; child = child.nextSibling) {
+                if (child.key == key) return child;
+            }
+            return null;
+        }
+
+        /**
+         * Returns the child for a key, adding it if missing.
+         *
+         * @return the child, or null if the tree is full.
+         */
+        Node findOrAdd(int key, AtomicInteger nodeCount, int maxNodes) {
+            while (true) {
+                Node head = firstChild;
+                for (Node child = head; child != null; child = child.nextSibling) {
+                    if (child.key == key) return child;
+                }
+                if (nodeCount.get() >= maxNodes) {
+                    return null;
+                }
+                Node node = new Node(key);
+                node.nextSibling = head;
+                if (FIRST_CHILD.compareAndSet(this, head, node)) {
+                    nodeCount.incrementAndGet();
+                    return node;
+                }
+                // Otro hilo añadió un hijo: volver a buscar antes de reintentar
+            }
+        }
+
+        void addVisit() {
+            VISITS.getAndAdd(this, 1);
+        }
+
+        void addWin() {
+            WINS.getAndAdd(this, 1);
+        }
+
+        void addAvailability() {
+            AVAILABILITY.getAndAdd(this, 1);
+        }
+
+        int countSubtree() {
+            int count = 1;
+            for (Node child = firstChild; child != null; child = child.nextSibling) {
+                count += child.countSubtree();
+            }
+            return count;
+        }
+
+        /**
+         * Unlinks every descendant subtree whose visit count is below the threshold.
+         *
+         * @return the number of descendants kept.
+         */
+        int prune(int threshold) {
+            int kept = 0;
+            Node previous = null;
+            for (Node child = firstChild; child != null; child = child.nextSibling) {
+                if (child.visits < threshold) {
+                    if (previous == null) {
+                        firstChild = child.nextSibling;
+                    } else {
+                        previous.nextSibling = child.nextSibling;
+                    }
+                } else {
+                    kept += 1 + child.prune(threshold);
+                    previous = child;
+                }
+            }
+            return kept;
+        }
+    }
+
+    /**
+     * Root task: forks one worker per seed and adds up their iteration counts.
+     */
+    private static final class Search extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final IsmctsPlayer player;
+        private final GameModel model;
+        private final int seat;
+        private final long deadline;
+        private final long[] workerSeeds;
+
+        Search(IsmctsPlayer player, GameModel model, int seat, long deadline, long[] workerSeeds) {
+            this.player = player;
+            this.model = model;
+            this.seat = seat;
+            this.deadline = deadline;
+            this.workerSeeds = workerSeeds;
+        }
+
+        @Override
+        protected Long compute() {
+            Worker[] workers = new Worker[workerSeeds.length];
+            for (int i = 1; i < workers.length; i++) {
+                workers[i] = new Worker(player, model, seat, deadline, workerSeeds[i]);
+                workers[i].fork();
+            }
+            workers[0] = new Worker(player, model, seat, deadline, workerSeeds[0]);
+            long total = workers[0].compute();
+            for (int i = 1; i < workers.length; i++) {
+                total += workers[i].join();
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Runs ISMCTS iterations on the shared tree until the deadline.
+     */
+    private static final class Worker extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final IsmctsPlayer player;
+        private final GameModel model;
+        private final int seat;
+        private final long deadline;
+        private final long seed;
+
+        Worker(IsmctsPlayer player, GameModel model, int seat, long deadline, long seed) {
+            this.player = player;
+            this.model = model;
+            this.seat = seat;
+            this.deadline = deadline;
+            this.seed = seed;
+        }
+
+        @Override
+        protected Long compute() {
+            SplittableRandom random = new SplittableRandom(seed);
+            GameModel scratch;
+            try {
+                scratch = new GameModel(model.getSeatCount(), seed);
+            } catch (DeckEmptyException e) {
+                // Un mazo completo siempre alcanza para repartir
+                throw new IllegalStateException(e);
+            }
+            HeadlessGameEngine engine = new HeadlessGameEngine(scratch);
+            Node[] path = new Node[MAX_DEPTH];
+            int[] actions = new int[ACTION_COUNT];
+            Node root = player.root;
+
+            long iterations = 0;
+            do {
+                scratch.copyFrom(model);
+                scratch.determinize(seat, random);
+                int depth = select(root, scratch, random, path, actions);
+
+                engine.resumeGame();
+                engine.playGame();
+
+                int winner = scratch.getWinner();
+                for (int i = 0; i < depth; i++) {
+                    if (path[i].seat() == winner) {
+                        path[i].addWin();
+                    }
+                }
+                iterations++;
+            } while (System.nanoTime() < deadline);
+            return iterations;
+        }
+
+        /**
+         * Walks down the tree applying moves to the determinized game, and adds
+         * at most one node.
+         *
+         * @return the number of nodes on the path, root excluded.
+         */
+        private int select(Node root, GameModel game, SplittableRandom random, Node[] path, int[] actions) {
+            Node node = root;
+            int depth = 0;
+            while (!game.isGameOver() && depth < MAX_DEPTH) {
+                int mover = game.getCurrentSeat();
+                int count = legalActions(game, mover, actions);
+
+                // UCB1 con disponibilidad entre los hijos legales en esta determinización
+                Node best = null;
+                double bestScore = Double.NEGATIVE_INFINITY;
+                int unexplored = 0;
+                for (int i = 0; i < count; i++) {
+                    Node child = node.find(key(mover, actions[i]));
+                    if (child == null) {
+                        actions[unexplored++] = actions[i];
+                        continue;
+                    }
+                    child.addAvailability();
+                    int visits = Math.max(child.visits, 1);
+                    double score = (double) child.wins / visits
+                            + EXPLORATION * Math.sqrt(Math.log(Math.max(child.availability, 1)) / visits);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        best = child;
+                    }
+                }
+
+                if (unexplored > 0) {
+                    int action = actions[random.nextInt(unexplored)];
+                    Node added = node.findOrAdd(key(mover, action), player.nodeCount, player.maxNodes);
+                    if (added != null) {
+                        added.addAvailability();
+                        added.addVisit();
+                        path[depth++] = added;
+                        apply(game, mover, action);
+                        return depth;
+                    }
+                }
+                if (best == null) {
+                    return depth;
+                }
+
+                // La visita se cuenta antes del resultado (pérdida virtual)
+                best.addVisit();
+                path[depth++] = best;
+                apply(game, mover, best.key % ACTION_COUNT);
+                node = best;
+            }
+            return depth;
+        }
+
+        private static int legalActions(GameModel game, int mover, int[] actions) {
+            long mask = game.getHand(mover).playableMask(game.getCurrentColor(), game.getTopDiscard().getValue());
+            if (mask == 0) {
+                actions[0] = DRAW_ACTION;
+                return 1;
+            }
+            int n = 0;
+            for (long m = mask; m != 0; m &= m - 1) {
+                int code = Long.numberOfTrailingZeros(m);
+                if (code < UnoCard.WILD_CODE) {
+                    actions[n++] = code;
+                } else {
+                    for (UnoCard.Color color : WILD_COLORS) {
+                        actions[n++] = action(code, color);
+                    }
+                }
+            }
+            return n;
+        }
+
+        private static void apply(GameModel game, int mover, int action) {
+            if (action == DRAW_ACTION) {
+                Move.apply(game, mover, GameModel.NO_CARD, null);
+            } else if (action < UnoCard.WILD_CODE) {
+                Move.apply(game, mover, action, null);
+            } else {
+                int offset = action - UnoCard.WILD_CODE;
+                int code = offset < WILD_COLORS.length ? UnoCard.WILD_CODE : UnoCard.WILD_DRAW_FOUR_CODE;
+                Move.apply(game, mover, code, WILD_COLORS[offset % WILD_COLORS.length]);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.unogame.ai;
+
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command-line tool that plays the {@link IsmctsPlayer} in the CPU seat against
+ * the default "first valid card" rule in every other seat, and reports its win
+ * rate, iterations per second, tree size and how many nodes were reused.
+ *
+ * <p>Usage: {@code java -cp target/classes com.example.unogame.ai.IsmctsRunner [budgetMs] [games] [seats] [maxNodes]}</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public class IsmctsRunner {
+
+    /**
+     * Runs the games.
+     *
+     * @param args optional search budget, number of games, seats and node cap.
+     * @throws DeckEmptyException if a game cannot be dealt.
+     */
+    public static void main(String[] args) throws DeckEmptyException {
+        long budget = args.length > 0 ? Long.parseLong(args[0]) : 50;
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int seats = args.length > 2 ? Integer.parseInt(args[2]) : GameModel.MIN_SEATS;
+        int maxNodes = args.length > 3 ? Integer.parseInt(args[3]) : IsmctsPlayer.DEFAULT_MAX_NODES;
+
+        IsmctsPlayer player = new IsmctsPlayer(ForkJoinPool.commonPool(), budget, maxNodes, 42L);
+        GameModel model = new GameModel(seats, 0L);
+        int wins = 0;
+        long decisions = 0;
+        long iterations = 0;
+        long reused = 0;
+        double iterationsPerSecond = 0;
+        int maxTree = 0;
+
+        for (int g = 0; g < games; g++) {
+            model.reset(g);
+            player.reset();
+            int moves = 0;
+            while (!model.isGameOver() && moves++ < 10_000) {
+                int seat = model.getCurrentSeat();
+                Move move;
+                if (seat == GameModel.CPU_SEAT) {
+                    move = player.chooseMove(model, seat);
+                    if (player.getLastIterations() > 0) {
+                        decisions++;
+                        iterations += player.getLastIterations();
+                        iterationsPerSecond += player.getLastIterationsPerSecond();
+                        reused += player.getLastReusedNodes();
+                        maxTree = Math.max(maxTree, player.getNodeCount());
+                    }
+                    move.apply(model, seat);
+                } else {
+                    move = playDefault(model, seat);
+                }
+                player.observe(seat, move);
+            }
+            if (model.getWinner() == GameModel.CPU_SEAT) wins++;
+        }
+
+        System.out.printf("CPU ISMCTS (asiento %d): %d/%d victorias (%.1f%%, sin búsqueda se espera %.1f%%)%n",
+                GameModel.CPU_SEAT, wins, games, 100.0 * wins / games, 100.0 / seats);
+        if (decisions > 0) {
+            System.out.printf("Iteraciones: %,.0f por jugada, %,.0f/s con %d hilos%n",
+                    (double) iterations / decisions, iterationsPerSecond / decisions,
+                    ForkJoinPool.commonPool().getParallelism());
+            System.out.printf("Nodos reutilizados: %,.0f por jugada; árbol máximo %,d de %,d%n",
+                    (double) reused / decisions, maxTree, maxNodes);
+        }
+    }
+
+    /**
+     * Plays the engine's default rule for a seat and returns the move as the
+     * search player should observe it.
+     */
+    private static Move playDefault(GameModel model, int seat) {
+        int code = model.findPlayableCode(seat);
+        if (code == GameModel.NO_CARD) {
+            Move.DRAW.apply(model, seat);
+            return Move.DRAW;
+        }
+        Move.play(code, null).apply(model, seat);
+        if (code >= UnoCard.WILD_CODE) {
+            if (seat == GameModel.USER_SEAT) {
+                model.setWildColor(model.chooseBestColor(model.getHand(seat)));
+            }
+            return Move.play(code, model.getCurrentColor());
+        }
+        return Move.play(code, null);
+    }
+}
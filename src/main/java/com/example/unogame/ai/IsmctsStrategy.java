@@ -0,0 +1,78 @@
+package com.example.unogame.ai;
+
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+import com.example.unogame.strategy.Decision;
+import com.example.unogame.strategy.PositionView;
+import com.example.unogame.strategy.Strategy;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The {@link IsmctsPlayer} as a {@link Strategy} named {@code ismcts}, chosen with
+ * {@code -Duno.cpu=ismcts:<ms>}. The moves reported through {@link #onMove} are
+ * passed on to {@link IsmctsPlayer#observe}, so each search continues the tree of
+ * the earlier ones. If no move was reported since its last decision, the driver
+ * does not report them (e.g. a {@link com.example.unogame.strategy.BatchGameRunner}
+ * sharing the strategy between tables) and the search starts from an empty tree.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class IsmctsStrategy implements Strategy {
+    private long budgetMillis = MonteCarloPlayer.DEFAULT_BUDGET_MILLIS;
+    private long seed = System.nanoTime();
+    private IsmctsPlayer player;
+    private boolean decided;  // Ya decidió alguna jugada en esta partida
+    private boolean observed; // Se informó de alguna jugada desde su última decisión
+
+    @Override
+    public String name() {
+        return "ismcts";
+    }
+
+    @Override
+    public Decision decide(PositionView position) {
+        if (player == null) {
+            player = new IsmctsPlayer(ForkJoinPool.commonPool(), budgetMillis, IsmctsPlayer.DEFAULT_MAX_NODES, seed);
+        } else if (decided && !observed) {
+            // Nadie informa de las jugadas: el árbol ya no corresponde a la partida
+            player.reset();
+        }
+        decided = true;
+        observed = false;
+        if (position.getPlayableMask() == 0) return Decision.DRAW;
+        GameModel model = MonteCarloStrategy.toModel(position);
+        return MonteCarloStrategy.toDecision(position, player.chooseMove(model, position.getSeat()));
+    }
+
+    @Override
+    public void onGameStart() {
+        if (player != null) {
+            player.reset();
+        }
+        decided = false;
+        observed = false;
+    }
+
+    @Override
+    public void onMove(int seat, int code, UnoCard.Color color) {
+        if (player != null) {
+            player.observe(seat, code == GameModel.NO_CARD ? Move.DRAW : Move.play(code, color));
+        }
+        observed = true;
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        this.seed = seed;
+        player = null;
+    }
+
+    @Override
+    public void configure(String argument) {
+        budgetMillis = MonteCarloStrategy.parseBudget(argument);
+        player = null;
+    }
+}
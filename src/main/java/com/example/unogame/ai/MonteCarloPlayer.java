@@ -0,0 +1,289 @@
+package com.example.unogame.ai;
+
+import com.example.unogame.engine.HeadlessGameEngine;
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.jfr.CpuDecisionEvent;
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.Hand;
+import com.example.unogame.model.UnoCard;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CPU player that picks its move with flat Monte Carlo search.
+ *
+ * <p>Every legal move (each playable card, and each of the four colors for wild
+ * cards) is evaluated by random playouts: the position is copied, the cards the
+ * player cannot see are dealt at random into the rival hands and the draw pile
+ * ({@link GameModel#determinize}), the move is applied and the game is played to
+ * the end with the fast "first valid card" policy of {@link HeadlessGameEngine}.
+ * Playouts run on a {@link ForkJoinPool}, one worker per pool thread, until the
+ * time budget expires; the move with the best win rate is chosen.</p>
+ *
+ * <p>Instances are thread-safe: each search uses its own scratch models.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public class MonteCarloPlayer {
+    public static final long DEFAULT_BUDGET_MILLIS = 200;
+
+    private static final UnoCard.Color[] WILD_COLORS = {
+            UnoCard.Color.RED, UnoCard.Color.BLUE, UnoCard.Color.GREEN, UnoCard.Color.YELLOW
+    };
+
+    private final ForkJoinPool pool;
+    private final long budgetNanos;
+    private final SplittableRandom seeds;
+    private final LongAdder totalRollouts = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private volatile long lastRollouts;
+    private volatile long lastNanos;
+
+    /**
+     * Creates a player that searches on the common ForkJoin pool.
+     *
+     * @param budgetMillis the thinking time per move, in milliseconds.
+     */
+    public MonteCarloPlayer(long budgetMillis) {
+        this(ForkJoinPool.commonPool(), budgetMillis, System.nanoTime());
+    }
+
+    /**
+     * Creates a player that searches on the given pool.
+     *
+     * @param pool         the pool running the playouts; its parallelism sets the worker count.
+     * @param budgetMillis the thinking time per move, in milliseconds.
+     * @param seed         the seed of the playout randomness.
+     */
+    public MonteCarloPlayer(ForkJoinPool pool, long budgetMillis, long seed) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("El tiempo de búsqueda debe ser positivo: " + budgetMillis);
+        }
+        this.pool = pool;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.seeds = new SplittableRandom(seed);
+    }
+
+    /**
+     * Chooses the move for the seat whose turn it is.
+     *
+     * @param model the real game; it is only read.
+     * @return the chosen move, or {@link Move#DRAW} if no card can be played.
+     */
+    public Move chooseMove(GameModel model) {
+        return chooseMove(model, model.getCurrentSeat());
+    }
+
+    /**
+     * Chooses a move for the given seat.
+     *
+     * @param model the real game; it is only read.
+     * @param seat  the seat to play.
+     * @return the chosen move, or {@link Move#DRAW} if no card can be played.
+     */
+    public Move chooseMove(GameModel model, int seat) {
+        CpuDecisionEvent event = new CpuDecisionEvent();
+        event.begin();
+        Move[] candidates = candidates(model, seat);
+        if (candidates.length <= 1) {
+            Move only = candidates.length == 0 ? Move.DRAW : candidates[0];
+            event.finish("mc", seat, model.getHand(seat).size(), only.getCode(), 0);
+            return only;
+        }
+
+        long start = System.nanoTime();
+        int workers = Math.max(1, pool.getParallelism());
+        long[] seedsForWorkers = new long[workers];
+        synchronized (seeds) {
+            for (int i = 0; i < workers; i++) {
+                seedsForWorkers[i] = seeds.nextLong();
+            }
+        }
+        long[] wins = pool.invoke(new Search(model, seat, candidates, start + budgetNanos, seedsForWorkers));
+
+        // Las posiciones pares guardan victorias y las impares partidas jugadas
+        int best = 0;
+        double bestRate = -1;
+        long rollouts = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            long played = wins[2 * i + 1];
+            rollouts += played;
+            double rate = played == 0 ? 0 : (double) wins[2 * i] / played;
+            if (rate > bestRate) {
+                bestRate = rate;
+                best = i;
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        lastRollouts = rollouts;
+        lastNanos = elapsed;
+        totalRollouts.add(rollouts);
+        totalNanos.add(elapsed);
+        event.finish("mc", seat, model.getHand(seat).size(), candidates[best].getCode(), rollouts);
+        return candidates[best];
+    }
+
+    /**
+     * Lists the legal moves of a seat: one per distinct playable card, and one
+     * per color for wild cards.
+     */
+    static Move[] candidates(GameModel model, int seat) {
+        if (model.isGameOver()) {
+            return new Move[0];
+        }
+        Hand hand = model.getHand(seat);
+        long mask = hand.playableMask(model.getCurrentColor(), model.getTopDiscard().getValue());
+        int count = 0;
+        for (long m = mask; m != 0; m &= m - 1) {
+            count += Long.numberOfTrailingZeros(m) >= UnoCard.WILD_CODE ? WILD_COLORS.length : 1;
+        }
+
+        Move[] moves = new Move[count];
+        int n = 0;
+        for (long m = mask; m != 0; m &= m - 1) {
+            int code = Long.numberOfTrailingZeros(m);
+            if (code >= UnoCard.WILD_CODE) {
+                for (UnoCard.Color color : WILD_COLORS) {
+                    moves[n++] = Move.play(code, color);
+                }
+            } else {
+                moves[n++] = Move.play(code, null);
+            }
+        }
+        return moves;
+    }
+
+    /** Playouts of the last {@link #chooseMove} call. */
+    public long getLastRollouts() {
+        return lastRollouts;
+    }
+
+    /**
+     * Returns the playout rate of the last search.
+     *
+     * @return playouts per second.
+     */
+    public double getLastRolloutsPerSecond() {
+        long nanos = lastNanos;
+        return nanos == 0 ? 0 : lastRollouts * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * Returns the playout rate over every search of this player.
+     *
+     * @return playouts per second.
+     */
+    public double getRolloutsPerSecond() {
+        long nanos = totalNanos.sum();
+        return nanos == 0 ? 0 : totalRollouts.sum() * 1_000_000_000.0 / nanos;
+    }
+
+    public long getTotalRollouts() {
+        return totalRollouts.sum();
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Root task: forks one playout worker per seed and adds up their results.
+     */
+    private static final class Search extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final GameModel root;
+        private final int seat;
+        private final Move[] candidates;
+        private final long deadline;
+        private final long[] workerSeeds;
+
+        Search(GameModel root, int seat, Move[] candidates, long deadline, long[] workerSeeds) {
+            this.root = root;
+            this.seat = seat;
+            this.candidates = candidates;
+            this.deadline = deadline;
+            this.workerSeeds = workerSeeds;
+        }
+
+        @Override
+        protected long[] compute() {
+            Worker[] workers = new Worker[workerSeeds.length];
+            for (int i = 1; i < workers.length; i++) {
+                workers[i] = new Worker(root, seat, candidates, deadline, workerSeeds[i], i);
+                workers[i].fork();
+            }
+            workers[0] = new Worker(root, seat, candidates, deadline, workerSeeds[0], 0);
+            long[] total = workers[0].compute();
+            for (int i = 1; i < workers.length; i++) {
+                long[] partial = workers[i].join();
+                for (int k = 0; k < total.length; k++) {
+                    total[k] += partial[k];
+                }
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Runs playouts on its own copy of the position until the deadline,
+     * cycling through the candidate moves so each gets the same share.
+     */
+    private static final class Worker extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final GameModel root;
+        private final int seat;
+        private final Move[] candidates;
+        private final long deadline;
+        private final long seed;
+        private final int firstCandidate;
+
+        Worker(GameModel root, int seat, Move[] candidates, long deadline, long seed, int firstCandidate) {
+            this.root = root;
+            this.seat = seat;
+            this.candidates = candidates;
+            this.deadline = deadline;
+            this.seed = seed;
+            this.firstCandidate = firstCandidate;
+        }
+
+        @Override
+        protected long[] compute() {
+            long[] results = new long[candidates.length * 2];
+            SplittableRandom random = new SplittableRandom(seed);
+            GameModel scratch;
+            try {
+                scratch = new GameModel(root.getSeatCount(), seed);
+            } catch (DeckEmptyException e) {
+                // Un mazo completo siempre alcanza para repartir
+                throw new IllegalStateException(e);
+            }
+            HeadlessGameEngine engine = new HeadlessGameEngine(scratch);
+
+            int next = firstCandidate % candidates.length;
+            // Siempre al menos una partida por trabajador, aunque el plazo ya haya pasado
+            do {
+                scratch.copyFrom(root);
+                scratch.determinize(seat, random);
+                candidates[next].apply(scratch, seat);
+                engine.resumeGame();
+                engine.playGame();
+
+                if (scratch.getWinner() == seat) {
+                    results[2 * next]++;
+                }
+                results[2 * next + 1]++;
+                next = next + 1 == candidates.length ? 0 : next + 1;
+            } while (System.nanoTime() < deadline);
+            return results;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.unogame.ai;
+
+import com.example.unogame.engine.HeadlessGameEngine;
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.model.GameModel;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command-line tool that measures the {@link MonteCarloPlayer}: playouts per
+ * second for pools of 1, 2, 4, ... threads up to the core count, and the win
+ * rate of the Monte Carlo CPU against the default "first valid card" player.
+ *
+ * <p>Usage: {@code java -cp target/classes com.example.unogame.ai.MonteCarloRunner [budgetMs] [games] [seats]}</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public class MonteCarloRunner {
+    private static final int SCALING_DECISIONS = 20;
+
+    /**
+     * Runs the measurements.
+     *
+     * @param args optional search budget, number of games and seats.
+     * @throws DeckEmptyException if a game cannot be dealt.
+     */
+    public static void main(String[] args) throws DeckEmptyException {
+        long budget = args.length > 0 ? Long.parseLong(args[0]) : 50;
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int seats = args.length > 2 ? Integer.parseInt(args[2]) : GameModel.MIN_SEATS;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        // Calentamiento para que el JIT compile las simulaciones antes de medir
+        measureRollouts(new MonteCarloPlayer(ForkJoinPool.commonPool(), budget, 1L), seats);
+
+        System.out.printf("Escalado (%d ms por jugada, %d asientos)%n", budget, seats);
+        double single = 0;
+        for (int threads = 1; threads <= cores; threads = threads < cores ? Math.min(threads * 2, cores) : cores + 1) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            double rate = measureRollouts(new MonteCarloPlayer(pool, budget, 42L), seats);
+            pool.shutdown();
+            if (threads == 1) single = rate;
+            System.out.printf("  %2d hilos: %,.0f partidas simuladas/s (x%.2f)%n", threads, rate, rate / single);
+        }
+
+        MonteCarloPlayer player = new MonteCarloPlayer(budget);
+        HeadlessGameEngine engine = new HeadlessGameEngine(seats, 7L);
+        GameModel model = engine.getModel();
+        int wins = 0;
+        for (int g = 0; g < games; g++) {
+            engine.newGame(g);
+            playWithSearch(engine, player, GameModel.CPU_SEAT);
+            if (model.getWinner() == GameModel.CPU_SEAT) wins++;
+        }
+        System.out.printf("CPU Monte Carlo (asiento %d): %d/%d victorias (%.1f%%, sin búsqueda se espera %.1f%%)%n",
+                GameModel.CPU_SEAT, wins, games, 100.0 * wins / games, 100.0 / seats);
+        System.out.printf("Media: %,.0f partidas simuladas/s con %d hilos%n",
+                player.getRolloutsPerSecond(), player.getParallelism());
+    }
+
+    private static double measureRollouts(MonteCarloPlayer player, int seats) throws DeckEmptyException {
+        HeadlessGameEngine engine = new HeadlessGameEngine(seats, 1L);
+        int decisions = 0;
+        long game = 0;
+        while (decisions < SCALING_DECISIONS) {
+            engine.newGame(game++);
+            GameModel model = engine.getModel();
+            // Buscar una posición con varias jugadas posibles para la CPU
+            while (!engine.isFinished() && decisions < SCALING_DECISIONS) {
+                if (model.getCurrentSeat() == GameModel.CPU_SEAT
+                        && MonteCarloPlayer.candidates(model, GameModel.CPU_SEAT).length > 1) {
+                    player.chooseMove(model).apply(model, GameModel.CPU_SEAT);
+                    decisions++;
+                } else {
+                    engine.playTurn();
+                }
+            }
+        }
+        return player.getRolloutsPerSecond();
+    }
+
+    /**
+     * Plays one game where the given seat moves with the search player and the
+     * other seats with the engine's default rules.
+     */
+    private static void playWithSearch(HeadlessGameEngine engine, MonteCarloPlayer player, int searchSeat) {
+        GameModel model = engine.getModel();
+        int moves = 0;
+        while (!engine.isFinished() && moves < HeadlessGameEngine.MAX_TURNS) {
+            if (model.getCurrentSeat() == searchSeat) {
+                player.chooseMove(model, searchSeat).apply(model, searchSeat);
+                moves++;
+            } else {
+                engine.playTurn();
+            }
+        }
+    }
+}
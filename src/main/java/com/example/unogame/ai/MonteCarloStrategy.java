@@ -0,0 +1,101 @@
+package com.example.unogame.ai;
+
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+import com.example.unogame.strategy.Decision;
+import com.example.unogame.strategy.PositionView;
+import com.example.unogame.strategy.Strategy;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The {@link MonteCarloPlayer} as a {@link Strategy} named {@code mc}, so the CPU
+ * can be chosen with {@code -Duno.cpu=mc:<ms>}; without an argument it thinks
+ * {@link MonteCarloPlayer#DEFAULT_BUDGET_MILLIS} per move. The search runs on a
+ * model rebuilt from the position view ({@link GameModel#fromSeatView}), which
+ * the player determinizes on every playout anyway.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class MonteCarloStrategy implements Strategy {
+    private long budgetMillis = MonteCarloPlayer.DEFAULT_BUDGET_MILLIS;
+    private long seed = System.nanoTime();
+    private MonteCarloPlayer player;
+
+    @Override
+    public String name() {
+        return "mc";
+    }
+
+    @Override
+    public Decision decide(PositionView position) {
+        if (position.getPlayableMask() == 0) return Decision.DRAW;
+        if (player == null) {
+            player = new MonteCarloPlayer(ForkJoinPool.commonPool(), budgetMillis, seed);
+        }
+        return toDecision(position, player.chooseMove(toModel(position), position.getSeat()));
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        this.seed = seed;
+        player = null;
+    }
+
+    @Override
+    public void configure(String argument) {
+        budgetMillis = parseBudget(argument);
+        player = null;
+    }
+
+    /**
+     * Parses a thinking time in milliseconds.
+     *
+     * @param argument the text after the strategy name.
+     * @return the budget.
+     * @throws IllegalArgumentException if it is not a positive number.
+     */
+    static long parseBudget(String argument) {
+        long budget = Long.parseLong(argument.trim());
+        if (budget <= 0) {
+            throw new IllegalArgumentException("El tiempo de búsqueda debe ser positivo: " + argument);
+        }
+        return budget;
+    }
+
+    /**
+     * Rebuilds a game from what the deciding seat sees; the cards it cannot see
+     * are dealt arbitrarily and must be determinized before searching.
+     *
+     * @param position the position.
+     * @return a new model, with the deciding seat to move.
+     */
+    static GameModel toModel(PositionView position) {
+        byte[] hand = new byte[UnoCard.FACE_COUNT];
+        byte[] discards = new byte[UnoCard.FACE_COUNT];
+        for (int code = 0; code < UnoCard.FACE_COUNT; code++) {
+            hand[code] = (byte) position.count(code);
+            discards[code] = (byte) position.discardCount(code);
+        }
+        int[] handSizes = new int[position.getSeatCount()];
+        for (int i = 0; i < handSizes.length; i++) {
+            handSizes[i] = position.getHandSize(i);
+        }
+        return GameModel.fromSeatView(position.getSeat(), position.getDirection(), position.getTopDiscard(),
+                position.getColor(), hand, handSizes, discards);
+    }
+
+    /**
+     * Turns a search move into a decision, calling UNO when it leaves one card.
+     *
+     * @param position the position the move was chosen in.
+     * @param move     the move.
+     * @return the decision.
+     */
+    static Decision toDecision(PositionView position, Move move) {
+        if (move.isDraw()) return Decision.DRAW;
+        return Decision.play(move.getCode(), move.getColor(), position.getHandSize() == 2);
+    }
+}
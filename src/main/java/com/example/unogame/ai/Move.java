@@ -0,0 +1,108 @@
+package com.example.unogame.ai;
+
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+
+/**
+ * A move chosen by a search player: play a card (with a color for wild cards)
+ * or draw from the deck.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class Move {
+    /** Draw a card instead of playing. */
+    public static final Move DRAW = new Move(GameModel.NO_CARD, null);
+
+    private final int code;
+    private final UnoCard.Color color;
+
+    private Move(int code, UnoCard.Color color) {
+        this.code = code;
+        this.color = color;
+    }
+
+    /**
+     * Returns the move that plays a card.
+     *
+     * @param code  the card code.
+     * @param color the color to choose for a wild card, or null for colored cards.
+     * @return the move.
+     */
+    public static Move play(int code, UnoCard.Color color) {
+        return new Move(code, color);
+    }
+
+    public boolean isDraw() {
+        return code == GameModel.NO_CARD;
+    }
+
+    /**
+     * Returns the card to play.
+     *
+     * @return the card code, or {@link GameModel#NO_CARD} for {@link #DRAW}.
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the color chosen for a wild card.
+     *
+     * @return the color, or null if the move is not a wild card.
+     */
+    public UnoCard.Color getColor() {
+        return color;
+    }
+
+    /**
+     * Applies the move for the given seat: plays the card and sets the chosen
+     * color, or draws one card, plays it if it fits and otherwise passes.
+     *
+     * @param model the game.
+     * @param seat  the seat making the move.
+     * @return a {@link GameModel#play} status, or {@link GameModel#NO_CARD} if the seat
+     *         drew (or could not draw) and passed.
+     */
+    public int apply(GameModel model, int seat) {
+        return apply(model, seat, code, color);
+    }
+
+    /**
+     * Allocation-free form of {@link #apply(GameModel, int)} used by the search loops
+     * and by players that decide on card codes.
+     *
+     * @param model the game.
+     * @param seat  the seat making the move.
+     * @param code  the card code, or {@link GameModel#NO_CARD} to draw.
+     * @param color the wild color, or null.
+     * @return a {@link GameModel#play} status, or {@link GameModel#NO_CARD} if the seat passed.
+     */
+    public static int apply(GameModel model, int seat, int code, UnoCard.Color color) {
+        if (code != GameModel.NO_CARD) {
+            int status = model.playSeat(seat, code);
+            if (status >= 0 && color != null) {
+                model.setWildColor(color);
+            }
+            return status;
+        }
+
+        int drawn = model.drawCode(seat);
+        if (drawn != GameModel.NO_CARD && model.isValidPlay(UnoCard.of(drawn))) {
+            int status = model.playSeat(seat, drawn);
+            if (status >= 0 && drawn >= UnoCard.WILD_CODE) {
+                model.setWildColor(model.chooseBestColor(model.getHand(seat)));
+            }
+            return status;
+        }
+        model.switchTurn();
+        return GameModel.NO_CARD;
+    }
+
+    @Override
+    public String toString() {
+        if (isDraw()) return "DRAW";
+        return color == null ? UnoCard.of(code).toString() : UnoCard.of(code) + " -> " + color;
+    }
+}
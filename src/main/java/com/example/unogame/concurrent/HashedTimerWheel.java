@@ -0,0 +1,202 @@
+package com.example.unogame.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashed timer wheel shared by every game in the JVM.
+ *
+ * <p>Timeouts are hashed by their deadline tick into a fixed ring of buckets, each an
+ * intrusive doubly linked list, so scheduling and cancelling are O(1) no matter how many
+ * timers are pending. A single daemon thread advances the wheel once per tick and runs
+ * the expired tasks; tasks must be short (typically a {@code Platform.runLater} hand-off).
+ * The thread parks while no timeout is pending.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class HashedTimerWheel {
+    private static final HashedTimerWheel SHARED = new HashedTimerWheel(10, TimeUnit.MILLISECONDS, 512);
+
+    private final long tickNanos;
+    private final Timeout[] buckets;
+    private final int mask;
+    private final long startNanos;
+    private final Object lock = new Object();
+
+    private long processedTick;
+    private int pending;
+    private Thread worker;
+
+    /**
+     * Creates a timer wheel.
+     *
+     * @param tickDuration resolution of the wheel.
+     * @param unit         unit of {@code tickDuration}.
+     * @param wheelSize    number of buckets, rounded up to a power of two.
+     */
+    public HashedTimerWheel(long tickDuration, TimeUnit unit, int wheelSize) {
+        if (tickDuration <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Parámetros de temporizador inválidos");
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        this.buckets = new Timeout[Math.max(size, 1)];
+        this.mask = buckets.length - 1;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the wheel shared by all tables (10 ms ticks, 512 buckets).
+     *
+     * @return the shared timer wheel.
+     */
+    public static HashedTimerWheel shared() {
+        return SHARED;
+    }
+
+    /**
+     * Schedules a task to run once after the given delay.
+     *
+     * @param task  the task, run on the wheel thread.
+     * @param delay the delay.
+     * @param unit  unit of {@code delay}.
+     * @return a handle that can cancel the task in O(1).
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        long elapsed = System.nanoTime() - startNanos + unit.toNanos(Math.max(delay, 0));
+        long deadlineTick = (elapsed + tickNanos - 1) / tickNanos;
+
+        Timeout timeout = new Timeout(this, task);
+        synchronized (lock) {
+            // Nunca en un tick ya procesado
+            timeout.deadlineTick = Math.max(deadlineTick, processedTick + 1);
+            link(timeout);
+            pending++;
+            if (worker == null) {
+                worker = new Thread(this::run, "UnoTimerWheel");
+                worker.setDaemon(true);
+                worker.start();
+            } else if (pending == 1) {
+                lock.notify();
+            }
+        }
+        return timeout;
+    }
+
+    /**
+     * Returns the number of scheduled timeouts that have neither expired nor been cancelled.
+     *
+     * @return the pending count.
+     */
+    public int pendingCount() {
+        synchronized (lock) {
+            return pending;
+        }
+    }
+
+    boolean cancel(Timeout timeout) {
+        synchronized (lock) {
+            if (timeout.state != Timeout.PENDING) {
+                return false;
+            }
+            unlink(timeout);
+            timeout.state = Timeout.CANCELLED;
+            pending--;
+            return true;
+        }
+    }
+
+    private void link(Timeout timeout) {
+        int index = (int) (timeout.deadlineTick & mask);
+        Timeout head = buckets[index];
+        timeout.next = head;
+        timeout.prev = null;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        buckets[index] = timeout;
+    }
+
+    private void unlink(Timeout timeout) {
+        int index = (int) (timeout.deadlineTick & mask);
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            buckets[index] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    private long currentTick() {
+        return (System.nanoTime() - startNanos) / tickNanos;
+    }
+
+    private void run() {
+        while (true) {
+            Timeout expired = null;
+            synchronized (lock) {
+                // Sin temporizadores pendientes: dormir hasta el próximo schedule()
+                while (pending == 0) {
+                    processedTick = currentTick();
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+
+                long now = currentTick();
+                while (processedTick < now && pending > 0) {
+                    processedTick++;
+                    expired = expireBucket(processedTick, expired);
+                }
+                if (pending == 0) {
+                    processedTick = now;
+                }
+            }
+
+            // Ejecutar fuera del candado para no bloquear schedule()/cancel()
+            while (expired != null) {
+                Timeout next = expired.next;
+                expired.next = null;
+                try {
+                    expired.task.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Error en temporizador: " + e.getMessage());
+                }
+                expired = next;
+            }
+
+            long sleep = startNanos + (processedTick + 1) * tickNanos - System.nanoTime();
+            if (sleep > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleep);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private Timeout expireBucket(long tick, Timeout expired) {
+        Timeout timeout = buckets[(int) (tick & mask)];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            // El mismo cubo guarda también vueltas futuras de la rueda
+            if (timeout.deadlineTick <= tick) {
+                unlink(timeout);
+                timeout.state = Timeout.EXPIRED;
+                pending--;
+                timeout.next = expired;
+                expired = timeout;
+            }
+            timeout = next;
+        }
+        return expired;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.unogame.concurrent;
+
+/**
+ * Handle of a task scheduled on a {@link HashedTimerWheel}.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class Timeout {
+    static final int PENDING = 0;
+    static final int EXPIRED = 1;
+    static final int CANCELLED = 2;
+
+    private final HashedTimerWheel wheel;
+    final Runnable task;
+    long deadlineTick;
+    Timeout prev;
+    Timeout next;
+    volatile int state = PENDING;
+
+    Timeout(HashedTimerWheel wheel, Runnable task) {
+        this.wheel = wheel;
+        this.task = task;
+    }
+
+    /**
+     * Cancels the task if it has not run yet. O(1).
+     *
+     * @return true if this call cancelled the task.
+     */
+    public boolean cancel() {
+        return wheel.cancel(this);
+    }
+
+    public boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    public boolean isExpired() {
+        return state == EXPIRED;
+    }
+}
@@ -1,35 +1,82 @@
 package com.example.unogame.controller;
 
+import com.example.unogame.concurrent.HashedTimerWheel;
+import com.example.unogame.concurrent.Timeout;
 import com.example.unogame.exceptions.DeckEmptyException;
 import com.example.unogame.exceptions.InvalidCardPlayException;
+import com.example.unogame.jfr.UnoTimerEvent;
+import com.example.unogame.journal.GameJournal;
+import com.example.unogame.metrics.GameMetrics;
 import com.example.unogame.model.GameModel;
+import com.example.unogame.model.GameRandom;
 import com.example.unogame.model.UnoCard;
 import com.example.unogame.model.UnoDeck;
+import com.example.unogame.model.interfaces.IGameEventListener;
+import com.example.unogame.save.GameSaveFile;
+import com.example.unogame.save.SavedGame;
+import com.example.unogame.save.UnoTimerState;
+import com.example.unogame.strategy.Strategy;
+import com.example.unogame.strategy.StrategyRegistry;
+import com.example.unogame.turn.TurnAction;
+import com.example.unogame.turn.TurnState;
+import com.example.unogame.turn.TurnStateMachine;
+import com.example.unogame.turn.TurnView;
+import com.example.unogame.view.CanvasTable;
+import com.example.unogame.view.FxTurnScheduler;
 import com.example.unogame.view.GameView;
+import com.example.unogame.view.HandLayout;
+import com.example.unogame.view.HandSynchronizer;
+import com.example.unogame.view.SceneGraphTable;
+import com.example.unogame.view.interfaces.ITableRenderer;
 import javafx.event.EventHandler;
 
+import javafx.scene.Node;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 import javafx.animation.*;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
-import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.util.Duration;
 import javafx.application.Platform;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Controller for the main UNO game view.
  * Manages game initialization, user interactions (card clicks, draw actions, UNO declarations),
  * CPU actions, and synchronizes view updates with the game model.
  *
- * <p>Handles setting up the deck image, dealing initial hands, drawing and playing cards,
- * responding to special card effects, and animating UI transitions.</p>
+ * <p>Turn order, special card effects and CPU moves are sequenced by a
+ * {@link TurnStateMachine}; this controller forwards the user's input to it and
+ * animates the actions it hands out. Animations and pauses follow the
+ * {@code uno.animationScale} property (1 by default, 0 for instant), and F4
+ * toggles the instant turbo mode.</p>
+ *
+ * <p>In spectator mode ({@code -Duno.spectator=true} or F5) both seats are played
+ * by strategies at {@code uno.spectatorMovesPerSecond} moves per second (20 by
+ * default), hands are redrawn at most once per pulse by a {@link HandSynchronizer},
+ * no dialogs are shown and a new game starts by itself after each one ends.</p>
+ *
+ * <p>The table is drawn by an {@link ITableRenderer} chosen at startup with
+ * {@code uno.renderer}. By default it is a {@link SceneGraphTable}: each hand is
+ * a {@link HandLayout} that overlaps its cards to fit the window and only has
+ * nodes for the cards in view, taken from a pool that reuses them across plays
+ * and games. With {@code -Duno.renderer=canvas} a {@link CanvasTable} paints the
+ * piles and both hands on a single canvas instead.</p>
+ *
+ * <p>Every game is recorded in a {@link GameJournal} in the directory named by
+ * {@code uno.journal} ({@code ~/.unogame/journal} by default); an empty value
+ * turns the journal off.</p>
  *
  * @author
  *   Jhon Steven Angulo Nieves
@@ -38,8 +85,26 @@ import java.util.*;
  */
 
 public class GameViewController {
-    @FXML private HBox cpuHand;
-    @FXML private HBox userHand;
+    /** Where the game in progress is saved on exit and resumed from on start. */
+    public static final Path SAVE_FILE = Paths.get(System.getProperty("user.home"), ".unogame", "partida.sav");
+    private static final String JOURNAL_DIR = System.getProperty("uno.journal",
+            Paths.get(System.getProperty("user.home"), ".unogame", "journal").toString());
+    // Una partida ocupa unos pocos KB: segmentos pequeños para no reservar 64 MB en cada arranque
+    private static final long JOURNAL_SEGMENT_SIZE = 1L << 20;
+    private static final double ANIMATION_SCALE = Double.parseDouble(System.getProperty("uno.animationScale", "1"));
+    private static final int SPECTATOR_MOVES_PER_SECOND = Integer.getInteger("uno.spectatorMovesPerSecond", 20);
+    private static final long SPECTATOR_RESTART_MILLIS = 1500;
+    // "canvas" dibuja la mesa en un único Canvas; cualquier otro valor, con un nodo por carta
+    private static final String RENDERER = System.getProperty("uno.renderer", "scene");
+    // La CPU decide fuera del hilo de JavaFX
+    private static final ExecutorService CPU_THREAD = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "UnoCpu");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @FXML private HandLayout cpuHand;
+    @FXML private HandLayout userHand;
     @FXML private StackPane centerPane;
     @FXML private ImageView deckView;
     @FXML private ImageView discardPileView;
@@ -49,13 +114,23 @@ public class GameViewController {
     private GameModel gameModel;
     private UnoDeck deck;
     private GameView gameView;
-    private final String prefix = "/com/example/unogame/cards-uno/";
     private volatile boolean gameOver = false;
     private volatile boolean userUnoClicked = false;
-    private Thread userUnoThread, cpuUnoThread;
+    private final HashedTimerWheel timerWheel = HashedTimerWheel.shared();
+    private GameRandom timerRandom; // Derivado de la semilla de cada partida
+    private Timeout userUnoTimeout, cpuUnoTimeout;
+    private long userUnoDeadline, cpuUnoDeadline; // System.nanoTime() en que cierra cada ventana de UNO
     private volatile boolean cpuDeclaredUno = false;
     private volatile boolean playerCaughtCpu = false;
-    private boolean processingClick = false; // Para evitar múltiples clics rápidos
+    private final GameMetrics metrics = new GameMetrics();
+    private TurnStateMachine turns;
+    private ITableRenderer table;
+    private HandSynchronizer hands;
+    private boolean spectator = Boolean.getBoolean("uno.spectator");
+    private Strategy spectatorStrategy;
+    private long clickNanos; // Inicio del turno del usuario, para la latencia clic-descarte
+    private GameJournal journal;
+    private IGameEventListener journalRecorder; // Instalado en gameModel mientras el diario está abierto
 
     /**
      * Initializes the controller after FXML loading: sets up model, view,
@@ -65,9 +140,208 @@ public class GameViewController {
      */
     @FXML
     private void initialize() throws DeckEmptyException {
+        turns = new TurnStateMachine(new TurnHandler(), new FxTurnScheduler(),
+                StrategyRegistry.create(System.getProperty("uno.cpu", "first")), CPU_THREAD);
+        turns.setAnimationScale(ANIMATION_SCALE);
+        turns.setDecisionLatency(metrics.cpuDecision());
+        table = "canvas".equals(RENDERER) ? createCanvasTable()
+                : new SceneGraphTable(userHand, cpuHand, deckView, discardPileView);
+        hands = new HandSynchronizer(table);
+        applySpectatorMode();
+        openJournal();
+
+        // Un único manejador de clic para todas las cartas, y el del mazo, para todas las partidas
+        table.setOnCardClicked(new CardClickHandler());
+        table.setOnDeckClicked(() -> {
+            if (turns.getState() == TurnState.USER_TURN) {
+                handleDrawCard();
+            }
+        });
+
+        if (Files.exists(SAVE_FILE)) {
+            try {
+                resumeGame(GameSaveFile.read(SAVE_FILE));
+                return;
+            } catch (IOException e) {
+                System.err.println("No se pudo reanudar la partida guardada: " + e.getMessage());
+            }
+        }
         resetGame();
     }
 
+    /**
+     * Saves the game in progress to {@link #SAVE_FILE}, including the UNO windows
+     * still open, or deletes the save if the game is over. Must run on the FX thread.
+     */
+    public void saveGame() {
+        try {
+            if (gameModel == null || gameOver || gameModel.isGameOver()) {
+                Files.deleteIfExists(SAVE_FILE);
+                return;
+            }
+            UnoTimerState timers = new UnoTimerState(
+                    remainingMillis(userUnoTimeout, userUnoDeadline), userUnoClicked,
+                    remainingMillis(cpuUnoTimeout, cpuUnoDeadline), cpuDeclaredUno, playerCaughtCpu,
+                    timerRandom.getState());
+            GameSaveFile.write(SAVE_FILE, gameModel, timers);
+        } catch (IOException e) {
+            System.err.println("No se pudo guardar la partida: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Closes the game journal, forcing the games recorded so far to disk.
+     * Must run on the FX thread, once the window is closed.
+     */
+    public void closeJournal() {
+        if (journal == null) return;
+        if (gameModel != null) {
+            gameModel.removeEventListener(journalRecorder);
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.err.println("No se pudo cerrar el diario de partidas: " + e.getMessage());
+        }
+        journal = null;
+        journalRecorder = null;
+    }
+
+    private void openJournal() {
+        if (JOURNAL_DIR.isBlank()) return;
+        try {
+            journal = new GameJournal(Paths.get(JOURNAL_DIR), JOURNAL_SEGMENT_SIZE,
+                    GameJournal.DEFAULT_FLUSH_INTERVAL_MILLIS);
+        } catch (IOException e) {
+            System.err.println("No se pudo abrir el diario de partidas: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records the given model in the journal from its current position on; the
+     * model it replaces stops being recorded.
+     */
+    private void journalModel(GameModel model) {
+        if (journal == null) return;
+        if (gameModel != null && gameModel != model) {
+            gameModel.removeEventListener(journalRecorder);
+        }
+        journalRecorder = journal.attach(model);
+    }
+
+    /**
+     * Returns the turn, CPU decision and frame counters shown by the performance overlay.
+     *
+     * @return the metrics of this controller.
+     */
+    public GameMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Switches between instant animations and the configured animation speed.
+     */
+    public void toggleTurbo() {
+        if (spectator) return;
+        turns.setAnimationScale(turns.getAnimationScale() == 0 ? Math.max(ANIMATION_SCALE, 1) : 0);
+    }
+
+    /**
+     * Switches between playing against the CPU and watching two CPU seats play.
+     */
+    public void toggleSpectator() {
+        spectator = !spectator;
+        applySpectatorMode();
+        if (spectator && turns.getState() == TurnState.GAME_OVER) {
+            scheduleSpectatorRestart();
+        }
+    }
+
+    private void applySpectatorMode() {
+        if (gameView != null) {
+            gameView.setQuiet(spectator);
+        }
+        if (spectator) {
+            if (spectatorStrategy == null) {
+                spectatorStrategy = StrategyRegistry.create(System.getProperty("uno.spectatorStrategy", "first"));
+            }
+            stopAllTimers();
+            turns.setAnimationScale(0);
+            turns.setMovePacing(1000L / Math.max(1, SPECTATOR_MOVES_PER_SECOND));
+            turns.setAutoplay(spectatorStrategy);
+        } else {
+            turns.setAnimationScale(ANIMATION_SCALE);
+            turns.setMovePacing(0);
+            turns.setAutoplay(null);
+        }
+    }
+
+    private void scheduleSpectatorRestart() {
+        PauseTransition pause = new PauseTransition(Duration.millis(SPECTATOR_RESTART_MILLIS));
+        pause.setOnFinished(e -> {
+            if (spectator && turns.getState() == TurnState.GAME_OVER) {
+                try {
+                    resetGame();
+                } catch (DeckEmptyException ex) {
+                    System.err.println("No se pudo empezar otra partida: " + ex.getMessage());
+                }
+            }
+        });
+        pause.play();
+    }
+
+    private static int remainingMillis(Timeout timeout, long deadline) {
+        if (timeout == null || timeout.isExpired() || timeout.isCancelled()) {
+            return -1;
+        }
+        return (int) Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+    }
+
+    /**
+     * Rebuilds the view from a saved game without replaying its moves: the hands,
+     * the discard pile and the buttons are rendered straight from the model, and
+     * the UNO windows that were open get the time they had left.
+     *
+     * @param saved the game loaded from the save file.
+     */
+    private void resumeGame(SavedGame saved) {
+        Platform.runLater(() -> {
+            long start = System.nanoTime();
+            stopAllTimers();
+
+            UnoTimerState timers = saved.getTimers();
+            journalModel(saved.getModel());
+            gameModel = saved.getModel();
+            timerRandom = new GameRandom(timers.getRandomState());
+            gameOver = false;
+            userUnoClicked = timers.isUserUnoClicked();
+            cpuDeclaredUno = timers.isCpuDeclaredUno();
+            playerCaughtCpu = timers.isPlayerCaughtCpu();
+            gameView = new GameView(table);
+            gameView.setQuiet(spectator);
+
+            dealInitialHands();
+            setupUnoButton();
+            setupCatchCpuButton();
+            // Los botones se muestran después de que stopAllTimers() los oculte
+            if (timers.isUserWindowOpen() && gameModel.getUserHand().size() == 1) {
+                Platform.runLater(() -> {
+                    unoButton.setVisible(true);
+                    unoButton.toFront();
+                });
+                scheduleUserUnoTimer(timers.getUserRemainingMillis());
+            }
+            if (timers.isCpuWindowOpen() && gameModel.getCpuHand().size() == 1) {
+                Platform.runLater(() -> catchCpuButton.setVisible(true));
+                scheduleCpuUnoTimer(timers.getCpuRemainingMillis());
+            }
+            metrics.resume().record(System.nanoTime() - start);
+
+            // Completar la jugada que quedó a medias: color pendiente de un comodín o turno de la CPU
+            turns.resume(gameModel);
+        });
+    }
+
     /**
      * Resets the game to its starting configuration, stopping all threads,
      * clearing hands, shuffling the deck, and updating the UI.
@@ -77,27 +351,34 @@ public class GameViewController {
     private void resetGame() throws DeckEmptyException {
         // Ejecutar en el hilo de UI para mayor seguridad
         Platform.runLater(() -> {
-            // Cancelar threads pendientes
-            stopAllThreads();
+            // Cancelar temporizadores pendientes
+            stopAllTimers();
 
             // Reiniciar flags
             gameOver = false;
             userUnoClicked = false;
             cpuDeclaredUno = false;
             playerCaughtCpu = false;
-            processingClick = false;
+            turns.stop();
 
             // Ocultar botones especiales
             if (unoButton != null) unoButton.setVisible(false);
             if (catchCpuButton != null) catchCpuButton.setVisible(false);
 
             try {
-                // Inicializar modelo y vista
-                gameModel = new GameModel();
-                gameView = new GameView(discardPileView);
+                // Inicializar modelo (reutilizando el existente) y vista
+                if (gameModel == null) {
+                    GameModel model = new GameModel();
+                    journalModel(model);
+                    gameModel = model;
+                } else {
+                    gameModel.reset();
+                }
+                timerRandom = new GameRandom(gameModel.getSeed()).split();
+                gameView = new GameView(table);
+                gameView.setQuiet(spectator);
 
                 // Configurar componentes UI
-                setupDeckImage();
                 dealInitialHands();
                 setupUnoButton();
                 setupCatchCpuButton();
@@ -111,38 +392,54 @@ public class GameViewController {
     }
 
     /**
-     * Stops any running UNO declaration threads for both player and CPU.
+     * Cancels any pending UNO declaration timers for both player and CPU
+     * and hides their buttons.
      */
-    private void stopAllThreads() {
-        // Detener threads existentes
-        if (userUnoThread != null) {
-            userUnoThread.interrupt();
-            userUnoThread = null;
+    private void stopAllTimers() {
+        // Cancelar temporizadores existentes
+        cancelUserUnoTimer();
+        cancelCpuUnoTimer();
+
+        Platform.runLater(() -> {
+            if (unoButton != null) unoButton.setVisible(false);
+            if (catchCpuButton != null) catchCpuButton.setVisible(false);
+        });
+    }
+
+    private void cancelUserUnoTimer() {
+        if (userUnoTimeout != null) {
+            userUnoTimeout.cancel();
+            userUnoTimeout = null;
         }
+    }
 
-        if (cpuUnoThread != null) {
-            cpuUnoThread.interrupt();
-            cpuUnoThread = null;
+    private void cancelCpuUnoTimer() {
+        if (cpuUnoTimeout != null) {
+            cpuUnoTimeout.cancel();
+            cpuUnoTimeout = null;
         }
     }
 
     /**
-     * Sets up the image view for the draw deck on the UI.
+     * Replaces the hand rows, deck and discard pile of the FXML with a single
+     * canvas drawn over the center of the table.
+     *
+     * @return the canvas renderer.
      */
-    private void setupDeckImage() {
-        deckView.setImage(new Image(Objects.requireNonNull(getClass().getResourceAsStream(prefix + "deck_of_cards.png"))));
-
-        // Agregar evento de clic al mazo para robar carta
-        deckView.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> {
-            if (gameModel.isUserTurn() && !gameOver && !processingClick) {
-                handleDrawCard();
-            }
-        });
+    private ITableRenderer createCanvasTable() {
+        for (Node node : new Node[] {userHand, cpuHand, deckView.getParent()}) {
+            node.setVisible(false);
+            node.setManaged(false);
+        }
+        CanvasTable canvas = new CanvasTable();
+        canvas.install(centerPane);
+        return canvas;
     }
 
 
     /**
-     * Handles the initial card flip from the deck to the discard pile at game start.
+     * Handles the initial card flip from the deck to the discard pile at game start:
+     * tells the user what the first card does and lets the turn machine apply it.
      */
     private void handleInitialCard() {
         UnoCard topCard = gameModel.getTopDiscard();
@@ -150,67 +447,27 @@ public class GameViewController {
         // Lo primero es actualizar la interfaz gráfica para mostrar la carta inicial
         gameView.updateDiscardPile(topCard);
 
-        // Usar Platform.runLater para asegurar que esto ocurra después de que la interfaz se haya dibujado
-        Platform.runLater(() -> {
-            try {
-                // Si la primera carta es un comodín
-                if (topCard.getValue() == UnoCard.Value.WILD ||
-                        topCard.getValue() == UnoCard.Value.WILD_DRAW_FOUR) {
-
-                    // Solicitar elección de color
-                    promptColorChoice();
-
-                    // Si es +4, aplicar efecto (el jugador roba 4)
-                    if (topCard.getValue() == UnoCard.Value.WILD_DRAW_FOUR) {
-                        for (int i = 0; i < 4; i++) {
-                            UnoCard drawnCard = gameModel.drawCard();
-                            ImageView cardView = createCardImage(drawnCard, false);
-                            userHand.getChildren().add(cardView);
-                        }
-                        gameView.showAlertSafely("Carta inicial +4",
-                                "Has robado 4 cartas por la carta inicial.",
-                                Alert.AlertType.INFORMATION);
-                    }
-
-                    // Como es comodín inicial, se confirma que la CPU empieza el turno
-                    gameModel.setUserTurn(true);
-                }
-                // Si es otra carta especial +2
-                else if (topCard.getValue() == UnoCard.Value.DRAW_TWO) {
-                    // El jugador roba 2 cartas
-                    for (int i = 0; i < 2; i++) {
-                        UnoCard drawnCard = gameModel.drawCard();
-                        ImageView cardView = createCardImage(drawnCard, false);
-                        userHand.getChildren().add(cardView);
-                    }
-                    gameView.showAlertSafely("Carta inicial +2",
-                            "Has robado 2 cartas por la carta inicial.",
-                            Alert.AlertType.INFORMATION);
-
-                    // La CPU empieza su turno
-                    gameModel.setUserTurn(true);
-                }
-                // Si es SKIP o REVERSE
-                else if (topCard.getValue() == UnoCard.Value.SKIP ||
-                        topCard.getValue() == UnoCard.Value.REVERSE) {
-                    gameView.showAlertSafely("Turno inicial",
-                            "La carta inicial es un " + topCard.getValue() + ". Comienza la CPU.",
-                            Alert.AlertType.INFORMATION);
-
-                    // La CPU empieza su turno
-                    gameModel.setUserTurn(false);
-
-                    // Programar turno de la CPU con delay
-                    PauseTransition pause = new PauseTransition(Duration.seconds(1.5));
-                    pause.setOnFinished(e -> {
-                        if (!gameOver) playCpuTurn();
-                    });
-                    pause.play();
-                }
-            } catch (DeckEmptyException e) {
-                gameView.showAlertSafely("Error", "Error al manejar carta inicial: " + e.getMessage(), Alert.AlertType.ERROR);
-            }
-        });
+        switch (topCard.getValue()) {
+            case WILD_DRAW_FOUR:
+                gameView.showAlertSafely("Carta inicial +4",
+                        "Has robado 4 cartas por la carta inicial.",
+                        Alert.AlertType.INFORMATION);
+                break;
+            case DRAW_TWO:
+                gameView.showAlertSafely("Carta inicial +2",
+                        "Has robado 2 cartas por la carta inicial.",
+                        Alert.AlertType.INFORMATION);
+                break;
+            case SKIP:
+            case REVERSE:
+                gameView.showAlertSafely("Turno inicial",
+                        "La carta inicial es un " + topCard.getValue() + ". Comienza la CPU.",
+                        Alert.AlertType.INFORMATION);
+                break;
+            default:
+                break;
+        }
+        turns.start(gameModel);
     }
 
     /**
@@ -223,8 +480,7 @@ public class GameViewController {
         // Si la carta inicial es un +2 o +4, el jugador roba cartas
         for (int i = 0; i < count; i++) {
             UnoCard drawnCard = gameModel.drawCard();
-            ImageView cardView = createCardImage(drawnCard, false);
-            userHand.getChildren().add(cardView);
+            table.addCard(GameModel.USER_SEAT, drawnCard.getCode());
         }
 
         Platform.runLater(() -> {
@@ -238,299 +494,162 @@ public class GameViewController {
      * Deals the initial seven-card hands to the user and CPU.
      */
     private void dealInitialHands() {
-        // Limpiar las manos
-        userHand.getChildren().clear();
-        cpuHand.getChildren().clear();
-
-        // Mostrar cartas del usuario (boca arriba)
-        for (UnoCard card : gameModel.getUserHand()) {
-            ImageView cardView = createCardImage(card, false);
-            userHand.getChildren().add(cardView);
-        }
-
-        // Mostrar cartas de la CPU (boca abajo)
-        for (int i = 0; i < gameModel.getCpuHand().size(); i++) {
-            ImageView cardBack = new ImageView(new Image(Objects.requireNonNull(getClass().getResourceAsStream(prefix + "card_uno.png"))));
-            cardBack.setFitWidth(80);
-            cardBack.setPreserveRatio(true);
-            cpuHand.getChildren().add(cardBack);
-        }
-        // Mostrar primera carta en el descarte
-        gameView.updateDiscardPile(gameModel.getTopDiscard());
+        // Reutiliza los nodos de la partida anterior: cartas del usuario boca arriba,
+        // de la CPU boca abajo y la primera carta en el descarte
+        hands.setModel(gameModel);
+        hands.syncNow();
     }
 
     /**
-     * Creates an ImageView for the specified UnoCard.
-     * Binds click handler for user cards and sets size constraints.
-     *
-     * @param card  the UnoCard model object.
-     * @param isCpu true if creating for CPU hand (no click handler).
-     * @return the configured ImageView for display.
+     * Handles a click event on a user's card, validating play and updating model and view.
+     * One instance is shared by every card node of the pool.
      */
-    private ImageView createCardImage(UnoCard card, boolean isCpu) {
-        String imagePath = prefix + card.toFileName();
-        ImageView imageView = new ImageView(new Image(Objects.requireNonNull(getClass().getResourceAsStream(imagePath))));
+    private class CardClickHandler implements EventHandler<MouseEvent> {
+        @Override
+        public void handle(MouseEvent event) {
+            // Solo se aceptan jugadas cuando la máquina de turnos espera al usuario
+            if (turns.getState() != TurnState.USER_TURN) return;
 
-        imageView.setFitWidth(80);
-        imageView.setPreserveRatio(true);
+            // El renderizador dice qué carta del usuario se pulsó, si alguna
+            int code = table.userCardAt(event);
+            if (code == GameModel.NO_CARD) return;
 
-        if (!isCpu) {
-            imageView.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> handleCardClick(event));
+            clickNanos = System.nanoTime();
+            if (turns.playUser(code) < 0) {
+                gameView.shakeAnimation(code);
+            }
         }
-        imageView.setUserData(card);
-        return imageView;
     }
 
-
     /**
-     * Handles a click event on a user's card, validating play and updating model and view.
-     *
-     * @param event the MouseEvent triggered by clicking a card ImageView.
+     * Handles the user drawing one card. The user keeps the turn if the card can be
+     * played; otherwise the turn passes to the CPU.
      */
-    private void handleCardClick(MouseEvent event) {
-        new CardClickHandler().handle(event);
+    private void handleDrawCard() {
+        if (turns.drawUser() == GameModel.NO_CARD) {
+            gameView.showAlertSafely("Sin cartas", "No quedan cartas en el mazo.", Alert.AlertType.WARNING);
+        }
     }
 
-    // Implementar clase interna CardClickHandler
-    private class CardClickHandler implements EventHandler<MouseEvent> {
+    /**
+     * Subscriber of the turn machine: animates each action in order and reacts to
+     * the states that need the user or end the game.
+     */
+    private class TurnHandler implements TurnView {
         @Override
-        public void handle(MouseEvent event) {
-            // Prevenir múltiples clics o acciones durante el procesamiento
-            if (!gameModel.isUserTurn() || gameOver || processingClick) return;
-
-            processingClick = true;
-
-            ImageView clickedCard = (ImageView) event.getSource();
-            UnoCard selectedCard = (UnoCard) clickedCard.getUserData();
-
-            if (selectedCard == null) {
-                gameView.showAlertSafely("Error", "No se pudo obtener información de la carta", Alert.AlertType.ERROR);
-                processingClick = false;
-                return;
-            }
-
-            // Buscar la carta equivalente en la mano del usuario
-            UnoCard cardToPlay = null;
-            for (UnoCard card : gameModel.getUserHand()) {
-                if (card.getColor() == selectedCard.getColor() &&
-                        card.getValue() == selectedCard.getValue()) {
-                    cardToPlay = card;
+        public void show(TurnAction action, long millis, Runnable done) {
+            switch (action.getType()) {
+                case PLAY:
+                    showPlay(action, millis, done);
+                    break;
+                case DRAW:
+                    showDraw(action, millis, done);
+                    break;
+                case COLOR:
+                    if (action.getSeat() != GameModel.USER_SEAT && millis > 0) {
+                        gameView.showCpuColorChoice(action.getColor());
+                    }
+                    done.run();
+                    break;
+                default:
+                    done.run();
                     break;
-                }
             }
+        }
 
-            if (cardToPlay != null) {
-                if (gameModel.isValidPlay(cardToPlay)) {
-                    final UnoCard finalCardToPlay = cardToPlay;
-
-                    gameView.animateCardPlay(clickedCard, () -> {
-                        try {
-                            gameModel.playCard(finalCardToPlay, true);
-                            userHand.getChildren().remove(clickedCard);
-                            gameView.updateDiscardPile(gameModel.getTopDiscard());
-
-                            // Verificar si el juego ha terminado inmediatamente después de jugar una carta
-                            if (gameModel.isGameOver()) {
-                                gameOver = true;
-                                stopAllThreads();
-                                gameView.checkGameOver(true, gameModel.userWins());
-                                processingClick = false;
-                                return;
-                            }
-
-                            // Verificar UNO si quedó una carta
-                            if (gameModel.getUserHand().size() == 1) {
-                                Platform.runLater(() -> {
-                                    unoButton.setVisible(true);
-                                    unoButton.toFront();
-                                });
-                                startUserUnoTimer();
-                            }
-
-                            // Manejar cartas especiales
-                            handleSpecialCardEffects(finalCardToPlay);
-
-                        } catch (InvalidCardPlayException e) {
-                            gameView.showAlertSafely("Error", "Carta no valida para jugar", Alert.AlertType.ERROR);
-                            processingClick = false;
-                        } catch (DeckEmptyException e) {
-                            gameView.showAlertSafely("Sin cartas", "No quedan cartas en el mazo: " + e.getMessage(), Alert.AlertType.WARNING);
-                            processingClick = false;
-                        } catch (Exception e) {
-                            gameView.showAlertSafely("Error", "Error inesperado: " + e.getMessage(), Alert.AlertType.ERROR);
-                            processingClick = false;
+        @Override
+        public void onStateChanged(TurnState state) {
+            switch (state) {
+                case USER_TURN:
+                case CPU_TURN:
+                    metrics.endTurn();
+                    break;
+                case COLOR_CHOICE:
+                    // showAndWait no se permite dentro de una animación: se pregunta en el siguiente pulso
+                    Platform.runLater(() -> {
+                        if (turns.getState() == TurnState.COLOR_CHOICE) {
+                            turns.chooseColor(promptColorChoice());
                         }
                     });
-                } else {
-                    gameView.shakeAnimation(clickedCard);
-                    processingClick = false;
-                }
+                    break;
+                case GAME_OVER:
+                    metrics.endTurn();
+                    gameOver = true;
+                    stopAllTimers();
+                    gameView.checkGameOver(true, gameModel.userWins());
+                    if (spectator) {
+                        scheduleSpectatorRestart();
+                    }
+                    break;
+                default:
+                    break;
             }
         }
     }
 
     /**
-     * Handles the user drawing one card when no playable cards are available.
+     * Moves a played card to the discard pile, then opens the UNO window of the
+     * seat if it has one card left.
      */
-    private void handleDrawCard() {
-        if (gameOver || !gameModel.isUserTurn()) return;
-
-        processingClick = true;
+    private void showPlay(TurnAction action, long millis, Runnable done) {
+        boolean isUser = action.getSeat() == GameModel.USER_SEAT;
+        Runnable land = () -> {
+            if (millis == 0) {
+                // Sin animación: las manos y el descarte se redibujan una vez por pulso
+                hands.requestSync();
+            } else {
+                gameView.updateDiscardPile(UnoCard.of(action.getCode()));
+            }
+            if (isUser && !turns.isAutoplay()) {
+                metrics.userTurn().record(System.nanoTime() - clickNanos);
+            }
 
-        try {
-            // En el caso donde el usuario PUEDE jugar una carta pero decide robar
-            // debemos permitirle robar igualmente y no mostrar error
-
-            // Animar la carta robada
-            UnoCard drawnCard = gameModel.drawUserCard();
-            ImageView cardView = createCardImage(drawnCard, false);
-
-            // Añadir la carta a la mano con animación
-            userHand.getChildren().add(cardView);
-            gameView.animateFadeIn(cardView, Duration.millis(500), () -> {
-                // Verificar si la carta recién robada se puede jugar
-                if (gameModel.isValidPlay(drawnCard)) {
-                    // La carta se puede jugar, pero el jugador decide si lo hace
-                    processingClick = false;
+            // Verificar UNO si quedó una carta (en modo espectador nadie puede pulsar UNO)
+            if (action.getHandSize() == 1 && !turns.isAutoplay()) {
+                if (isUser) {
+                    startUserUnoTimer();
                 } else {
-                    // La carta no se puede jugar, pasar automáticamente al turno de la CPU
-                    processingClick = false;
-                    gameModel.switchTurn();
-
-                    if (!gameOver) {
-                        PauseTransition pause = new PauseTransition(Duration.seconds(0.5));
-                        pause.setOnFinished(pe -> {
-                            if (!gameOver) playCpuTurn();
-                        });
-                        pause.play();
-                    }
+                    startCpuUnoTimer(action.callsUno());
                 }
-            });
-        } catch (DeckEmptyException e) {
-            gameView.showAlertSafely("Error", e.getMessage(), Alert.AlertType.ERROR);
-            processingClick = false;
-        }
-    }
-
-    /**
-     * Processes special card effects (DRAW_TWO, WILD_DRAW_FOUR) for the played card.
-     * Draws the appropriate number of cards and skips turns as needed.
-     *
-     * @param cardToPlay the UnoCard whose effect is to be applied.
-     */
-    private void handleSpecialCardEffects(UnoCard cardToPlay) {
-        try {
-            if (cardToPlay.getValue() == UnoCard.Value.DRAW_TWO) {
-                drawCardAndUpdateHand(false, 2);
-                processingClick = false;
-                return;
             }
 
-            if (cardToPlay.getValue() == UnoCard.Value.WILD ||
-                    cardToPlay.getValue() == UnoCard.Value.WILD_DRAW_FOUR) {
-
-                Platform.runLater(() -> {
-                    try {
-                        promptColorChoice();
-
-                        if (cardToPlay.getValue() == UnoCard.Value.WILD_DRAW_FOUR) {
-                            drawCardAndUpdateHand(false, 4);
-                            processingClick = false;
-                        } else {
-                            // Solo para WILD (no +4), programar el turno de la CPU
-                            if (!gameOver) {
-                                PauseTransition delay = new PauseTransition(Duration.seconds(0.5));
-                                delay.setOnFinished(e -> {
-                                    if (!gameOver) playCpuTurn();
-                                });
-                                delay.play();
-                            }
-                            processingClick = false;
-                        }
-                    } catch (Exception e) {
-                        gameView.showAlertSafely("Error", "Error al procesar carta especial: " + e.getMessage(), Alert.AlertType.ERROR);
-                        processingClick = false;
-                    }
-                });
-                return;
+            // SKIP y REVERSE hacen que el usuario mantenga su turno
+            UnoCard.Value value = UnoCard.of(action.getCode()).getValue();
+            if (isUser && millis > 0 && (value == UnoCard.Value.SKIP || value == UnoCard.Value.REVERSE)) {
+                String mensaje = value == UnoCard.Value.SKIP ?
+                        "¡Has saltado el turno de la CPU!" :
+                        "¡Has cambiado el sentido del juego!";
+                gameView.showAlertSafely("Turno de CPU saltado", mensaje, Alert.AlertType.INFORMATION);
             }
+            done.run();
+        };
 
-            if (cardToPlay.getValue() == UnoCard.Value.SKIP ||
-                    cardToPlay.getValue() == UnoCard.Value.REVERSE) {
-                // CORRECCIÓN: Mostrar mensaje informativo y NO cambiar al turno de la CPU
-                // ya que el efecto de SKIP/REVERSE hace que el usuario mantenga su turno
-                Platform.runLater(() -> {
-                    String mensaje = cardToPlay.getValue() == UnoCard.Value.SKIP ?
-                            "¡Has saltado el turno de la CPU!" :
-                            "¡Has cambiado el sentido del juego!";
-                    gameView.showAlertSafely("Turno de CPU saltado", mensaje, Alert.AlertType.INFORMATION);
-                });
-                processingClick = false;
-                return;
-            }
-
-            // Para cartas normales, programar el turno de la CPU
-            if (!gameOver) {
-                PauseTransition delay = new PauseTransition(Duration.seconds(0.5));
-                delay.setOnFinished(e -> {
-                    if (!gameOver) playCpuTurn();
-                });
-                delay.play();
-            }
-            processingClick = false;
-        } catch (Exception e) {
-            gameView.showAlertSafely("Error", "Error inesperado: " + e.getMessage(), Alert.AlertType.ERROR);
-            processingClick = false;
+        if (millis == 0) {
+            land.run();
+        } else {
+            // El renderizador saca la carta de la mano al terminar el movimiento
+            gameView.animateCardPlay(action.getSeat(), action.getCode(), Duration.millis(millis), land);
         }
     }
 
-
-
     /**
-     * Draws cards into the specified player's hand and updates the UI pane.
-     *
-     * @param isUser true to draw for the user, false for the CPU.
-     * @param count  number of cards to draw.
-     * @return list of ImageViews representing the newly drawn cards.
-     * @throws DeckEmptyException if the deck is empty during drawing.
+     * Adds a drawn card to its hand, face up for the user and face down for the CPU.
      */
-    private List<ImageView> drawCardAndUpdateHand(boolean isUser, int count)
-            throws DeckEmptyException {
-        List<ImageView> cardViews = new ArrayList<>();
-
-        for (int i = 0; i < count; i++) {
-            // 1) Robo y actualizo modelo de una sola vez
-            UnoCard card = isUser
-                    ? gameModel.drawUserCard()
-                    : gameModel.drawCpuCard();
-
-            // 2) Creo la vista adecuada
-            ImageView view;
-            if (isUser) {
-                view = createCardImage(card, false);
-                userHand.getChildren().add(view);
-            } else {
-                // reverso para la CPU
-                view = new ImageView(new Image(Objects.requireNonNull(
-                        getClass().getResourceAsStream(prefix + "card_uno.png"))
-                ));
-                // CORRECCIÓN: Asegurar tamaño correcto para cartas de CPU
-                view.setFitWidth(80);
-                view.setPreserveRatio(true);
-                cpuHand.getChildren().add(view);
-                gameView.animateFadeIn(view, Duration.millis(500), () -> {});
-            }
-            // 3) Animo y guardo
-            cardViews.add(view);
+    private void showDraw(TurnAction action, long millis, Runnable done) {
+        if (millis == 0) {
+            hands.requestSync();
+            done.run();
+            return;
         }
-
-        return cardViews;
+        gameView.animateFadeIn(action.getSeat(), action.getCode(), Duration.millis(millis), done);
     }
 
     /**
      * Prompts the user with a color choice dialog for wild cards.
+     *
+     * @return the chosen color; RED if the dialog is closed without choosing.
      */
-    private void promptColorChoice() {
+    private UnoCard.Color promptColorChoice() {
         Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
         alert.setTitle("Elige un color");
         alert.setHeaderText("Selecciona el nuevo color:");
@@ -544,138 +663,16 @@ public class GameViewController {
         Optional<ButtonType> result = alert.showAndWait();
         if (result.isPresent()) {
             ButtonType buttonType = result.get();
-            if (buttonType == redButton) {
-                gameModel.setWildColor(UnoCard.Color.RED);
-            } else if (buttonType == blueButton) {
-                gameModel.setWildColor(UnoCard.Color.BLUE);
+            if (buttonType == blueButton) {
+                return UnoCard.Color.BLUE;
             } else if (buttonType == greenButton) {
-                gameModel.setWildColor(UnoCard.Color.GREEN);
+                return UnoCard.Color.GREEN;
             } else if (buttonType == yellowButton) {
-                gameModel.setWildColor(UnoCard.Color.YELLOW);
+                return UnoCard.Color.YELLOW;
             }
-        } else {
-            // Si no se elige un color, establecer uno por defecto
-            gameModel.setWildColor(UnoCard.Color.RED);
         }
-    }
-
-    /**
-     * Executes the CPU's turn logic, selecting and playing a valid card or drawing.
-     */
-    private void playCpuTurn() {
-        if (gameOver) return;
-
-        // IMPORTANTE: Evitar problemas de concurrencia asegurando que estamos en el hilo de la UI
-        Platform.runLater(() -> {
-            PauseTransition delay = new PauseTransition(Duration.seconds(0.5));
-            delay.setOnFinished(e -> {
-                if (gameOver) return;
-
-                try {
-                    UnoCard playedCard = gameModel.playCard(null, false);
-                    if (playedCard != null) {
-                        // La CPU juega una carta
-                        if (cpuHand.getChildren().isEmpty()) return;
-
-                        ImageView cpuCard = (ImageView) cpuHand.getChildren().get(0);
-                        gameView.animateCardPlay(cpuCard, () -> {
-                            cpuHand.getChildren().remove(0);
-                            gameView.updateDiscardPile(gameModel.getTopDiscard());
-
-                            // Verificar si la CPU ganó
-                            if (gameModel.isGameOver()) {
-                                gameOver = true;
-                                stopAllThreads();
-                                gameView.checkGameOver(true, gameModel.userWins());
-                                return;
-                            }
-
-                            // Verificar UNO para CPU
-                            if (gameModel.getCpuHand().size() == 1 && !gameOver){
-                                startCpuUnoTimer();
-                            }
-
-                            // Si la carta era un comodín, mostrar el color elegido
-                            if ((playedCard.getValue() == UnoCard.Value.WILD ||
-                                    playedCard.getValue() == UnoCard.Value.WILD_DRAW_FOUR) &&
-                                    gameModel.getCurrentColor() != null) {
-
-                                gameView.showCpuColorChoice(gameModel.getCurrentColor());
-
-                                // Si se jugó +4, actualizar visualmente la mano del usuario
-                                if (playedCard.getValue() == UnoCard.Value.WILD_DRAW_FOUR) {
-                                    try {
-                                        drawCardAndUpdateHand(true, 4);
-                                    } catch (DeckEmptyException ex) {
-                                        throw new RuntimeException(ex);
-                                    }
-                                    if (!gameOver) {
-                                        PauseTransition cpuDelay = new PauseTransition(Duration.seconds(0.5));
-                                        cpuDelay.setOnFinished(evt -> {
-                                            if (!gameOver) playCpuTurn();
-                                        });
-                                        cpuDelay.play();
-                                    }
-                                }
-                            }
-                            // Si jugó +2, actualizar mano del usuario
-                            else if (playedCard.getValue() == UnoCard.Value.DRAW_TWO) {
-                                try {
-                                    drawCardAndUpdateHand(true,2);
-                                } catch (DeckEmptyException ex) {
-                                    throw new RuntimeException(ex);
-                                }
-                                if (!gameOver) {
-                                    PauseTransition cpuDelay = new PauseTransition(Duration.seconds(0.5));
-                                    cpuDelay.setOnFinished(evt -> {
-                                        if (!gameOver) playCpuTurn();
-                                    });
-                                    cpuDelay.play();
-                                }
-                            }
-                            else if (playedCard.getValue() == UnoCard.Value.REVERSE ||
-                                    playedCard.getValue() == UnoCard.Value.SKIP) {
-                                if (!gameOver) {
-                                    PauseTransition cpuDelay = new PauseTransition(Duration.seconds(0.5));
-                                    cpuDelay.setOnFinished(evt -> {
-                                        if (!gameOver) playCpuTurn();
-                                    });
-                                    cpuDelay.play();
-                                }
-                            }
-                        });
-                    } else {
-                        // La CPU roba una carta
-                        try {
-                            // CORREGIDO: Verificar que hay cartas disponibles
-                            UnoCard drawnCard = gameModel.drawCpuCard();
-
-                            // Crear una nueva carta boca abajo para la CPU
-                            ImageView newCard = new ImageView(new Image(Objects.requireNonNull(getClass().getResourceAsStream(prefix + "card_uno.png"))));
-                            newCard.setFitWidth(80);
-                            newCard.setPreserveRatio(true);
-
-                            // Animación para la carta robada
-                            cpuHand.getChildren().add(newCard);
-                            gameView.animateFadeIn(newCard, Duration.millis(500), () -> {
-                                // Después de robar, cambiar al turno del usuario
-                                gameModel.switchTurn();
-                            });
-                        } catch (DeckEmptyException ex) {
-                            // CORREGIDO: Manejar caso cuando el mazo está vacío
-                            gameView.showAlertSafely("Sin cartas", "No quedan cartas en el mazo.", Alert.AlertType.WARNING);
-                            gameModel.switchTurn(); // Dar turno al jugador
-                        }
-                    }
-                } catch (Exception ex) {
-                    // Manejar excepciones en la lógica de juego
-                    gameView.showAlertSafely("Error", "Error en el turno de la CPU: " + ex.getMessage(), Alert.AlertType.ERROR);
-                    // En caso de error, dar turno al jugador
-                    gameModel.switchTurn();
-                }
-            });
-            delay.play();
-        });
+        // Rojo si se elige o si no se elige un color
+        return UnoCard.Color.RED;
     }
 
     /**
@@ -694,15 +691,12 @@ public class GameViewController {
             // Animación o efecto al presionar UNO
             gameView.showAlertSafely("¡UNO!", "¡Has dicho UNO a tiempo!", Alert.AlertType.INFORMATION);
 
-            if (userUnoThread != null) {
-                userUnoThread.interrupt();
-                userUnoThread = null;
-            }
+            cancelUserUnoTimer();
         }
     }
 
     /**
-     * Starts the timer thread for the user's UNO declaration window.
+     * Arms the timer for the user's UNO declaration window.
      */
     private void startUserUnoTimer() {
         if (gameOver) return;
@@ -712,11 +706,8 @@ public class GameViewController {
 
         // Mostramos el botón UNO solo si el usuario tiene una carta
         if (gameModel.getUserHand().size() == 1) {
-            // Detener cualquier hilo anterior
-            if (userUnoThread != null) {
-                userUnoThread.interrupt();
-                userUnoThread = null;
-            }
+            // Cancelar cualquier temporizador anterior
+            cancelUserUnoTimer();
 
             Platform.runLater(() -> {
                 unoButton.setVisible(true);
@@ -724,38 +715,72 @@ public class GameViewController {
                 unoButton.setDisable(false);
             });
 
-            userUnoThread = new Thread(new TimerHandler(true), "HumanUnoTimer");
-            userUnoThread.setDaemon(true);
-            userUnoThread.start();
+            // Temporizador fijo de 3 segundos para que el usuario pulse UNO
+            scheduleUserUnoTimer(3000);
         }
     }
 
+    private void scheduleUserUnoTimer(long delayMillis) {
+        userUnoDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        userUnoTimeout = timerWheel.schedule(new TimerHandler(true), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void scheduleCpuUnoTimer(long delayMillis) {
+        cpuUnoDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        cpuUnoTimeout = timerWheel.schedule(new TimerHandler(false), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
     /**
-     * Starts the timer thread for the CPU's UNO declaration window.
+     * Handles the CPU being left with one card: if its strategy called UNO with the
+     * card it is declared at once; otherwise the user can catch the CPU until it
+     * notices and declares UNO late.
+     *
+     * @param callsUno whether the strategy called UNO with the card it played.
      */
-    private void startCpuUnoTimer() {
+    private void startCpuUnoTimer(boolean callsUno) {
         if (gameOver) return;
 
         // Reiniciamos las banderas
         cpuDeclaredUno = false;
         playerCaughtCpu = false;
 
-        if (cpuUnoThread != null) {
-            cpuUnoThread.interrupt();
-            cpuUnoThread = null;
+        cancelCpuUnoTimer();
+
+        if (gameModel.getCpuHand().size() != 1) return;
+        if (callsUno) {
+            cpuDeclaredUno = true;
+            recordTimer(false, "declarado");
+            gameView.showAlertSafely("¡UNO!", "La CPU ha declarado UNO", Alert.AlertType.INFORMATION);
+            return;
         }
 
-        // Mostrar el botón para atrapar a la CPU si la CPU tiene una carta
-        if (gameModel.getCpuHand().size() == 1) {
-            Platform.runLater(() -> catchCpuButton.setVisible(true));
+        // Mostrar el botón para atrapar a la CPU, que olvidó decir UNO
+        Platform.runLater(() -> catchCpuButton.setVisible(true));
+
+        // Tiempo aleatorio antes de que la CPU se dé cuenta y declare UNO (entre 1-3 segundos)
+        int delay = 1000 + timerRandom.nextInt(2000);
+        scheduleCpuUnoTimer(delay);
+    }
 
-            cpuUnoThread = new Thread(new TimerHandler(false), "CpuUnoTimer");
-            cpuUnoThread.setDaemon(true);
-            cpuUnoThread.start();
+    /**
+     * Emits the JFR event of a closed UNO window. Must run on the FX thread, which
+     * owns the model.
+     */
+    private void recordTimer(boolean userTimer, String outcome) {
+        UnoTimerEvent event = new UnoTimerEvent();
+        if (event.isEnabled()) {
+            event.userTimer = userTimer;
+            event.outcome = outcome;
+            event.userHandSize = gameModel.getHand(true).size();
+            event.cpuHandSize = gameModel.getHand(false).size();
+            event.commit();
         }
     }
 
-    // Reemplaza la clase TimerHandler existente en GameViewController.java
+    /**
+     * Task run by the shared timer wheel when an UNO declaration window closes.
+     * Runs on the wheel thread, so all UI work is handed to the FX thread.
+     */
     private class TimerHandler implements Runnable {
         private final boolean isUserTimer;
 
@@ -765,69 +790,38 @@ public class GameViewController {
 
         @Override
         public void run() {
-            try {
-                // El tiempo depende de si es usuario o CPU
-                if (isUserTimer) {
-                    // Temporizador fijo de 3 segundos para que el usuario pulse UNO
-                    Thread.sleep(3000);
-
-                    // Verificar si el juego sigue activo antes de hacer cualquier cosa
-                    if (gameOver) return;
-
-                    Platform.runLater(() -> {
-                        // Si el botón aún está visible y no se ha presionado
-                        if (!gameOver && unoButton.isVisible() && !userUnoClicked) {
-                            // Aplicar penalización: el usuario SIEMPRE roba 2 cartas
-                            try {
-                                // Llamar al método centralizado para robar 2 cartas
-                                drawCardAndUpdateHand(true, 2);
-                                unoButton.setVisible(false);
-                                gameView.showDrawCardsMessage(
-                                        "Has recibido 2 cartas de penalización por no decir UNO.",
-                                        false
-                                );
-                            } catch (DeckEmptyException e) {
-                                gameView.showAlertSafely("Error", e.getMessage(), Alert.AlertType.ERROR);
-                            } finally {
-                                // Asegurar que el botón esté oculto
-                                unoButton.setVisible(false);
-                            }
+            if (isUserTimer) {
+                Platform.runLater(() -> {
+                    String outcome = "sin efecto";
+                    // Si el botón aún está visible y no se ha presionado
+                    if (!gameOver && unoButton.isVisible() && !userUnoClicked) {
+                        outcome = "penalizado";
+                        // Aplicar penalización: el usuario SIEMPRE roba 2 cartas
+                        if (turns.drawPenalty(GameModel.USER_SEAT, 2) == 2) {
+                            gameView.showDrawCardsMessage(
+                                    "Has recibido 2 cartas de penalización por no decir UNO.",
+                                    false
+                            );
                         } else {
-                            // Asegurarse de que el botón esté oculto en todos los casos
-                            unoButton.setVisible(false);
+                            gameView.showAlertSafely("Error", "No quedan cartas en el mazo ni en el descarte", Alert.AlertType.ERROR);
                         }
-                    });
-                } else {
-                    // Tiempo aleatorio antes de que la CPU declare UNO (entre 1-3 segundos)
-                    int delay = 1000 + new Random().nextInt(2000);
-                    Thread.sleep(delay);
-
-                    // Verificar si el juego sigue activo
-                    if (gameOver) return;
-
-                    // Verificar si el jugador ha atrapado a la CPU durante este tiempo
-                    if (!playerCaughtCpu && gameModel.getCpuHand().size() == 1) {
-                        cpuDeclaredUno = true;
-
-                        Platform.runLater(() -> {
-                            if (!gameOver) {
-                                gameView.showAlertSafely("¡UNO!", "La CPU ha declarado UNO", Alert.AlertType.INFORMATION);
-                                // Ocultar el botón de atrapar a la CPU
-                                catchCpuButton.setVisible(false);
-                            }
-                        });
                     }
-                }
-            } catch (InterruptedException ignored) {
-                // Simplemente terminar el hilo si es interrumpido
-            } finally {
-                // Asegurar que los botones se oculten en el hilo de UI
+                    // Asegurarse de que el botón esté oculto en todos los casos
+                    unoButton.setVisible(false);
+                    recordTimer(true, outcome);
+                });
+            } else {
+                // El modelo solo se lee y modifica en el hilo de JavaFX
                 Platform.runLater(() -> {
-                    if (isUserTimer) {
-                        unoButton.setVisible(false);
-                    } else {
-                        catchCpuButton.setVisible(false);
+                    // Verificar si el jugador ha atrapado a la CPU durante este tiempo
+                    boolean declared = !gameOver && !playerCaughtCpu && gameModel.getCpuHand().size() == 1;
+                    recordTimer(false, declared ? "declarado" : "sin efecto");
+                    if (declared) {
+                        cpuDeclaredUno = true;
+                        gameView.showAlertSafely("¡UNO!", "La CPU ha declarado UNO", Alert.AlertType.INFORMATION);
                     }
+                    // Ocultar el botón de atrapar a la CPU
+                    catchCpuButton.setVisible(false);
                 });
             }
         }
@@ -845,21 +839,16 @@ public class GameViewController {
             playerCaughtCpu = true;
             catchCpuButton.setVisible(false);
 
-            // Detener el hilo de CPU UNO
-            if (cpuUnoThread != null) {
-                cpuUnoThread.interrupt();
-                cpuUnoThread = null;
-            }
+            // Cancelar el temporizador de UNO de la CPU
+            cancelCpuUnoTimer();
 
             // Si el jugador atrapa a la CPU antes de que declare UNO
             if (!cpuDeclaredUno && gameModel.getCpuHand().size() == 1) {
                 // Penalizar a la CPU - SIEMPRE debe robar exactamente 2 cartas
-                try {
-                    // Usar nuestro método centralizado para robar 2 cartas
-                    drawCardAndUpdateHand(false, 2);
+                if (turns.drawPenalty(GameModel.CPU_SEAT, 2) == 2) {
                     gameView.showAlertSafely("¡Atrapada!", "¡Has atrapado a la CPU antes de que dijera UNO!\nLa CPU ha robado 2 cartas de penalización.", Alert.AlertType.INFORMATION);
-                } catch (DeckEmptyException ex) {
-                    gameView.showAlertSafely("Error", "No hay suficientes cartas para la penalización: " + ex.getMessage(), Alert.AlertType.ERROR);
+                } else {
+                    gameView.showAlertSafely("Error", "No hay suficientes cartas para la penalización", Alert.AlertType.ERROR);
                 }
             } else {
                 // Si el jugador presiona el botón pero la CPU no tiene una carta o ya declaró UNO
@@ -14,5 +14,22 @@ public interface ICardPlayer {
     UnoCard drawCard() throws DeckEmptyException;
     boolean canPlayCard();
     void declareUno();
+
+    /**
+     * Called when a new game starts on the player's model. By default does nothing.
+     */
+    default void onGameStart() {
+    }
+
+    /**
+     * Called after every move of every seat, the player's own included.
+     * By default does nothing.
+     *
+     * @param seat  the seat that moved.
+     * @param code  the card it played, or {@link com.example.unogame.model.GameModel#NO_CARD} if it drew.
+     * @param color the color chosen for a wild card, or null.
+     */
+    default void onMove(int seat, int code, UnoCard.Color color) {
+    }
 }
 
@@ -0,0 +1,344 @@
+package com.example.unogame.engine;
+
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.exceptions.GameRuleException;
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+import com.example.unogame.model.interfaces.IGameModel;
+import com.example.unogame.save.GameSaveFile;
+import com.example.unogame.save.UnoTimerState;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Headless UNO engine that drives a {@link GameModel} without JavaFX.
+ * Implements the complete turn flow (initial card, special card effects and CPU
+ * turns) directly on the model, so a full game can be played in a tight loop
+ * with no timers or delays. To run the game window's own sequencing headless,
+ * see {@link com.example.unogame.turn.TurnMachineRunner}.
+ *
+ * <p>Every seat is played automatically: CPU seats use the model's
+ * "first valid card" rule and the user seat plays the first valid card,
+ * otherwise draws one card and plays it if possible. Tables of 2 to
+ * {@link GameModel#MAX_SEATS} seats are supported.</p>
+ *
+ * @author
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ * @version 1.0
+ */
+public class HeadlessGameEngine implements IGameModel {
+    /** Safety cap so a blocked game (no cards left anywhere) always terminates. */
+    public static final int MAX_TURNS = 10_000;
+
+    private final GameModel model;
+    private int turns;
+    private int consecutivePasses;
+    private boolean stalemate;
+
+    /**
+     * Creates an engine with a freshly dealt game.
+     *
+     * @throws DeckEmptyException if the deck runs out during initial dealing.
+     */
+    public HeadlessGameEngine() throws DeckEmptyException {
+        model = new GameModel();
+        startGame();
+    }
+
+    /**
+     * Creates an engine that continues the position already in the given model,
+     * without dealing. Used to play simulations from a copied position.
+     *
+     * @param model the model to drive.
+     */
+    public HeadlessGameEngine(GameModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Creates an engine for a table of the given size; seat {@link GameModel#USER_SEAT}
+     * is played by the automatic user strategy and the rest by the CPU rule.
+     *
+     * @param seatCount the number of seats, from 2 to {@link GameModel#MAX_SEATS}.
+     * @param seed      the shuffle seed of the first game.
+     * @throws DeckEmptyException if the deck runs out during initial dealing.
+     */
+    public HeadlessGameEngine(int seatCount, long seed) throws DeckEmptyException {
+        model = new GameModel(seatCount, seed);
+        startGame();
+    }
+
+    /**
+     * Creates an engine that continues a game saved with {@link #saveCheckpoint(Path)}
+     * (or by the GUI), including its random sequences.
+     *
+     * @param file the checkpoint file.
+     * @return the engine, ready for {@link #playGame()}.
+     * @throws IOException if the file cannot be read or is not valid.
+     */
+    public static HeadlessGameEngine resume(Path file) throws IOException {
+        return new HeadlessGameEngine(GameSaveFile.read(file).getModel());
+    }
+
+    /**
+     * Saves the current position and random state in the {@link GameSaveFile} format.
+     *
+     * @param file the checkpoint file, replaced atomically.
+     * @throws IOException if the file cannot be written.
+     */
+    public void saveCheckpoint(Path file) throws IOException {
+        GameSaveFile.write(file, model, UnoTimerState.NONE);
+    }
+
+    /**
+     * Discards the current game and deals a new one, applying the initial card rules.
+     * The underlying model is reused, so starting a game does not allocate.
+     *
+     * @throws DeckEmptyException if the deck runs out during initial dealing.
+     */
+    public void newGame() throws DeckEmptyException {
+        model.reset();
+        startGame();
+    }
+
+    /**
+     * Deals a new game from the given seed, applying the initial card rules.
+     *
+     * @param seed the shuffle seed.
+     * @throws DeckEmptyException if the deck runs out during initial dealing.
+     */
+    public void newGame(long seed) throws DeckEmptyException {
+        model.reset(seed);
+        startGame();
+    }
+
+    /**
+     * Treats the model's current position as the start of a new game for
+     * {@link #playGame()}: clears the turn counters without dealing.
+     */
+    public void resumeGame() {
+        turns = 0;
+        consecutivePasses = 0;
+        stalemate = false;
+    }
+
+    private void startGame() {
+        resumeGame();
+        handleInitialCard();
+    }
+
+    /**
+     * Applies the effect of the first card flipped onto the discard pile,
+     * mirroring the GUI: wild cards get a color chosen for the user,
+     * +2/+4 make the user draw. SKIP and REVERSE are already resolved by the
+     * model when dealing (the next seat, or the last seat in reverse, starts).
+     */
+    private void handleInitialCard() {
+        UnoCard topCard = model.getTopDiscard();
+
+        switch (topCard.getValue()) {
+            case WILD_DRAW_FOUR:
+                model.setWildColor(model.chooseBestColor(model.getHand(true)));
+                drawCards(true, 4);
+                model.setUserTurn(true);
+                break;
+            case WILD:
+                model.setWildColor(model.chooseBestColor(model.getHand(true)));
+                model.setUserTurn(true);
+                break;
+            case DRAW_TWO:
+                drawCards(true, 2);
+                model.setUserTurn(true);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Plays a complete game from the current position.
+     *
+     * @return the number of turns played.
+     */
+    public int playGame() {
+        while (!isFinished()) {
+            playTurn();
+        }
+        return turns;
+    }
+
+    /**
+     * Plays exactly one turn for whichever player is active.
+     */
+    public void playTurn() {
+        if (isFinished()) return;
+
+        int seat = model.getCurrentSeat();
+        boolean moved = seat == GameModel.USER_SEAT ? playUserTurn() : playCpuTurn(seat);
+
+        // Si nadie puede jugar ni robar durante una ronda completa, la partida queda bloqueada
+        consecutivePasses = moved ? 0 : consecutivePasses + 1;
+        if (consecutivePasses >= model.getSeatCount()) {
+            stalemate = true;
+        }
+        turns++;
+    }
+
+    /**
+     * Plays CPU turns until it is the user's turn again or the game ends.
+     * Used when the user seat is driven from outside (GUI, network client).
+     */
+    public void playUntilUserTurn() {
+        while (!isFinished() && !model.isUserTurn()) {
+            playTurn();
+        }
+    }
+
+    /**
+     * CPU turn: play the first valid card, otherwise draw one card and pass.
+     *
+     * @param seat the CPU seat to play.
+     * @return false if the CPU could neither play nor draw.
+     */
+    private boolean playCpuTurn(int seat) {
+        int code = model.findPlayableCode(seat);
+        if (code != GameModel.NO_CARD) {
+            model.playSeat(seat, code);
+            return true;
+        }
+
+        int drawn = model.drawCode(seat);
+        model.switchTurn();
+        return drawn != GameModel.NO_CARD;
+    }
+
+    /**
+     * Automatic user turn: play the first valid card; otherwise draw one card
+     * and play it immediately if it fits, as the GUI allows.
+     *
+     * @return false if the user could neither play nor draw.
+     */
+    private boolean playUserTurn() {
+        int code = model.findPlayableCode(true);
+        if (code != GameModel.NO_CARD) {
+            playUserCard(code);
+            return true;
+        }
+
+        int drawn = model.drawCode(true);
+        if (drawn == GameModel.NO_CARD) {
+            model.switchTurn();
+            return false;
+        }
+        if (model.isValidPlay(UnoCard.of(drawn))) {
+            playUserCard(drawn);
+        } else {
+            model.switchTurn();
+        }
+        return true;
+    }
+
+    private int playUserCard(int code) {
+        int status = model.play(code, true);
+        if (status >= 0 && code >= UnoCard.WILD_CODE) {
+            model.setWildColor(model.chooseBestColor(model.getHand(true)));
+        }
+        return status;
+    }
+
+    private void drawCards(boolean isUser, int count) {
+        for (int i = 0; i < count; i++) {
+            if (model.drawCode(isUser) == GameModel.NO_CARD) return;
+        }
+    }
+
+    /**
+     * Draws a card into the given player's hand.
+     *
+     * @param isUser true to draw for the user, false for the CPU.
+     * @return the drawn card, or null if neither the deck nor the discard pile has cards left.
+     */
+    @Override
+    public UnoCard drawCard(boolean isUser) {
+        int code = model.drawCode(isUser);
+        if (code == GameModel.NO_CARD) return null;
+        consecutivePasses = 0;
+        return UnoCard.of(code);
+    }
+
+    /**
+     * Plays a card for the given player, including the special effect handling
+     * the GUI performs afterwards (color choice for wild cards).
+     * Draw penalties and skips are applied by {@link GameModel#play}.
+     *
+     * @param card   the card to play, or null to let the CPU pick one.
+     * @param isUser true if the user is playing; false for the CPU.
+     * @return the played card, or null if the CPU had no valid card.
+     * @throws GameRuleException if the card cannot be legally played.
+     */
+    @Override
+    public UnoCard playCard(UnoCard card, boolean isUser) {
+        if (card == null) {
+            if (isUser) {
+                throw new GameRuleException("Debe indicarse la carta del usuario.");
+            }
+            int code = model.findPlayableCode(false);
+            if (code == GameModel.NO_CARD) return null;
+            card = UnoCard.of(code);
+        }
+
+        int status = isUser ? playUserCard(card.getCode()) : model.play(card.getCode(), false);
+        if (status < 0) {
+            throw new GameRuleException("Jugada no permitida (estado " + status + "): " + card);
+        }
+        consecutivePasses = 0;
+        return card;
+    }
+
+    @Override
+    public boolean isValidPlay(UnoCard card) {
+        return model.isValidPlay(card);
+    }
+
+    @Override
+    public boolean isGameOver() {
+        return model.isGameOver();
+    }
+
+    @Override
+    public void switchTurn() {
+        model.switchTurn();
+    }
+
+    /**
+     * Returns true once the game is over, blocked, or has hit {@link #MAX_TURNS}.
+     *
+     * @return whether the game loop should stop.
+     */
+    public boolean isFinished() {
+        return model.isGameOver() || stalemate || turns >= MAX_TURNS;
+    }
+
+    /**
+     * Returns true if the game ended without a winner.
+     *
+     * @return true for blocked or capped games.
+     */
+    public boolean isStalemate() {
+        return !model.isGameOver() && isFinished();
+    }
+
+    public boolean userWins() {
+        return model.userWins();
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public GameModel getModel() {
+        return model;
+    }
+}
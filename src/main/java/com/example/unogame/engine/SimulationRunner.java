@@ -0,0 +1,66 @@
+package com.example.unogame.engine;
+
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.jfr.UnoFlightRecorder;
+import com.example.unogame.model.GameModel;
+
+/**
+ * Command-line entry point that plays headless games back to back
+ * and reports throughput in games per second.
+ *
+ * <p>Usage: {@code java -cp target/classes com.example.unogame.engine.SimulationRunner [games] [warmupGames] [seats]}</p>
+ *
+ * @author
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ * @version 1.0
+ */
+public class SimulationRunner {
+    private static final int DEFAULT_GAMES = 200_000;
+    private static final int DEFAULT_WARMUP = 20_000;
+
+    /**
+     * Runs the simulation.
+     *
+     * @param args optional number of measured games, warm-up games and seats.
+     * @throws DeckEmptyException if a game cannot be dealt.
+     */
+    public static void main(String[] args) throws DeckEmptyException {
+        UnoFlightRecorder.startIfRequested();
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        int warmup = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_WARMUP;
+        int seats = args.length > 2 ? Integer.parseInt(args[2]) : GameModel.MIN_SEATS;
+
+        HeadlessGameEngine engine = new HeadlessGameEngine(seats, System.nanoTime());
+
+        // Calentamiento para que el JIT compile el bucle de turnos antes de medir
+        for (int i = 0; i < warmup; i++) {
+            engine.newGame();
+            engine.playGame();
+        }
+
+        long userWins = 0;
+        long stalemates = 0;
+        long totalTurns = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            engine.newGame();
+            totalTurns += engine.playGame();
+            if (engine.isStalemate()) {
+                stalemates++;
+            } else if (engine.userWins()) {
+                userWins++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double seconds = elapsed / 1_000_000_000.0;
+        System.out.printf("Partidas: %d en %.3f s%n", games, seconds);
+        System.out.printf("Partidas/segundo: %.0f%n", games / seconds);
+        System.out.printf("Turnos/segundo: %.0f (%.1f turnos por partida)%n",
+                totalTurns / seconds, (double) totalTurns / games);
+        System.out.printf("Asientos: %d%n", seats);
+        System.out.printf("Victorias usuario: %.2f%%  CPU: %.2f%%  bloqueadas: %d%n",
+                100.0 * userWins / games, 100.0 * (games - userWins - stalemates) / games, stalemates);
+    }
+}
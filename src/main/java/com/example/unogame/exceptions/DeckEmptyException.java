@@ -2,15 +2,17 @@ package com.example.unogame.exceptions;
 
 /**
  * Thrown when attempting to draw from an empty deck.
+ * Running out of cards is an expected game situation rather than a bug,
+ * so the exception skips filling in its stack trace.
  *
  * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
  */
 public class DeckEmptyException extends Exception {
     public DeckEmptyException() {
-        super("No hay más cartas disponibles en el mazo");
+        this("No hay más cartas disponibles en el mazo");
     }
 
     public DeckEmptyException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
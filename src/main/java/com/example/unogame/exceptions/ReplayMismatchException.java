@@ -0,0 +1,27 @@
+package com.example.unogame.exceptions;
+
+/**
+ * Thrown when replaying a recorded game does not reproduce it exactly.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+public class ReplayMismatchException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final int eventIndex;
+
+    public ReplayMismatchException(String message, int eventIndex) {
+        super(message + " (evento " + eventIndex + ")");
+        this.eventIndex = eventIndex;
+    }
+
+    /**
+     * Returns the index of the recorded event where the replay diverged,
+     * or -1 if only the final state differs.
+     *
+     * @return the event index.
+     */
+    public int getEventIndex() {
+        return eventIndex;
+    }
+}
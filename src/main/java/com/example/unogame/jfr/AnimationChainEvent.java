@@ -0,0 +1,32 @@
+package com.example.unogame.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One chain of animations and pauses in the game view, from the action that
+ * starts it until its last callback runs.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+@Name("com.example.unogame.AnimationChain")
+@Label("Cadena de animaciones")
+@Category({"UNO", "Interfaz"})
+@StackTrace(false)
+public final class AnimationChainEvent extends jdk.jfr.Event {
+    @Label("Cadena")
+    @Description("userPlay, userDraw o cpuTurn")
+    public String chain;
+
+    @Label("Código de carta")
+    public int code;
+
+    @Label("Cartas del usuario")
+    public int userHandSize;
+
+    @Label("Cartas de la CPU")
+    public int cpuHandSize;
+}
@@ -0,0 +1,32 @@
+package com.example.unogame.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A card drawn into a hand, including the draws of penalties.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+@Name("com.example.unogame.CardDraw")
+@Label("Carta robada")
+@Category({"UNO", "Modelo"})
+@Description("GameModel.drawCode: robo de una carta, con la recarga del mazo si hace falta")
+@StackTrace(false)
+public final class CardDrawEvent extends jdk.jfr.Event {
+    @Label("Asiento")
+    public int seat;
+
+    @Label("Código de carta")
+    @Description("-1 si no quedaban cartas en el mazo ni en el descarte")
+    public int code;
+
+    @Label("Cartas en mano")
+    public int handSize;
+
+    @Label("Cartas en el mazo")
+    public int deckSize;
+}
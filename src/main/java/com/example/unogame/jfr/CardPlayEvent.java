@@ -0,0 +1,36 @@
+package com.example.unogame.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A card played on a {@link com.example.unogame.model.GameModel}, with the
+ * resulting status and hand size.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+@Name("com.example.unogame.CardPlay")
+@Label("Carta jugada")
+@Category({"UNO", "Modelo"})
+@Description("GameModel.playSeat: validación, efecto de la carta y cambio de turno")
+@StackTrace(false)
+public final class CardPlayEvent extends jdk.jfr.Event {
+    @Label("Asiento")
+    public int seat;
+
+    @Label("Código de carta")
+    public int code;
+
+    @Label("Estado")
+    @Description("PLAYED 0, PLAYED_DECK_EXHAUSTED 1, o negativo si la jugada se rechazó")
+    public int status;
+
+    @Label("Cartas en mano")
+    public int handSize;
+
+    @Label("Cartas en el mazo")
+    public int deckSize;
+}
@@ -0,0 +1,50 @@
+package com.example.unogame.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Time a CPU seat spent choosing its move.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+@Name("com.example.unogame.CpuDecision")
+@Label("Decisión de la CPU")
+@Category({"UNO", "CPU"})
+@StackTrace(false)
+public final class CpuDecisionEvent extends jdk.jfr.Event {
+    @Label("Estrategia")
+    public String strategy;
+
+    @Label("Asiento")
+    public int seat;
+
+    @Label("Cartas en mano")
+    public int handSize;
+
+    @Label("Código de carta")
+    @Description("Carta elegida, o -1 para robar")
+    public int code;
+
+    @Label("Simulaciones")
+    @Description("Partidas simuladas por las CPU de búsqueda; 0 para las demás")
+    public long rollouts;
+
+    /**
+     * Ends the decision and commits it if the recording's threshold lets it through.
+     */
+    public void finish(String strategy, int seat, int handSize, int code, long rollouts) {
+        end();
+        if (shouldCommit()) {
+            this.strategy = strategy;
+            this.seat = seat;
+            this.handSize = handSize;
+            this.code = code;
+            this.rollouts = rollouts;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.unogame.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The discard pile shuffled back into an empty draw pile.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+@Name("com.example.unogame.DeckRefill")
+@Label("Recarga del mazo")
+@Category({"UNO", "Modelo"})
+@StackTrace(false)
+public final class DeckRefillEvent extends jdk.jfr.Event {
+    @Label("Cartas barajadas")
+    public int cards;
+
+    @Label("Carta superior del descarte")
+    public int topCode;
+}
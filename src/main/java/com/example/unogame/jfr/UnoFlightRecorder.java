@@ -0,0 +1,71 @@
+package com.example.unogame.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+
+/**
+ * Starts a flight recording with the {@code uno.jfc} profile shipped with the
+ * application when the {@code uno.jfr} system property names an output file,
+ * e.g. {@code -Duno.jfr=uno.jfr}. The recording is written when the JVM exits.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class UnoFlightRecorder {
+    /** Classpath location of the production profile. */
+    public static final String PROFILE = "/com/example/unogame/jfr/uno.jfc";
+
+    private UnoFlightRecorder() {
+    }
+
+    /**
+     * Starts the recording if {@code -Duno.jfr} is set; does nothing otherwise.
+     */
+    public static void startIfRequested() {
+        String file = System.getProperty("uno.jfr");
+        if (file == null || file.isBlank()) {
+            return;
+        }
+        try {
+            start(Paths.get(file));
+        } catch (IOException | ParseException e) {
+            System.err.println("No se pudo iniciar la grabación de JFR: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Starts a recording with the shipped profile that is dumped to a file on exit.
+     *
+     * @param destination the .jfr file.
+     * @return the running recording.
+     * @throws IOException    if the profile cannot be read or the file cannot be written.
+     * @throws ParseException if the profile is not valid.
+     */
+    public static Recording start(Path destination) throws IOException, ParseException {
+        Configuration configuration;
+        try (InputStream in = UnoFlightRecorder.class.getResourceAsStream(PROFILE)) {
+            if (in == null) {
+                throw new IOException("No se encuentra el perfil " + PROFILE);
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                configuration = Configuration.create(reader);
+            }
+        }
+        Recording recording = new Recording(configuration);
+        recording.setName("UNO");
+        recording.setDestination(destination);
+        recording.setDumpOnExit(true);
+        recording.start();
+        return recording;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.unogame.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An UNO declaration window closing on the timer wheel.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+@Name("com.example.unogame.UnoTimer")
+@Label("Temporizador de UNO")
+@Category({"UNO", "Interfaz"})
+@StackTrace(false)
+public final class UnoTimerEvent extends jdk.jfr.Event {
+    @Label("Temporizador del usuario")
+    public boolean userTimer;
+
+    @Label("Resultado")
+    public String outcome;
+
+    @Label("Cartas del usuario")
+    public int userHandSize;
+
+    @Label("Cartas de la CPU")
+    public int cpuHandSize;
+}
@@ -0,0 +1,336 @@
+package com.example.unogame.journal;
+
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+import com.example.unogame.model.interfaces.IGameEventListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Append-only binary journal of games, written to memory-mapped segment files.
+ *
+ * <p>Every event is one {@value #RECORD_SIZE}-byte record:</p>
+ * <pre>
+ *   0  type      (byte)  START, SNAPSHOT, SEED, PLAY, DRAW, COLOR, TURN, END
+ *   1  seat      (byte)
+ *   2  code      (byte)  card code, or -1
+ *   3  color     (byte)  color ordinal, or -1
+ *   4  game id   (int)
+ *   8  payload   (long)  wall-clock millis, 8 bytes of a position snapshot, or a seed
+ * </pre>
+ * A game starts with a START record (seat = seat count, code/color = snapshot
+ * length) followed by the {@link GameModel#snapshot position snapshot} packed
+ * into SNAPSHOT records, so the initial shuffle and deal are recorded exactly,
+ * and a SEED record with the {@link GameModel#getSeed() game seed}, which also
+ * fixes every later reshuffle.
+ *
+ * <p>Appending writes into the mapped segment with no system call and no lock:
+ * each record reserves its slot by advancing the segment's write position
+ * atomically, so the event loops of a server append to one journal in parallel,
+ * and the records of each game keep their order. Only the writer that finds the
+ * segment full takes the lock, to force it to disk and map the next one. A
+ * background thread forces the current segment (and the one just replaced,
+ * whose last slots may still have been in flight) every flush interval, which
+ * bounds how many events a crash can lose. Segment files are named
+ * {@code journal-NNNNNN.seg}, begin with a one-record header and end at the
+ * first zero record; the type byte is written last.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class GameJournal implements Closeable {
+    public static final int RECORD_SIZE = 16;
+    public static final long DEFAULT_SEGMENT_SIZE = 64L << 20;
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 200;
+
+    public static final byte START = 1;
+    public static final byte SNAPSHOT = 2;
+    public static final byte PLAY = 3;
+    public static final byte DRAW = 4;
+    public static final byte COLOR = 5;
+    public static final byte TURN = 6;
+    public static final byte END = 7;
+    public static final byte SEED = 8;
+
+    static final int MAGIC = 0x554E4F4A; // "UNOJ"
+    static final short VERSION = 1;
+    static final String SEGMENT_PREFIX = "journal-";
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final long segmentSize;
+    private final AtomicInteger nextGameId = new AtomicInteger(1);
+    private final ScheduledExecutorService flusher;
+    private final LongAdder records = new LongAdder();
+    private volatile Segment current;
+    private Segment previous; // Sustituido en el último cambio de segmento, aún sin forzar del todo
+    private int segmentIndex;
+    private volatile boolean closed;
+
+    /**
+     * Opens a journal with the default segment size and flush interval.
+     *
+     * @param directory the directory holding the segments; created if missing.
+     * @throws IOException if the first segment cannot be mapped.
+     */
+    public GameJournal(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Opens a journal that continues after the last segment already in the directory.
+     *
+     * @param directory       the directory holding the segments; created if missing.
+     * @param segmentSize     the size of each segment file in bytes.
+     * @param flushIntervalMs how often the current segment is forced to disk;
+     *                        0 forces only on rollover and close.
+     * @throws IOException if the first segment cannot be mapped.
+     */
+    public GameJournal(Path directory, long segmentSize, long flushIntervalMs) throws IOException {
+        if (segmentSize < 2 * RECORD_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tamaño de segmento no válido: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize - segmentSize % RECORD_SIZE;
+        Files.createDirectories(directory);
+        this.segmentIndex = lastSegmentIndex(directory);
+        this.current = openNextSegment();
+
+        if (flushIntervalMs > 0) {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "UnoJournalFlusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            flusher = null;
+        }
+    }
+
+    /**
+     * Starts journaling a model: records its current position as a game start and
+     * adds a listener for its next events and games, next to the model's other listeners.
+     *
+     * @param model the model to record.
+     * @return the listener added to the model, to remove it when recording should stop.
+     */
+    public IGameEventListener attach(GameModel model) {
+        Recorder recorder = new Recorder();
+        model.addEventListener(recorder);
+        recorder.onGameStart(model);
+        return recorder;
+    }
+
+    /**
+     * Appends one record. Safe to call from several threads; never locks nor
+     * performs I/O unless the segment is full.
+     */
+    void append(byte type, int seat, int code, int color, int gameId, long payload) {
+        while (!closed) {
+            Segment segment = current;
+            int slot = segment.reserve();
+            if (slot < 0) {
+                rollover(segment);
+                continue;
+            }
+            MappedByteBuffer buffer = segment.buffer;
+            buffer.put(slot + 1, (byte) seat);
+            buffer.put(slot + 2, (byte) code);
+            buffer.put(slot + 3, (byte) color);
+            buffer.putInt(slot + 4, gameId);
+            buffer.putLong(slot + 8, payload);
+            // El tipo va el último: un registro a medias se lee como el final del segmento
+            buffer.put(slot, type);
+            records.increment();
+            return;
+        }
+    }
+
+    /**
+     * Replaces a full segment with the next one, unless another writer already did.
+     */
+    private synchronized void rollover(Segment full) {
+        if (closed || current != full) return;
+        try {
+            full.buffer.force();
+            full.channel.close();
+            previous = full;
+            current = openNextSegment();
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo abrir un nuevo segmento del diario", e);
+        }
+    }
+
+    private Segment openNextSegment() throws IOException {
+        segmentIndex++;
+        Path file = directory.resolve(segmentName(segmentIndex));
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+
+        // Cabecera: ocupa el primer registro del segmento
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) RECORD_SIZE);
+        buffer.putInt(segmentIndex);
+        buffer.putInt(0);
+        return new Segment(segmentIndex, channel, buffer, (int) segmentSize);
+    }
+
+    /**
+     * Forces the records written so far in the current segment to disk, and those
+     * that were still being written into the previous one when it was replaced.
+     */
+    public void flush() {
+        Segment replaced;
+        Segment segment;
+        synchronized (this) {
+            if (closed) return;
+            replaced = previous;
+            previous = null;
+            segment = current;
+        }
+        if (replaced != null) {
+            replaced.buffer.force();
+        }
+        segment.buffer.force();
+    }
+
+    public long getRecordCount() {
+        return records.sum();
+    }
+
+    public int getSegmentIndex() {
+        return current.index;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            if (previous != null) {
+                previous.buffer.force();
+            }
+            current.buffer.force();
+            current.channel.close();
+        }
+    }
+
+    static String segmentName(int index) {
+        return String.format("%s%06d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+    }
+
+    static int lastSegmentIndex(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .mapToInt(name -> Integer.parseInt(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .max().orElse(0);
+        }
+    }
+
+    /**
+     * One mapped segment file and the offset of its next free record.
+     */
+    private static final class Segment {
+        final int index;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        private final int limit;
+        private final AtomicInteger next = new AtomicInteger(RECORD_SIZE);
+
+        Segment(int index, FileChannel channel, MappedByteBuffer buffer, int limit) {
+            this.index = index;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.limit = limit;
+        }
+
+        /**
+         * Reserves the next record slot.
+         *
+         * @return its offset, or -1 if the segment is full.
+         */
+        int reserve() {
+            int slot = next.getAndAdd(RECORD_SIZE);
+            return slot >= 0 && slot <= limit - RECORD_SIZE ? slot : -1;
+        }
+    }
+
+    /**
+     * Listener attached to one model; each game it sees gets a new game id.
+     */
+    private final class Recorder implements IGameEventListener {
+        private byte[] snapshot = new byte[256];
+        private int gameId;
+
+        @Override
+        public void onGameStart(GameModel model) {
+            gameId = nextGameId.getAndIncrement();
+            int size = model.snapshotSize();
+            if (snapshot.length < size) {
+                snapshot = new byte[size];
+            }
+            model.snapshot(snapshot, 0);
+
+            append(START, model.getSeatCount(), size >>> 8, size, gameId, System.currentTimeMillis());
+            for (int offset = 0; offset < size; offset += Long.BYTES) {
+                long chunk = 0;
+                for (int i = 0; i < Long.BYTES; i++) {
+                    int index = offset + i;
+                    chunk = (chunk << 8) | (index < size ? snapshot[index] & 0xFF : 0);
+                }
+                append(SNAPSHOT, 0, -1, -1, gameId, chunk);
+            }
+            append(SEED, 0, -1, -1, gameId, model.getSeed());
+        }
+
+        @Override
+        public void onCardPlayed(int seat, int code) {
+            append(PLAY, seat, code, -1, gameId, System.currentTimeMillis());
+        }
+
+        @Override
+        public void onCardDrawn(int seat, int code) {
+            append(DRAW, seat, code, -1, gameId, System.currentTimeMillis());
+        }
+
+        @Override
+        public void onWildColorChosen(UnoCard.Color color) {
+            append(COLOR, 0, -1, color == null ? -1 : color.ordinal(), gameId, System.currentTimeMillis());
+        }
+
+        @Override
+        public void onTurnChanged(int seat) {
+            append(TURN, seat, -1, -1, gameId, System.currentTimeMillis());
+        }
+
+        @Override
+        public void onGameOver(int winner) {
+            append(END, winner, -1, -1, gameId, System.currentTimeMillis());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.unogame.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the segments written by {@link GameJournal} in order.
+ *
+ * <p>Usage as a tool: {@code GameJournalReader <directory>} prints how many
+ * records of each type the journal holds and how many games ended.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class GameJournalReader {
+
+    /**
+     * Receives each record of the journal.
+     */
+    @FunctionalInterface
+    public interface RecordVisitor {
+        void visit(byte type, int seat, int code, int color, int gameId, long payload);
+    }
+
+    private GameJournalReader() {
+    }
+
+    /**
+     * Visits every record of every segment, oldest first.
+     *
+     * @param directory the journal directory.
+     * @param visitor   the record callback.
+     * @return the number of records read.
+     * @throws IOException if a segment cannot be read or has a bad header.
+     */
+    public static long read(Path directory, RecordVisitor visitor) throws IOException {
+        int last = GameJournal.lastSegmentIndex(directory);
+        long count = 0;
+        for (int index = 1; index <= last; index++) {
+            Path file = directory.resolve(GameJournal.segmentName(index));
+            if (Files.exists(file)) {
+                count += readSegment(file, visitor);
+            }
+        }
+        return count;
+    }
+
+    private static long readSegment(Path file, RecordVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != GameJournal.MAGIC || buffer.getShort() != GameJournal.VERSION
+                    || buffer.getShort() != GameJournal.RECORD_SIZE) {
+                throw new IOException("Segmento de diario no válido: " + file);
+            }
+            buffer.position(GameJournal.RECORD_SIZE);
+
+            long count = 0;
+            while (buffer.remaining() >= GameJournal.RECORD_SIZE) {
+                byte type = buffer.get();
+                if (type == 0) {
+                    break; // Fin de los registros escritos
+                }
+                int seat = buffer.get();
+                int code = buffer.get();
+                int color = buffer.get();
+                int gameId = buffer.getInt();
+                long payload = buffer.getLong();
+                visitor.visit(type, seat, code, color, gameId, payload);
+                count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Rebuilds the starting position of a game from its START record and the
+     * SNAPSHOT records that follow it.
+     *
+     * @param length the snapshot length stored in the START record.
+     * @param chunks the payloads of the SNAPSHOT records, in order.
+     * @return the snapshot bytes, ready for {@link com.example.unogame.model.GameModel#restore}.
+     */
+    public static byte[] assembleSnapshot(int length, long[] chunks) {
+        ByteBuffer bytes = ByteBuffer.allocate(chunks.length * Long.BYTES);
+        for (long chunk : chunks) {
+            bytes.putLong(chunk);
+        }
+        byte[] snapshot = new byte[length];
+        System.arraycopy(bytes.array(), 0, snapshot, 0, length);
+        return snapshot;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Uso: GameJournalReader <directorio>");
+            return;
+        }
+        long[] byType = new long[GameJournal.SEED + 1];
+        long total = read(Paths.get(args[0]), (type, seat, code, color, gameId, payload) -> {
+            if (type > 0 && type < byType.length) byType[type]++;
+        });
+        System.out.printf("Registros: %d%n", total);
+        System.out.printf("  partidas iniciadas: %d, terminadas: %d%n",
+                byType[GameJournal.START], byType[GameJournal.END]);
+        System.out.printf("  jugadas: %d, robos: %d, colores: %d, cambios de turno: %d%n",
+                byType[GameJournal.PLAY], byType[GameJournal.DRAW],
+                byType[GameJournal.COLOR], byType[GameJournal.TURN]);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.unogame.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Performance counters of the desktop game: user turn latency from click to
+ * discard-pile update, CPU decision latency, JavaFX frame interval, scene
+ * layout time (the layout pass of each pulse, without CSS or rendering) and
+ * the time to resume a saved game, plus the bytes allocated by
+ * the FX thread per turn.
+ *
+ * <p>Every turn ends with {@link #endTurn()}, which reads the FX thread's
+ * allocation counter and keeps the difference since the previous turn. The
+ * histograms can be written to a text file with {@link #writeReport(Path)} to
+ * compare builds.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class GameMetrics {
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    private final LatencyHistogram userTurn = new LatencyHistogram();
+    private final LatencyHistogram cpuDecision = new LatencyHistogram();
+    private final LatencyHistogram frameInterval = new LatencyHistogram();
+    private final LatencyHistogram layout = new LatencyHistogram();
+    private final LatencyHistogram resume = new LatencyHistogram();
+    private long turns;
+    private long allocatedBytes;
+    private long lastTurnBytes;
+    private long allocationMark = -1;
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    public LatencyHistogram userTurn() {
+        return userTurn;
+    }
+
+    public LatencyHistogram cpuDecision() {
+        return cpuDecision;
+    }
+
+    public LatencyHistogram frameInterval() {
+        return frameInterval;
+    }
+
+    /**
+     * Time of the scene layout pass of each pulse, between the pre- and
+     * post-layout pulse listeners.
+     *
+     * @return the histogram.
+     */
+    public LatencyHistogram layout() {
+        return layout;
+    }
+
+    /**
+     * Time to rebuild the table from a saved game, until its first move can be made.
+     *
+     * @return the histogram.
+     */
+    public LatencyHistogram resume() {
+        return resume;
+    }
+
+    /**
+     * Closes a turn and accounts the bytes the calling thread allocated since the
+     * previous one. Must always be called from the same thread (the FX thread).
+     */
+    public void endTurn() {
+        turns++;
+        if (THREADS == null) {
+            return;
+        }
+        long now = THREADS.getCurrentThreadAllocatedBytes();
+        if (allocationMark >= 0) {
+            lastTurnBytes = now - allocationMark;
+            allocatedBytes += lastTurnBytes;
+        }
+        allocationMark = now;
+    }
+
+    public long turns() {
+        return turns;
+    }
+
+    /**
+     * Returns the bytes allocated during the last finished turn, or -1 if the JVM
+     * cannot measure per-thread allocation.
+     *
+     * @return the bytes of the last turn.
+     */
+    public long lastTurnBytes() {
+        return THREADS == null ? -1 : lastTurnBytes;
+    }
+
+    /**
+     * Returns the mean bytes allocated per turn, or -1 if it cannot be measured.
+     *
+     * @return the mean bytes per turn.
+     */
+    public long meanTurnBytes() {
+        if (THREADS == null) {
+            return -1;
+        }
+        return turns > 1 ? allocatedBytes / (turns - 1) : 0;
+    }
+
+    /**
+     * Writes every histogram as a summary line followed by its non-empty buckets,
+     * one {@code name bucketUpperNanos count} line each.
+     *
+     * @param file the report file; replaced if it exists.
+     * @throws IOException if the file cannot be written.
+     */
+    public void writeReport(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write(String.format("turns %d%nbytesPerTurn %d%n", turns, meanTurnBytes()));
+            writeHistogram(out, "userTurn", userTurn);
+            writeHistogram(out, "cpuDecision", cpuDecision);
+            writeHistogram(out, "frameInterval", frameInterval);
+            writeHistogram(out, "layout", layout);
+            writeHistogram(out, "resume", resume);
+        }
+    }
+
+    private static void writeHistogram(Writer out, String name, LatencyHistogram histogram) throws IOException {
+        out.write("# " + name + " " + histogram.summary() + System.lineSeparator());
+        for (int i = 0; i < histogram.bucketCount(); i++) {
+            long count = histogram.bucketCount(i);
+            if (count > 0) {
+                long upper = i >= 62 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+                out.write(name + " " + upper + " " + count + System.lineSeparator());
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.unogame.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe latency histogram with logarithmic buckets.
+ *
+ * <p>Bucket {@code i} counts samples in {@code [2^i, 2^(i+1))} nanoseconds, so recording
+ * is a leading-zero count plus one atomic increment, and percentiles are accurate to
+ * within a factor of two. Suitable for hot paths shared by many threads.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class LatencyHistogram {
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private volatile long max;
+
+    /**
+     * Records one sample.
+     *
+     * @param nanos the latency in nanoseconds.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 1);
+        counts.incrementAndGet(63 - Long.numberOfLeadingZeros(value));
+        total.increment();
+        sum.add(value);
+        // Máximo aproximado sin CAS: basta para diagnóstico
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    public long count() {
+        return total.sum();
+    }
+
+    public long maxNanos() {
+        return max;
+    }
+
+    public double meanNanos() {
+        long n = total.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Returns an upper bound of the given percentile.
+     *
+     * @param percentile a value in {@code [0, 100]}.
+     * @return the upper edge of the bucket containing the percentile, in nanoseconds.
+     */
+    public long percentileNanos(double percentile) {
+        long n = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            n += snapshot[i];
+        }
+        if (n == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * n);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return i >= 62 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the number of samples in a bucket.
+     *
+     * @param bucket the bucket index; covers {@code [2^bucket, 2^(bucket+1))} ns.
+     * @return the sample count.
+     */
+    public long bucketCount(int bucket) {
+        return counts.get(bucket);
+    }
+
+    public int bucketCount() {
+        return BUCKETS;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        total.reset();
+        sum.reset();
+        max = 0;
+    }
+
+    /**
+     * Formats count, mean, p50, p99 and max in microseconds.
+     *
+     * @return a one-line summary.
+     */
+    public String summary() {
+        return String.format("n=%d mean=%.1fus p50=%.1fus p99=%.1fus max=%.1fus",
+                count(), meanNanos() / 1000.0, percentileNanos(50) / 1000.0,
+                percentileNanos(99) / 1000.0, maxNanos() / 1000.0);
+    }
+}
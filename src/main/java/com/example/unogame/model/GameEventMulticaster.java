@@ -0,0 +1,106 @@
+package com.example.unogame.model;
+
+import com.example.unogame.model.interfaces.IGameEventListener;
+
+import java.util.Arrays;
+
+/**
+ * Forwards the events of a {@link GameModel} to several listeners, in the order
+ * they were added. Immutable: adding or removing a listener builds a new one, so
+ * the model keeps a single field and a single null check on its hot paths.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+final class GameEventMulticaster implements IGameEventListener {
+    private final IGameEventListener[] listeners;
+
+    private GameEventMulticaster(IGameEventListener[] listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * Combines the listener installed on a model with one more.
+     *
+     * @param current the installed listener, or null.
+     * @param added   the listener to add.
+     * @return the listener to install.
+     */
+    static IGameEventListener add(IGameEventListener current, IGameEventListener added) {
+        if (current == null) return added;
+        IGameEventListener[] base = current instanceof GameEventMulticaster multicaster
+                ? multicaster.listeners
+                : new IGameEventListener[] {current};
+        IGameEventListener[] combined = Arrays.copyOf(base, base.length + 1);
+        combined[base.length] = added;
+        return new GameEventMulticaster(combined);
+    }
+
+    /**
+     * Removes one listener from the listener installed on a model.
+     *
+     * @param current the installed listener, or null.
+     * @param removed the listener to remove.
+     * @return the listener to install, or null if none is left.
+     */
+    static IGameEventListener remove(IGameEventListener current, IGameEventListener removed) {
+        if (current == removed) return null;
+        if (!(current instanceof GameEventMulticaster multicaster)) return current;
+
+        IGameEventListener[] base = multicaster.listeners;
+        int index = 0;
+        while (index < base.length && base[index] != removed) {
+            index++;
+        }
+        if (index == base.length) return current;
+        if (base.length == 2) return base[1 - index];
+
+        IGameEventListener[] rest = new IGameEventListener[base.length - 1];
+        System.arraycopy(base, 0, rest, 0, index);
+        System.arraycopy(base, index + 1, rest, index, rest.length - index);
+        return new GameEventMulticaster(rest);
+    }
+
+    @Override
+    public void onGameStart(GameModel model) {
+        for (IGameEventListener listener : listeners) {
+            listener.onGameStart(model);
+        }
+    }
+
+    @Override
+    public void onCardPlayed(int seat, int code) {
+        for (IGameEventListener listener : listeners) {
+            listener.onCardPlayed(seat, code);
+        }
+    }
+
+    @Override
+    public void onCardDrawn(int seat, int code) {
+        for (IGameEventListener listener : listeners) {
+            listener.onCardDrawn(seat, code);
+        }
+    }
+
+    @Override
+    public void onWildColorChosen(UnoCard.Color color) {
+        for (IGameEventListener listener : listeners) {
+            listener.onWildColorChosen(color);
+        }
+    }
+
+    @Override
+    public void onTurnChanged(int seat) {
+        for (IGameEventListener listener : listeners) {
+            listener.onTurnChanged(seat);
+        }
+    }
+
+    @Override
+    public void onGameOver(int winner) {
+        for (IGameEventListener listener : listeners) {
+            listener.onGameOver(winner);
+        }
+    }
+}
@@ -3,28 +3,98 @@ package com.example.unogame.model;
 import com.example.unogame.exceptions.DeckEmptyException;
 import com.example.unogame.exceptions.GameRuleException;
 import com.example.unogame.exceptions.InvalidCardPlayException;
+import com.example.unogame.jfr.CardDrawEvent;
+import com.example.unogame.jfr.CardPlayEvent;
+import com.example.unogame.model.interfaces.IGameEventListener;
+import jdk.jfr.EventType;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Core game state and logic for the UNO Game.
  * Manages the deck, discard pile, player hands, turn order, and card effects.
  * All interactions with game data should go through this class.
  *
+ * <p>Supports 2 to 10 seats. Seats are indexed from {@link #USER_SEAT}; the
+ * {@code boolean isUser} methods are the two-player API and map the CPU to
+ * {@link #CPU_SEAT}. Play moves in {@link #getDirection() direction} around the
+ * seat array and REVERSE flips it; with two seats REVERSE acts as SKIP, as in
+ * the official rules.</p>
+ *
  * @author
  *   Jhon Steven Angulo Nieves
  *   Braulio Robledo Delgado
  * @version 1.0
  */
 public class GameModel {
+    /** Returned by the code-based draw methods when no card is left to draw. */
+    public static final int NO_CARD = -1;
+
+    /** {@link #play} status: the card was played and its effect fully applied. */
+    public static final int PLAYED = 0;
+    /** {@link #play} status: the card was played but its draw penalty ran out of cards. */
+    public static final int PLAYED_DECK_EXHAUSTED = 1;
+    /** {@link #play} status: the card does not match the discard pile. */
+    public static final int INVALID_PLAY = -1;
+    /** {@link #play} status: the card is not in the player's hand. */
+    public static final int NOT_IN_HAND = -2;
+    /** {@link #play} status: the game is already over. */
+    public static final int GAME_ALREADY_OVER = -3;
+
+    /** Seat of the human player. */
+    public static final int USER_SEAT = 0;
+    /** Seat of the CPU in a two-player game, used by the {@code boolean isUser} methods. */
+    public static final int CPU_SEAT = 1;
+    /** Returned by {@link #getWinner()} while nobody has emptied their hand. */
+    public static final int NO_SEAT = -1;
+    public static final int MIN_SEATS = 2;
+    public static final int MAX_SEATS = 10;
+
+    private static final UnoCard.Color[] PLAYABLE_COLORS = {
+            UnoCard.Color.RED, UnoCard.Color.BLUE, UnoCard.Color.GREEN, UnoCard.Color.YELLOW
+    };
+
+    // Los eventos de JFR solo se crean si una grabación los tiene activos: sin esta
+    // comprobación, crear y medir un evento desactivado cuesta más que la propia jugada
+    private static final EventType PLAY_EVENTS = EventType.getEventType(CardPlayEvent.class);
+    private static final EventType DRAW_EVENTS = EventType.getEventType(CardDrawEvent.class);
+
+    // Efectos de carta indexados por valor: cartas a robar por el rival y si pierde el turno
+    private static final int[] DRAW_PENALTY = new int[UnoCard.Value.values().length];
+    private static final boolean[] SKIPS_NEXT_TURN = new boolean[UnoCard.Value.values().length];
+
+    static {
+        DRAW_PENALTY[UnoCard.Value.DRAW_TWO.ordinal()] = 2;
+        DRAW_PENALTY[UnoCard.Value.WILD_DRAW_FOUR.ordinal()] = 4;
+        SKIPS_NEXT_TURN[UnoCard.Value.DRAW_TWO.ordinal()] = true;
+        SKIPS_NEXT_TURN[UnoCard.Value.WILD_DRAW_FOUR.ordinal()] = true;
+        SKIPS_NEXT_TURN[UnoCard.Value.SKIP.ordinal()] = true;
+        // REVERSE cambia el sentido; solo salta turno con dos asientos (ver play)
+    }
+
     private final UnoDeck deck;
-    private final List<UnoCard> userHand;
-    private final List<UnoCard> cpuHand;
-    private boolean isUserTurn;
+    private final Hand[] hands;
+    private final int seatCount;
+    private int currentSeat;
+    private int direction; // +1 o -1
+    private int winner;
     private UnoCard topDiscard;
     private UnoCard.Color currentColor;
     private boolean skipNextTurn; // Para manejar SKIP y DRAW_TWO correctamente
+    private byte[] unseen; // Búfer reutilizable de determinize()
+    private byte[] hashBuffer; // Búfer reutilizable de stateHash()
+    private IGameEventListener listener;
+    private long seed; // Semilla de la partida actual
+    private GameRandom seeds; // Semillas de las partidas siguientes, derivadas de la primera
+
+    // Cabecera de snapshot(): versión, asientos, turno, sentido, ganador, carta superior,
+    // color elegido, salto pendiente, tamaños de mazo y descarte (2 bytes cada uno)
+    private static final byte SNAPSHOT_VERSION = 1;
+    private static final UnoCard.Color[] COLORS = UnoCard.Color.values();
+    private static final int SNAPSHOT_HEADER = 12;
+    // checkpoint() añade la semilla de la partida, la de las siguientes y el estado del mazo
+    private static final int CHECKPOINT_RANDOM_STATE = 3 * Long.BYTES;
 
     /**
      * Constructs a new GameModel, initializes and shuffles the deck,
@@ -33,37 +103,495 @@ public class GameModel {
      * @throws DeckEmptyException if the deck runs out during initial dealing.
      */
     public GameModel() throws DeckEmptyException {
-        this.deck = new UnoDeck();
-        this.userHand = new ArrayList<>();
-        this.cpuHand = new ArrayList<>();
-        this.isUserTurn = true;
+        this(MIN_SEATS, GameRandom.newSeed());
+    }
+
+    /**
+     * Constructs a new GameModel whose deck is shuffled with the given seed.
+     *
+     * @param seed the shuffle seed.
+     * @throws DeckEmptyException if the deck runs out during initial dealing.
+     */
+    public GameModel(long seed) throws DeckEmptyException {
+        this(MIN_SEATS, seed);
+    }
+
+    /**
+     * Constructs a game for the given number of seats; seat {@link #USER_SEAT}
+     * is the human player and the rest are CPUs.
+     *
+     * @param seatCount the number of seats, from {@link #MIN_SEATS} to {@link #MAX_SEATS}.
+     * @param seed      the shuffle seed.
+     * @throws IllegalArgumentException if the seat count is out of range.
+     * @throws DeckEmptyException       if the deck runs out during initial dealing.
+     */
+    public GameModel(int seatCount, long seed) throws DeckEmptyException {
+        this(new UnoDeck(seed), seatCount);
+        this.seed = seed;
+        this.seeds = new GameRandom(seed);
+        initializeGame();
+    }
+
+    /**
+     * Allocates the seats without dealing, for the dealing constructors and {@link #undealt}.
+     */
+    private GameModel(UnoDeck deck, int seatCount) {
+        if (seatCount < MIN_SEATS || seatCount > MAX_SEATS) {
+            throw new IllegalArgumentException("Número de asientos no válido: " + seatCount);
+        }
+        this.deck = deck;
+        this.seatCount = seatCount;
+        this.hands = new Hand[seatCount];
+        for (int i = 0; i < seatCount; i++) {
+            hands[i] = new Hand();
+        }
+        this.currentSeat = USER_SEAT;
+        this.direction = 1;
+        this.winner = NO_SEAT;
         this.skipNextTurn = false;
+    }
+
+    /**
+     * Creates a model with empty hands and piles, to be filled by {@link #fork()},
+     * {@link #fromCheckpoint} or {@link #fromSeatView}. Its deck has a random
+     * sequence of its own and is never shuffled here.
+     *
+     * @param seatCount the number of seats.
+     * @return the model.
+     */
+    private static GameModel undealt(int seatCount) {
+        return new GameModel(new UnoDeck(new GameRandom()), seatCount);
+    }
+
+    /**
+     * Starts a new game on this instance, reusing the deck and hand storage.
+     * Its seed is the next one of the sequence derived from the first game's
+     * seed, so a series of games is reproducible from that single seed.
+     *
+     * @throws DeckEmptyException if the deck runs out during initial dealing.
+     */
+    public void reset() throws DeckEmptyException {
+        if (seeds == null) {
+            seeds = new GameRandom();
+        }
+        reset(seeds.nextLong());
+    }
+
+    /**
+     * Starts a new game on this instance with a deck shuffled from the given seed.
+     * Reuses the deck and hand storage, so it does not allocate.
+     *
+     * @param seed the shuffle seed.
+     * @throws DeckEmptyException if the deck runs out during initial dealing.
+     */
+    public void reset(long seed) throws DeckEmptyException {
+        this.seed = seed;
+        deck.reset(seed);
+        restart();
+    }
+
+    /**
+     * Returns the seed of the current game. Replaying the same moves on a model
+     * reset with this seed reproduces the game exactly, reshuffles included.
+     *
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    private void restart() throws DeckEmptyException {
+        for (Hand hand : hands) {
+            hand.clear();
+        }
+        currentSeat = USER_SEAT;
+        direction = 1;
+        winner = NO_SEAT;
+        skipNextTurn = false;
+        currentColor = null;
         initializeGame();
     }
 
     private void initializeGame() throws DeckEmptyException {
 
-        userHand.addAll(deck.drawCards(5));
-        cpuHand.addAll(deck.drawCards(5));
+        for (Hand hand : hands) {
+            for (int i = 0; i < 5; i++) {
+                hand.add(deck.drawCard());
+            }
+        }
         topDiscard = deck.drawCard();
         deck.addToDiscardPile(topDiscard);
 
         // Manejar si la primera carta es especial
-        if (topDiscard.getValue() == UnoCard.Value.SKIP ||
-                topDiscard.getValue() == UnoCard.Value.REVERSE) {
-            // Si la primera carta es SKIP o REVERSE, la CPU pierde su turno
-            isUserTurn = false;
+        if (topDiscard.getValue() == UnoCard.Value.SKIP) {
+            // Si la primera carta es SKIP, el jugador humano pierde su turno
+            currentSeat = step(USER_SEAT, 1);
+
+        } else if (topDiscard.getValue() == UnoCard.Value.REVERSE) {
+            // Con REVERSE empieza el repartidor (último asiento) y el sentido se invierte;
+            // con dos asientos equivale a que empiece la CPU
+            direction = -1;
+            currentSeat = seatCount - 1;
 
         } else if (topDiscard.getValue() == UnoCard.Value.DRAW_TWO ||
                 topDiscard.getValue() == UnoCard.Value.WILD_DRAW_FOUR) {
             // Si es +2 o +4, el jugador humano roba cartas (se maneja en la vista)
-            isUserTurn = true;
+            currentSeat = USER_SEAT;
         } else if (topDiscard.getValue() == UnoCard.Value.WILD) {
             // Para cartas comodín, el jugador elige un color (se maneja en la vista)
-            isUserTurn = true;
+            currentSeat = USER_SEAT;
+        }
+
+        if (listener != null) {
+            listener.onGameStart(this);
         }
     }
 
+    /**
+     * Makes this model an exact copy of another position, reusing this instance's
+     * storage. Used by search to start a simulation from the real game.
+     *
+     * @param other a model with the same number of seats.
+     * @throws IllegalArgumentException if the seat counts differ.
+     */
+    public void copyFrom(GameModel other) {
+        if (other.seatCount != seatCount) {
+            throw new IllegalArgumentException("Número de asientos distinto: " + other.seatCount);
+        }
+        deck.copyFrom(other.deck);
+        for (int i = 0; i < seatCount; i++) {
+            hands[i].copyFrom(other.hands[i]);
+        }
+        currentSeat = other.currentSeat;
+        direction = other.direction;
+        winner = other.winner;
+        topDiscard = other.topDiscard;
+        currentColor = other.currentColor;
+        skipNextTurn = other.skipNextTurn;
+        seed = other.seed;
+    }
+
+    /**
+     * Returns a new, independent model in the same position as this one.
+     * The copy has its own deck randomness.
+     *
+     * @return the forked model.
+     */
+    public GameModel fork() {
+        GameModel copy = undealt(seatCount);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * Returns the number of bytes {@link #snapshot(byte[], int)} writes for the
+     * current position: a fixed header, two bytes per seat and one byte per card.
+     *
+     * @return the snapshot size in bytes.
+     */
+    public int snapshotSize() {
+        int cards = deck.size() + deck.discardSize();
+        for (Hand hand : hands) {
+            cards += hand.size();
+        }
+        return SNAPSHOT_HEADER + 2 * seatCount + cards;
+    }
+
+    /**
+     * Encodes the whole position into a new array of {@link #snapshotSize()} bytes.
+     *
+     * @return the snapshot.
+     */
+    public byte[] snapshot() {
+        byte[] data = new byte[snapshotSize()];
+        snapshot(data, 0);
+        return data;
+    }
+
+    /**
+     * Returns a 64-bit FNV-1a hash of the {@link #snapshot position snapshot}.
+     * Two models in the same position have the same hash; used to verify replays.
+     * Reuses an internal buffer, so it does not allocate after the first call.
+     *
+     * @return the hash.
+     */
+    public long stateHash() {
+        int size = snapshotSize();
+        if (hashBuffer == null || hashBuffer.length < size) {
+            hashBuffer = new byte[size];
+        }
+        snapshot(hashBuffer, 0);
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < size; i++) {
+            hash ^= hashBuffer[i] & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Encodes the whole position (hands, draw pile, discard pile, top card, chosen
+     * wild color, turn, direction, winner and pending skip) as card codes and
+     * small integers. Does not allocate.
+     *
+     * @param dst    the destination; needs {@link #snapshotSize()} bytes from {@code offset}.
+     * @param offset the first index to write.
+     * @return the index after the last byte written.
+     */
+    public int snapshot(byte[] dst, int offset) {
+        int p = offset;
+        dst[p++] = SNAPSHOT_VERSION;
+        dst[p++] = (byte) seatCount;
+        dst[p++] = (byte) currentSeat;
+        dst[p++] = (byte) direction;
+        dst[p++] = (byte) winner;
+        dst[p++] = (byte) topDiscard.getCode();
+        dst[p++] = (byte) (currentColor == null ? -1 : currentColor.ordinal());
+        dst[p++] = (byte) (skipNextTurn ? 1 : 0);
+        p = writeShort(dst, p, deck.size());
+        p = writeShort(dst, p, deck.discardSize());
+        for (Hand hand : hands) {
+            p = writeShort(dst, p, hand.size());
+            p = hand.copyCodes(dst, p);
+        }
+        p = deck.copyDrawPile(dst, p);
+        return deck.copyDiscardPile(dst, p);
+    }
+
+    /**
+     * Loads a position written by {@link #snapshot} into this instance, reusing its
+     * storage. The deck keeps its own random sequence.
+     *
+     * @param src    the snapshot.
+     * @param offset the index of its first byte.
+     * @return the index after the last byte read.
+     * @throws IllegalArgumentException if the snapshot has another version or seat count.
+     */
+    public int restore(byte[] src, int offset) {
+        int p = offset;
+        if (src[p++] != SNAPSHOT_VERSION) {
+            throw new IllegalArgumentException("Versión de snapshot no soportada: " + src[offset]);
+        }
+        if (src[p++] != seatCount) {
+            throw new IllegalArgumentException("Número de asientos distinto: " + src[offset + 1]);
+        }
+        currentSeat = src[p++];
+        direction = src[p++];
+        winner = src[p++];
+        topDiscard = UnoCard.of(src[p++]);
+        byte color = src[p++];
+        currentColor = color < 0 ? null : COLORS[color];
+        skipNextTurn = src[p++] != 0;
+        int drawSize = readShort(src, p);
+        int discardSize = readShort(src, p + 2);
+        p += 4;
+        for (Hand hand : hands) {
+            int size = readShort(src, p);
+            p += 2;
+            hand.clear();
+            for (int i = 0; i < size; i++) {
+                hand.add(src[p++]);
+            }
+        }
+        deck.setDrawPile(src, p, drawSize);
+        p += drawSize;
+        deck.setDiscardPile(src, p, discardSize);
+        return p + discardSize;
+    }
+
+    /**
+     * Returns the size of {@link #checkpoint(byte[], int)} for the current position.
+     *
+     * @return the size in bytes.
+     */
+    public int checkpointSize() {
+        return snapshotSize() + CHECKPOINT_RANDOM_STATE;
+    }
+
+    /**
+     * Encodes the position like {@link #snapshot(byte[], int)} followed by the state of
+     * every random sequence (game seed, seeds of later games and deck shuffles), so a
+     * game continued from the checkpoint reshuffles and deals exactly as the original.
+     * Does not allocate.
+     *
+     * @param dst    the destination; needs {@link #checkpointSize()} bytes from {@code offset}.
+     * @param offset the first index to write.
+     * @return the index after the last byte written.
+     */
+    public int checkpoint(byte[] dst, int offset) {
+        int p = snapshot(dst, offset);
+        p = writeLong(dst, p, seed);
+        p = writeLong(dst, p, seeds == null ? seed : seeds.getState());
+        return writeLong(dst, p, deck.getRandomState());
+    }
+
+    /**
+     * Loads a position and random state written by {@link #checkpoint(byte[], int)}.
+     *
+     * @param src    the checkpoint.
+     * @param offset the index of its first byte.
+     * @return the index after the last byte read.
+     * @throws IllegalArgumentException if the checkpoint has another version or seat count.
+     */
+    public int restoreCheckpoint(byte[] src, int offset) {
+        int p = restore(src, offset);
+        seed = readLong(src, p);
+        long nextSeeds = readLong(src, p + 8);
+        if (seeds == null) {
+            seeds = new GameRandom(nextSeeds);
+        } else {
+            seeds.setSeed(nextSeeds);
+        }
+        deck.setRandomState(readLong(src, p + 16));
+        return p + CHECKPOINT_RANDOM_STATE;
+    }
+
+    /**
+     * Creates a model from a {@link #checkpoint(byte[], int) checkpoint}, with the
+     * table size stored in it.
+     *
+     * @param src    the checkpoint.
+     * @param offset the index of its first byte.
+     * @return the restored model.
+     * @throws IllegalArgumentException if the checkpoint is not valid.
+     */
+    public static GameModel fromCheckpoint(byte[] src, int offset) {
+        GameModel model = undealt(src[offset + 1]);
+        model.restoreCheckpoint(src, offset);
+        return model;
+    }
+
+    /**
+     * Creates a game in a position known only from one seat: its own hand, the
+     * discarded cards and how many cards every other seat holds. The cards that seat
+     * cannot see are dealt in no particular order to the other hands and the draw
+     * pile, so the model must be {@link #determinize determinized} before it is searched.
+     *
+     * @param seat      the seat whose turn it is.
+     * @param direction +1 or -1.
+     * @param top       the top card of the discard pile.
+     * @param color     the color to follow.
+     * @param hand      the copies of each card code in the seat's hand.
+     * @param handSizes the hand size of every seat; its length is the seat count.
+     * @param discards  the copies of each card code in the discard pile, {@code top} included.
+     * @return the model.
+     * @throws IllegalArgumentException if the cards do not add up to a standard deck.
+     */
+    public static GameModel fromSeatView(int seat, int direction, UnoCard top, UnoCard.Color color,
+                                         byte[] hand, int[] handSizes, byte[] discards) {
+        GameModel model = undealt(handSizes.length);
+        byte[] hidden = new byte[UnoDeck.DECK_SIZE];
+        byte[] discardPile = new byte[UnoDeck.DECK_SIZE];
+        int hiddenCount = 0;
+        int discardCount = 0;
+        for (int code = 0; code < UnoCard.FACE_COUNT; code++) {
+            for (int i = 0; i < hand[code]; i++) {
+                model.hands[seat].add(code);
+            }
+            // La carta superior va la última del descarte
+            int below = code == top.getCode() ? discards[code] - 1 : discards[code];
+            for (int i = 0; i < below; i++) {
+                discardPile[discardCount++] = (byte) code;
+            }
+            int unseen = UnoDeck.copiesOf(code) - hand[code] - discards[code];
+            if (unseen < 0 || below < 0) {
+                throw new IllegalArgumentException("Demasiadas copias de " + UnoCard.of(code));
+            }
+            for (int i = 0; i < unseen; i++) {
+                hidden[hiddenCount++] = (byte) code;
+            }
+        }
+        discardPile[discardCount++] = (byte) top.getCode();
+
+        int dealt = 0;
+        for (int i = 0; i < handSizes.length; i++) {
+            if (i == seat) continue;
+            if (dealt + handSizes[i] > hiddenCount) {
+                throw new IllegalArgumentException("No quedan cartas para la mano del asiento " + i);
+            }
+            for (int k = 0; k < handSizes[i]; k++) {
+                model.hands[i].add(hidden[dealt++]);
+            }
+        }
+        model.deck.setDrawPile(hidden, dealt, hiddenCount - dealt);
+        model.deck.setDiscardPile(discardPile, 0, discardCount);
+        model.currentSeat = seat;
+        model.direction = direction;
+        model.topDiscard = top;
+        model.currentColor = top.getColor() == UnoCard.Color.WILD ? color : null;
+        return model;
+    }
+
+    private static int writeLong(byte[] dst, int p, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            dst[p++] = (byte) (value >>> shift);
+        }
+        return p;
+    }
+
+    private static long readLong(byte[] src, int p) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (src[p + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static int writeShort(byte[] dst, int p, int value) {
+        dst[p] = (byte) (value >>> 8);
+        dst[p + 1] = (byte) value;
+        return p + 2;
+    }
+
+    private static int readShort(byte[] src, int p) {
+        return ((src[p] & 0xFF) << 8) | (src[p + 1] & 0xFF);
+    }
+
+    /**
+     * Replaces everything the given seat cannot see with a random deal consistent
+     * with what it knows: the other hands keep their sizes and the draw pile its
+     * size, but their cards are reshuffled among them. The seat's own hand and the
+     * discard pile are left untouched.
+     *
+     * @param seat   the seat whose point of view is kept.
+     * @param random the source of randomness.
+     */
+    public void determinize(int seat, RandomGenerator random) {
+        int capacity = deck.size() + UnoDeck.DECK_SIZE;
+        if (unseen == null || unseen.length < capacity) {
+            unseen = new byte[capacity];
+        }
+
+        // Reunir las cartas ocultas: manos rivales y mazo
+        int n = 0;
+        for (int i = 0; i < seatCount; i++) {
+            if (i != seat) {
+                n = hands[i].copyCodes(unseen, n);
+            }
+        }
+        n = deck.copyDrawPile(unseen, n);
+
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte tmp = unseen[i];
+            unseen[i] = unseen[j];
+            unseen[j] = tmp;
+        }
+
+        // Repartirlas de nuevo respetando el tamaño de cada mano
+        int next = 0;
+        for (int i = 0; i < seatCount; i++) {
+            if (i == seat) continue;
+            Hand hand = hands[i];
+            int size = hand.size();
+            hand.clear();
+            for (int k = 0; k < size; k++) {
+                hand.add(unseen[next++]);
+            }
+        }
+        deck.setDrawPile(unseen, next, n - next);
+    }
+
     /**
      * Draws the top card from the deck without adding it to any hand.
      * If the deck is empty, refills it from the discard pile (keeping the top card).
@@ -72,20 +600,93 @@ public class GameModel {
      * @throws DeckEmptyException if no cards remain in deck or discard.
      */
     public UnoCard drawCard() throws DeckEmptyException {
-        if (deck.size() == 0) {
-            if (deck.discardSize() <= 1) {
-                throw new DeckEmptyException("No quedan cartas en el mazo ni en el descarte");
-            }
-            deck.refillFromDiscard();
+        int code = deck.drawCode();
+        if (code == NO_CARD) {
+            throw new DeckEmptyException("No quedan cartas en el mazo ni en el descarte");
+        }
+        return UnoCard.of(code);
+    }
+
+    /**
+     * Draws a card into the player's hand without throwing when the deck is exhausted.
+     * Refills the draw pile from the discard pile when needed.
+     *
+     * @param isUser true to draw for the user, false for the CPU.
+     * @return the drawn card code, or {@link #NO_CARD} if no cards remain in deck or discard.
+     */
+    public int drawCode(boolean isUser) {
+        return drawCode(seatOf(isUser));
+    }
+
+    /**
+     * Draws a card into the given seat's hand without throwing when the deck is exhausted.
+     *
+     * @param seat the seat index.
+     * @return the drawn card code, or {@link #NO_CARD} if no cards remain in deck or discard.
+     */
+    public int drawCode(int seat) {
+        if (!DRAW_EVENTS.isEnabled()) {
+            return draw(seat);
         }
-        if (deck.size() == 0) {
-            throw new DeckEmptyException("No quedan cartas disponibles");
+        CardDrawEvent event = new CardDrawEvent();
+        event.begin();
+        int code = draw(seat);
+        event.end();
+        if (event.shouldCommit()) {
+            event.seat = seat;
+            event.code = code;
+            event.handSize = hands[seat].size();
+            event.deckSize = deck.size();
+            event.commit();
         }
-        return deck.drawCard();
+        return code;
+    }
+
+    private int draw(int seat) {
+        int code = deck.drawCode();
+        if (code != NO_CARD) {
+            hands[seat].add(code);
+            if (listener != null) {
+                listener.onCardDrawn(seat, code);
+            }
+        }
+        return code;
     }
 
     public void setWildColor(UnoCard.Color color) {
         this.currentColor = color;
+        if (listener != null) {
+            listener.onWildColorChosen(color);
+        }
+    }
+
+    /**
+     * Replaces every listener of this model with the given one.
+     * Forks and copies made for search do not inherit it.
+     *
+     * @param listener the listener, or null to remove them all.
+     */
+    public void setEventListener(IGameEventListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Adds a listener that receives every change of this model, after the
+     * listeners already registered. Forks and copies made for search do not inherit it.
+     *
+     * @param listener the listener to add.
+     */
+    public void addEventListener(IGameEventListener listener) {
+        this.listener = GameEventMulticaster.add(this.listener, listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addEventListener}; the others keep receiving events.
+     *
+     * @param listener the listener to remove.
+     */
+    public void removeEventListener(IGameEventListener listener) {
+        this.listener = GameEventMulticaster.remove(this.listener, listener);
     }
 
     public UnoCard.Color getCurrentColor() {
@@ -98,12 +699,17 @@ public class GameModel {
      * @return true if a playable card exists; false otherwise.
      */
     public boolean canUserPlay() {
-        return canPlayAnyCard(userHand);
+        return canPlayAnyCard(hands[USER_SEAT]);
     }
 
     public boolean canPlayAnyCard(List<UnoCard> hand) {
         if (hand == null || hand.isEmpty()) return false;
 
+        Hand counted = Hand.backing(hand);
+        if (counted != null) {
+            return canPlayAnyCard(counted);
+        }
+
         for (UnoCard card : hand) {
             if (isValidPlay(card)) {
                 return true;
@@ -112,6 +718,50 @@ public class GameModel {
         return false;
     }
 
+    /**
+     * Determines in constant time if the given hand has at least one playable card.
+     *
+     * @param hand the hand to check.
+     * @return true if a playable card exists; false otherwise.
+     */
+    public boolean canPlayAnyCard(Hand hand) {
+        if (isGameOver()) return false;
+        return hand.hasPlayable(getCurrentColor(), topDiscard.getValue());
+    }
+
+    /**
+     * Returns the first card of the player's hand that can be played on the
+     * current discard, in card code order with wild cards last.
+     *
+     * @param isUser true for the user's hand, false for the CPU's.
+     * @return the playable card, or null if there is none.
+     */
+    public UnoCard findPlayableCard(boolean isUser) {
+        int code = findPlayableCode(isUser);
+        return code == NO_CARD ? null : UnoCard.of(code);
+    }
+
+    /**
+     * Code-based variant of {@link #findPlayableCard(boolean)}.
+     *
+     * @param isUser true for the user's hand, false for the CPU's.
+     * @return the playable card code, or {@link #NO_CARD} if there is none.
+     */
+    public int findPlayableCode(boolean isUser) {
+        return findPlayableCode(seatOf(isUser));
+    }
+
+    /**
+     * Seat-based variant of {@link #findPlayableCode(boolean)}.
+     *
+     * @param seat the seat index.
+     * @return the playable card code, or {@link #NO_CARD} if there is none.
+     */
+    public int findPlayableCode(int seat) {
+        if (isGameOver()) return NO_CARD;
+        return hands[seat].firstPlayable(getCurrentColor(), topDiscard.getValue());
+    }
+
     public boolean isValidPlay(UnoCard card) {
         // Si el juego ha terminado, ninguna carta es jugable
         if (isGameOver() || card == null) {
@@ -149,121 +799,165 @@ public class GameModel {
             throw new GameRuleException("El juego ha terminado, no se pueden jugar más cartas.");
         }
 
-        List<UnoCard> hand = isUser ? userHand : cpuHand;
-
         // Si no se proporciona carta (CPU), seleccionar la primera válida
         if (card == null && !isUser) {
-            for (UnoCard cpuCard : hand) {
-                if (isValidPlay(cpuCard)) {
-                    card = cpuCard;
-                    break;
-                }
-            }
+            card = findPlayableCard(false);
             // No se encontró carta válida
             if (card == null) return null;
         }
 
-        // Verificar que la carta sea válida
-        if (!isValidPlay(card)) {
+        int status = card == null ? INVALID_PLAY : play(card.getCode(), isUser);
+        if (status == INVALID_PLAY) {
             throw new InvalidCardPlayException("La carta seleccionada no es válida para jugar.");
         }
-
-        // Verificar que la carta esté en la mano del jugador
-        if (!hand.contains(card)) {
+        if (status == NOT_IN_HAND) {
             throw new InvalidCardPlayException("La carta seleccionada no está en tu mano.");
         }
+        return card;
+    }
+
+    /**
+     * Plays a card by code for the given player without throwing or allocating.
+     * Validates the play, applies special effects and passes the turn.
+     * If a draw penalty runs out of cards, the opponent draws what is left and the
+     * turn still proceeds normally.
+     *
+     * @param code   the code of the card to play.
+     * @param isUser true if the user is playing; false for the CPU.
+     * @return {@link #PLAYED}, {@link #PLAYED_DECK_EXHAUSTED}, or one of the negative
+     *         statuses {@link #INVALID_PLAY}, {@link #NOT_IN_HAND}, {@link #GAME_ALREADY_OVER}.
+     */
+    public int play(int code, boolean isUser) {
+        return playSeat(seatOf(isUser), code);
+    }
+
+    /**
+     * Plays a card by code for the given seat and passes the turn in the current
+     * direction. CPU seats choose the color of wild cards automatically; the user
+     * sets it afterwards with {@link #setWildColor}.
+     *
+     * @param seat the seat playing the card.
+     * @param code the code of the card to play.
+     * @return the same statuses as {@link #play(int, boolean)}.
+     */
+    public int playSeat(int seat, int code) {
+        if (!PLAY_EVENTS.isEnabled()) {
+            return playAndApply(seat, code);
+        }
+        CardPlayEvent event = new CardPlayEvent();
+        event.begin();
+        int status = playAndApply(seat, code);
+        event.end();
+        if (event.shouldCommit()) {
+            event.seat = seat;
+            event.code = code;
+            event.status = status;
+            event.handSize = hands[seat].size();
+            event.deckSize = deck.size();
+            event.commit();
+        }
+        return status;
+    }
+
+    private int playAndApply(int seat, int code) {
+        if (isGameOver()) {
+            return GAME_ALREADY_OVER;
+        }
+
+        UnoCard card = UnoCard.of(code);
+
+        // Verificar que la carta sea válida
+        if (!isValidPlay(card)) {
+            return INVALID_PLAY;
+        }
 
-        // Jugar la carta
-        hand.remove(card);
-        try {
-            deck.addToDiscardPile(card);
-        } catch (Exception e) {
-            // Si ocurre un error, devolver la carta a la mano y propagar la excepción
-            hand.add(card);
-            throw new GameRuleException("Error al agregar carta al descarte: " + e.getMessage());
+        // Verificar que la carta esté en la mano del jugador y jugarla
+        Hand hand = hands[seat];
+        if (!hand.remove(code)) {
+            return NOT_IN_HAND;
         }
+        deck.addToDiscardPile(card);
         topDiscard = card;
+        if (hand.isEmpty()) {
+            winner = seat;
+        }
+        if (listener != null) {
+            listener.onCardPlayed(seat, code);
+        }
 
         // Manejar color para comodines
         if (card.getColor() != UnoCard.Color.WILD) {
             currentColor = null;
-        } else if (!isUser) {
+        } else if (seat != USER_SEAT) {
             // Solo para CPU: elegir automáticamente el mejor color
-            currentColor = chooseBestColorForCpu();
+            currentColor = chooseBestColor(hand);
+            if (listener != null) {
+                listener.onWildColorChosen(currentColor);
+            }
         }
         // Para el usuario, el color se establece mediante setWildColor()
 
         // Aplicar efectos especiales
-        applyCardEffect(card, !isUser);
+        boolean complete = applyEffect(card.getValue(), seat);
 
-        // Manejar turnos
-        if (!skipNextTurn) {
-            switchTurn();
-        } else {
-            skipNextTurn = false;
+        // Manejar turnos: el turno avanza uno o dos asientos en el sentido actual
+        currentSeat = step(seat, skipNextTurn ? 2 : 1);
+        skipNextTurn = false;
+        if (winner != NO_SEAT && listener != null) {
+            listener.onGameOver(winner);
         }
 
-        return card;
+        return complete ? PLAYED : PLAYED_DECK_EXHAUSTED;
     }
-    
-    private UnoCard.Color chooseBestColorForCpu() {
-        int[] colorCount = new int[4]; // RED, BLUE, GREEN, YELLOW
 
-        for (UnoCard card : cpuHand) {
-            if (card.getColor() != UnoCard.Color.WILD) {
-                colorCount[card.getColor().ordinal()]++;
+    /**
+     * Picks the most frequent non-wild color in the given hand, defaulting to RED.
+     *
+     * @param hand the hand to inspect.
+     * @return the color that best fits the hand after playing a wild card.
+     */
+    public UnoCard.Color chooseBestColor(Hand hand) {
+        UnoCard.Color best = UnoCard.Color.RED;
+        int bestCount = 0;
+        for (UnoCard.Color color : PLAYABLE_COLORS) {
+            if (hand.colorCount(color) > bestCount) {
+                best = color;
+                bestCount = hand.colorCount(color);
             }
         }
+        return best;
+    }
 
-        // Encontrar el color más común
-        int maxIndex = 0;
-        for (int i = 1; i < 4; i++) {
-            if (colorCount[i] > colorCount[maxIndex]) {
-                maxIndex = i;
-            }
+    public void applyCardEffect(UnoCard card, boolean isCpuTurn) throws DeckEmptyException {
+        if (!applyEffect(card.getValue(), seatOf(!isCpuTurn))) {
+            throw new DeckEmptyException();
         }
-
-        // Si no hay preferencia, elegir RED por defecto
-        return colorCount[maxIndex] > 0 ?
-                UnoCard.Color.values()[maxIndex] : UnoCard.Color.RED;
     }
 
-    public void applyCardEffect(UnoCard card, boolean isCpuTurn) throws DeckEmptyException {
-        new CardEffectHandler().applyEffect(card, isCpuTurn);
-    }
-
-    private class CardEffectHandler {
-        public void applyEffect(UnoCard card, boolean isCpuTurn) throws DeckEmptyException {
-            switch (card.getValue()) {
-                case DRAW_TWO:
-                    for (int i = 0; i < 2; i++) {
-                        if (isCpuTurn) {
-                            drawUserCard();
-                        } else {
-                            drawCpuCard();
-                        }
-                    }
-                    skipNextTurn = true;
-                    break;
-                case WILD_DRAW_FOUR:
-                    for (int i = 0; i < 4; i++) {
-                        if (isCpuTurn) {
-                            drawUserCard();
-                        } else {
-                            drawCpuCard();
-                        }
-                    }
-                    skipNextTurn = true;
-                    break;
-                case SKIP:
-                case REVERSE:
-                    // Para SKIP y REVERSE, simplemente saltamos el siguiente turno
-                    skipNextTurn = true;
-                    break;
-                default:
-                    break;
+    /**
+     * Applies a card's effect from the static effect tables: the next seat draws the
+     * penalty cards (+2/+4) and SKIP and draw cards skip its turn. REVERSE flips the
+     * direction, and also skips when only two seats are playing.
+     *
+     * @param value the value of the played card.
+     * @param seat  the seat that played the card.
+     * @return false if the deck ran out before the whole penalty was drawn.
+     */
+    private boolean applyEffect(UnoCard.Value value, int seat) {
+        skipNextTurn = SKIPS_NEXT_TURN[value.ordinal()];
+        if (value == UnoCard.Value.REVERSE) {
+            direction = -direction;
+            skipNextTurn = seatCount == 2;
+        }
+
+        int penalty = DRAW_PENALTY[value.ordinal()];
+        int target = step(seat, 1);
+        for (int i = 0; i < penalty; i++) {
+            if (drawCode(target) == NO_CARD) {
+                return false;
             }
         }
+        return true;
     }
 
     /**
@@ -273,9 +967,7 @@ public class GameModel {
      * @throws DeckEmptyException if no cards remain to draw.
      */
     public UnoCard drawUserCard() throws DeckEmptyException {
-        UnoCard card = drawCard();
-        userHand.add(card);
-        return card;
+        return drawInto(USER_SEAT);
     }
 
     /**
@@ -285,51 +977,128 @@ public class GameModel {
      * @throws DeckEmptyException if no cards remain to draw.
      */
     public UnoCard drawCpuCard() throws DeckEmptyException {
-        UnoCard card = drawCard();
-        cpuHand.add(card);
-        return card;
+        return drawInto(CPU_SEAT);
+    }
+
+    private UnoCard drawInto(int seat) throws DeckEmptyException {
+        int code = drawCode(seat);
+        if (code == NO_CARD) {
+            throw new DeckEmptyException("No quedan cartas en el mazo ni en el descarte");
+        }
+        return UnoCard.of(code);
     }
 
     /**
-     * Switches the active player, accounting for any skip flags.
-     * If skipNextTurn is set, skips the opponent's turn once.
+     * Passes the turn to the next seat in the current direction.
      */
     public void switchTurn() {
-        new TurnManager().switchTurn();
+        currentSeat = step(currentSeat, 1);
+        if (listener != null) {
+            listener.onTurnChanged(currentSeat);
+        }
     }
 
+    /**
+     * Gives the turn to the user, or to {@link #CPU_SEAT} when false.
+     *
+     * @param isUserTurn whether the user should play next.
+     */
     public void setUserTurn(boolean isUserTurn) {
-        this.isUserTurn = isUserTurn;
+        setCurrentSeat(seatOf(isUserTurn));
     }
 
-    private class TurnManager {
-        public void switchTurn() {
-            isUserTurn = !isUserTurn;
+    /**
+     * Gives the turn to a seat.
+     *
+     * @param seat the seat that plays next.
+     * @throws IllegalArgumentException if the seat does not exist.
+     */
+    public void setCurrentSeat(int seat) {
+        if (seat < 0 || seat >= seatCount) {
+            throw new IllegalArgumentException("Asiento no válido: " + seat);
         }
-
-        public boolean isSkipNextTurn() {
-            return skipNextTurn;
+        this.currentSeat = seat;
+        if (listener != null) {
+            listener.onTurnChanged(currentSeat);
         }
+    }
 
-        public void setSkipNextTurn(boolean skip) {
-            skipNextTurn = skip;
+    /**
+     * Returns the seat {@code count} positions away in the current direction.
+     * Constant time for any table size.
+     *
+     * @param seat  the starting seat.
+     * @param count 1 for the next seat, 2 to skip one.
+     * @return the resulting seat index.
+     */
+    private int step(int seat, int count) {
+        int next = seat + direction * count;
+        if (next >= seatCount) {
+            next -= seatCount;
+        } else if (next < 0) {
+            next += seatCount;
         }
+        return next;
     }
 
+    private static int seatOf(boolean isUser) {
+        return isUser ? USER_SEAT : CPU_SEAT;
+    }
+
+    /**
+     * Returns the seat that plays after the current one.
+     *
+     * @return the next seat index.
+     */
+    public int nextSeat() { return step(currentSeat, 1); }
+
+    public int getCurrentSeat() { return currentSeat; }
+
+    /**
+     * Returns the play direction.
+     *
+     * @return +1 for increasing seat order, -1 after an odd number of REVERSE cards.
+     */
+    public int getDirection() { return direction; }
+
+    public int getSeatCount() { return seatCount; }
+
+    /**
+     * Returns the seat that emptied its hand.
+     *
+     * @return the winning seat, or {@link #NO_SEAT} while the game is running.
+     */
+    public int getWinner() { return winner; }
 
     /**
      * Returns the current list of UnoCards in the user's hand.
      *
      * @return List of UnoCard in the user's hand.
      */
-    public List<UnoCard> getUserHand() { return userHand; }
+    public List<UnoCard> getUserHand() { return hands[USER_SEAT].asList(); }
 
     /**
      * Returns the current list of UnoCards in the CPU's hand.
      *
      * @return List of UnoCard in the CPU's hand.
      */
-    public List<UnoCard> getCpuHand() { return cpuHand; }
+    public List<UnoCard> getCpuHand() { return hands[CPU_SEAT].asList(); }
+
+    /**
+     * Returns the count-indexed hand of the given player.
+     *
+     * @param isUser true for the user's hand, false for the CPU's.
+     * @return the player's Hand.
+     */
+    public Hand getHand(boolean isUser) { return hands[seatOf(isUser)]; }
+
+    /**
+     * Returns the count-indexed hand of the given seat.
+     *
+     * @param seat the seat index.
+     * @return the seat's Hand.
+     */
+    public Hand getHand(int seat) { return hands[seat]; }
 
     /**
      * Returns the card currently on top of the discard pile.
@@ -338,19 +1107,36 @@ public class GameModel {
      */
     public UnoCard getTopDiscard() { return topDiscard; }
 
+    /**
+     * Returns the number of cards left in the draw pile.
+     *
+     * @return the draw pile size.
+     */
+    public int getDeckSize() { return deck.size(); }
+
+    /**
+     * Writes how many copies of each card face have been discarded, the top card
+     * included. Does not allocate.
+     *
+     * @param counts the destination, indexed by card code; needs {@link UnoCard#FACE_COUNT} entries.
+     */
+    public void copyDiscardCounts(byte[] counts) {
+        deck.countDiscards(counts);
+    }
+
     /**
      * Checks if it is currently the user's turn.
      *
      * @return true if it's the user's turn; false otherwise.
      */
-    public boolean isUserTurn() { return isUserTurn; }
+    public boolean isUserTurn() { return currentSeat == USER_SEAT; }
 
     // Métodos para comprobar si el juego ha terminado
     public boolean isGameOver() {
-        return userHand.isEmpty() || cpuHand.isEmpty();
+        return winner != NO_SEAT;
     }
 
     public boolean userWins() {
-        return userHand.isEmpty();
+        return winner == USER_SEAT;
     }
 }
\ No newline at end of file
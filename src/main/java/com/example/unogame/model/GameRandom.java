@@ -0,0 +1,113 @@
+package com.example.unogame.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * Small, fast, reseedable and splittable random generator (SplitMix64).
+ *
+ * <p>Unlike {@link java.util.SplittableRandom} it can be reseeded in place, so a
+ * deck reused across many games replays exactly from each game's seed without
+ * allocating. {@link #split()} derives an independent generator, e.g. for the
+ * UNO timers of a game. Instances are not thread-safe; each game owns its own.</p>
+ *
+ * @author
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ * @version 1.0
+ */
+public final class GameRandom implements RandomGenerator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final AtomicLong SEED_UNIQUIFIER = new AtomicLong(System.nanoTime());
+
+    private long state;
+
+    /**
+     * Creates a generator with an unpredictable seed.
+     */
+    public GameRandom() {
+        this(newSeed());
+    }
+
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Returns a fresh seed that differs between calls and between runs.
+     *
+     * @return a seed.
+     */
+    public static long newSeed() {
+        return mix64(SEED_UNIQUIFIER.addAndGet(GOLDEN_GAMMA) ^ System.nanoTime());
+    }
+
+    /**
+     * Restarts the sequence from a seed.
+     *
+     * @param seed the new seed.
+     */
+    public void setSeed(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Returns the current position of the sequence; {@link #setSeed(long)} with
+     * this value continues it exactly, e.g. after loading a saved game.
+     *
+     * @return the internal state.
+     */
+    public long getState() {
+        return state;
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Returns a uniform value in {@code [0, bound)} using Lemire's multiply-shift
+     * with rejection, without division on the common path.
+     *
+     * @param bound the exclusive upper bound; must be positive.
+     * @return the value.
+     */
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("El límite debe ser positivo: " + bound);
+        }
+        long product = (nextLong() >>> 32) * bound;
+        int low = (int) product;
+        if (Integer.compareUnsigned(low, bound) < 0) {
+            int threshold = Integer.remainderUnsigned(-bound, bound);
+            while (Integer.compareUnsigned(low, threshold) < 0) {
+                product = (nextLong() >>> 32) * bound;
+                low = (int) product;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * Returns a new generator whose sequence is independent of this one's.
+     *
+     * @return the split generator.
+     */
+    public GameRandom split() {
+        return new GameRandom(mix64(nextLong()));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.unogame.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A player's hand stored as per-face counts instead of a list of cards.
+ *
+ * <p>Besides the count of every card code, the hand keeps a 54-bit mask of the
+ * faces it holds and a count per color. Checking whether any card matches the
+ * top discard, finding such a card, and adding or removing a card by code are
+ * all constant-time operations. {@link #asList()} exposes the hand as a live
+ * {@code List<UnoCard>} for code that still works with lists.</p>
+ *
+ * @author
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ * @version 1.0
+ */
+public class Hand {
+    private static final long WILD_MASK =
+            (1L << UnoCard.WILD_CODE) | (1L << UnoCard.WILD_DRAW_FOUR_CODE);
+    private static final long[] COLOR_MASKS = new long[UnoCard.Color.values().length];
+    private static final long[] VALUE_MASKS = new long[UnoCard.Value.values().length];
+
+    static {
+        for (int code = 0; code < UnoCard.FACE_COUNT; code++) {
+            UnoCard card = UnoCard.of(code);
+            COLOR_MASKS[card.getColor().ordinal()] |= 1L << code;
+            VALUE_MASKS[card.getValue().ordinal()] |= 1L << code;
+        }
+    }
+
+    private final byte[] counts = new byte[UnoCard.FACE_COUNT];
+    private final int[] colorCounts = new int[UnoCard.Color.values().length];
+    private long present;
+    private int size;
+    private final CardList view = new CardList();
+
+    /**
+     * Adds a card to the hand.
+     *
+     * @param code the card code.
+     */
+    public void add(int code) {
+        counts[code]++;
+        colorCounts[UnoCard.of(code).getColor().ordinal()]++;
+        present |= 1L << code;
+        size++;
+    }
+
+    public void add(UnoCard card) {
+        add(card.getCode());
+    }
+
+    /**
+     * Removes one copy of a card from the hand.
+     *
+     * @param code the card code.
+     * @return true if the card was in the hand.
+     */
+    public boolean remove(int code) {
+        if (counts[code] == 0) {
+            return false;
+        }
+        if (--counts[code] == 0) {
+            present &= ~(1L << code);
+        }
+        colorCounts[UnoCard.of(code).getColor().ordinal()]--;
+        size--;
+        return true;
+    }
+
+    public boolean remove(UnoCard card) {
+        return remove(card.getCode());
+    }
+
+    public boolean contains(int code) {
+        return counts[code] > 0;
+    }
+
+    public boolean contains(UnoCard card) {
+        return contains(card.getCode());
+    }
+
+    /**
+     * Returns how many copies of a card the hand holds.
+     *
+     * @param code the card code.
+     * @return the number of copies.
+     */
+    public int count(int code) {
+        return counts[code];
+    }
+
+    /**
+     * Returns how many cards of the given color the hand holds.
+     *
+     * @param color the color, WILD included.
+     * @return the number of cards.
+     */
+    public int colorCount(UnoCard.Color color) {
+        return colorCounts[color.ordinal()];
+    }
+
+    /**
+     * Returns a bit mask with one bit set per card code in the hand that can be
+     * played on a discard of the given color and value.
+     *
+     * @param color the effective color of the discard pile (the chosen color for wilds).
+     * @param value the value of the top discard.
+     * @return the mask of playable card codes.
+     */
+    public long playableMask(UnoCard.Color color, UnoCard.Value value) {
+        return present & (COLOR_MASKS[color.ordinal()] | VALUE_MASKS[value.ordinal()] | WILD_MASK);
+    }
+
+    public boolean hasPlayable(UnoCard.Color color, UnoCard.Value value) {
+        return playableMask(color, value) != 0;
+    }
+
+    /**
+     * Returns the lowest playable card code, preferring colored cards in code order
+     * and wild cards last.
+     *
+     * @param color the effective color of the discard pile.
+     * @param value the value of the top discard.
+     * @return the card code, or -1 if nothing can be played.
+     */
+    public int firstPlayable(UnoCard.Color color, UnoCard.Value value) {
+        long mask = playableMask(color, value);
+        return mask == 0 ? -1 : Long.numberOfTrailingZeros(mask);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(counts, (byte) 0);
+        Arrays.fill(colorCounts, 0);
+        present = 0;
+        size = 0;
+    }
+
+    /**
+     * Makes this hand an exact copy of another one without allocating.
+     *
+     * @param other the hand to copy.
+     */
+    void copyFrom(Hand other) {
+        System.arraycopy(other.counts, 0, counts, 0, counts.length);
+        System.arraycopy(other.colorCounts, 0, colorCounts, 0, colorCounts.length);
+        present = other.present;
+        size = other.size;
+    }
+
+    /**
+     * Writes the code of every card in the hand, in code order, into an array.
+     *
+     * @param dst    the destination array.
+     * @param offset the first index to write.
+     * @return the index after the last card written.
+     */
+    int copyCodes(byte[] dst, int offset) {
+        long mask = present;
+        while (mask != 0) {
+            int code = Long.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            for (int i = counts[code]; i > 0; i--) {
+                dst[offset++] = (byte) code;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Returns a live list view of the hand ordered by card code.
+     * Adding and removing through the view updates the hand.
+     *
+     * @return the list view.
+     */
+    public List<UnoCard> asList() {
+        return view;
+    }
+
+    /**
+     * Returns the hand behind a list obtained from {@link #asList()}.
+     *
+     * @param list any list of cards.
+     * @return the backing hand, or null if the list is not a hand view.
+     */
+    public static Hand backing(List<UnoCard> list) {
+        return list instanceof CardList ? ((CardList) list).hand() : null;
+    }
+
+    private final class CardList extends AbstractList<UnoCard> {
+        Hand hand() {
+            return Hand.this;
+        }
+
+        @Override
+        public UnoCard get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Índice fuera de la mano: " + index);
+            }
+            long mask = present;
+            while (true) {
+                int code = Long.numberOfTrailingZeros(mask);
+                if (index < counts[code]) {
+                    return UnoCard.of(code);
+                }
+                index -= counts[code];
+                mask &= mask - 1;
+            }
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean add(UnoCard card) {
+            Hand.this.add(card);
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (o instanceof UnoCard && Hand.this.remove((UnoCard) o)) {
+                modCount++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof UnoCard && counts[((UnoCard) o).getCode()] > 0;
+        }
+
+        @Override
+        public void clear() {
+            Hand.this.clear();
+            modCount++;
+        }
+
+        @Override
+        public Iterator<UnoCard> iterator() {
+            return new Iterator<>() {
+                private long mask = present;
+                private int code = -1;
+                private int remaining;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0 || mask != 0;
+                }
+
+                @Override
+                public UnoCard next() {
+                    if (remaining == 0) {
+                        if (mask == 0) throw new NoSuchElementException();
+                        code = Long.numberOfTrailingZeros(mask);
+                        mask &= mask - 1;
+                        remaining = counts[code];
+                    }
+                    remaining--;
+                    return UnoCard.of(code);
+                }
+            };
+        }
+    }
+}
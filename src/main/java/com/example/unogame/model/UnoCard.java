@@ -4,6 +4,11 @@ package com.example.unogame.model;
  * Represents a single UNO card with a color and a value.
  * Provides logic to determine playability.
  *
+ * <p>Every card face has a compact code in {@code [0, FACE_COUNT)}: colored faces use
+ * {@code color * 13 + value} and the two wild faces take the last two codes.
+ * {@link #of(int)} returns the canonical (flyweight) instance for a code, so decks
+ * and hands can be stored as plain {@code byte} codes without allocating cards.</p>
+ *
  * @author
  *   Jhon Steven Angulo Nieves
  *   Braulio Robledo Delgado
@@ -31,18 +36,94 @@ public class UnoCard {
         }
     }
 
+    /** Number of values a colored card can take (ZERO to DRAW_TWO). */
+    public static final int COLORED_VALUES = 13;
+    /** Code of the WILD face. */
+    public static final int WILD_CODE = 4 * COLORED_VALUES;
+    /** Code of the WILD_DRAW_FOUR face. */
+    public static final int WILD_DRAW_FOUR_CODE = WILD_CODE + 1;
+    /** Number of distinct card faces. */
+    public static final int FACE_COUNT = WILD_DRAW_FOUR_CODE + 1;
+
+    private static final UnoCard[] FACES = new UnoCard[FACE_COUNT];
+
+    static {
+        for (Color color : Color.values()) {
+            if (color == Color.WILD) continue;
+            for (int v = 0; v < COLORED_VALUES; v++) {
+                UnoCard card = new UnoCard(color, Value.getValue(v));
+                FACES[card.code] = card;
+            }
+        }
+        FACES[WILD_CODE] = new UnoCard(Color.WILD, Value.WILD);
+        FACES[WILD_DRAW_FOUR_CODE] = new UnoCard(Color.WILD, Value.WILD_DRAW_FOUR);
+    }
+
     private final Color color;
     private final Value value;
+    private final byte code;
+    private final String fileName;
 
     /**
      * Constructs a new UnoCard with the specified color and value.
+     * Prefer {@link #of(Color, Value)}, which returns the shared instance.
      *
      * @param color the color of the card.
      * @param value the value/action of the card.
+     * @throws IllegalArgumentException if the color and value do not form a real UNO card.
      */
     public UnoCard(Color color, Value value) {
         this.color = color;
         this.value = value;
+        this.code = (byte) codeOf(color, value);
+        this.fileName = buildFileName();
+    }
+
+    /**
+     * Returns the shared card instance for the given code.
+     *
+     * @param code a card code in {@code [0, FACE_COUNT)}.
+     * @return the canonical UnoCard for that face.
+     */
+    public static UnoCard of(int code) {
+        return FACES[code];
+    }
+
+    /**
+     * Returns the shared card instance for the given color and value.
+     *
+     * @param color the color of the card.
+     * @param value the value/action of the card.
+     * @return the canonical UnoCard for that face.
+     */
+    public static UnoCard of(Color color, Value value) {
+        return FACES[codeOf(color, value)];
+    }
+
+    /**
+     * Computes the compact code of a card face.
+     *
+     * @param color the color of the card.
+     * @param value the value/action of the card.
+     * @return the card code in {@code [0, FACE_COUNT)}.
+     * @throws IllegalArgumentException if the color and value do not form a real UNO card.
+     */
+    public static int codeOf(Color color, Value value) {
+        if (value == Value.WILD) return WILD_CODE;
+        if (value == Value.WILD_DRAW_FOUR) return WILD_DRAW_FOUR_CODE;
+        if (color == Color.WILD) {
+            throw new IllegalArgumentException("Carta comodín inválida: " + value);
+        }
+        return color.ordinal() * COLORED_VALUES + value.ordinal();
+    }
+
+    /**
+     * Returns the compact code of this card.
+     *
+     * @return the card code in {@code [0, FACE_COUNT)}.
+     */
+    public int getCode() {
+        return code;
     }
 
 
@@ -73,7 +154,26 @@ public class UnoCard {
         return color.name() + "_" + value.name();
     }
 
+    /**
+     * Returns the image file name of this card inside the cards-uno resources folder.
+     *
+     * @return the file name, e.g. "5_red.png".
+     */
     public String toFileName() {
+        return fileName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof UnoCard && ((UnoCard) o).code == code;
+    }
+
+    @Override
+    public int hashCode() {
+        return code;
+    }
+
+    private String buildFileName() {
         switch (value) {
             case ZERO:
                 case ONE:
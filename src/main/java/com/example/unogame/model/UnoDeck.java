@@ -1,72 +1,148 @@
 package com.example.unogame.model;
 
 import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.jfr.DeckRefillEvent;
+import jdk.jfr.EventType;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Represents the UNO deck, including the draw pile and discard recycling.
  * Handles shuffling, drawing, and refilling from the discard pile.
  *
+ * <p>Both piles are stored as {@code byte} card codes (see {@link UnoCard#getCode()}),
+ * and {@link #reset(long)} reuses the same arrays, so one deck can be recycled
+ * across many games without allocating.</p>
+ *
+ * <p>All shuffles, including the reshuffles of the discard pile, draw from the
+ * deck's own {@link GameRandom}, so a game is fully determined by its seed.</p>
+ *
  * @author
  *   Jhon Steven Angulo Nieves
  *   Braulio Robledo Delgado
  * @version 1.0
  */
 public class UnoDeck {
-    private final List<UnoCard> cards = new ArrayList<>();
-    private final List<UnoCard> discardPile = new ArrayList<>();
+    /** Number of cards in a standard UNO deck. */
+    public static final int DECK_SIZE = 108;
+
+    private static final byte[] STANDARD_DECK = buildStandardDeck();
+    private static final EventType REFILL_EVENTS = EventType.getEventType(DeckRefillEvent.class);
+    private static final byte[] COPIES = new byte[UnoCard.FACE_COUNT];
+
+    static {
+        for (byte code : STANDARD_DECK) {
+            COPIES[code]++;
+        }
+    }
+
+    private final GameRandom random;
+    private byte[] cards = new byte[DECK_SIZE];
+    private int cardCount;
+    private byte[] discardPile = new byte[DECK_SIZE];
+    private int discardCount;
 
     /**
      * Constructs and initializes a full UNO deck of 108 cards,
      * then shuffles the draw pile.
      */
     public UnoDeck() {
+        this(new GameRandom());
         initializeDeck();
         shuffle();
     }
 
-    private void initializeDeck() {
+    /**
+     * Constructs a full UNO deck shuffled with the given seed.
+     *
+     * @param seed the shuffle seed.
+     */
+    public UnoDeck(long seed) {
+        this(new GameRandom());
+        reset(seed);
+    }
+
+    /**
+     * Constructs a deck with both piles empty and without shuffling, for models
+     * that fill it right away from a copy, a checkpoint or a seat's view.
+     *
+     * @param random the shuffle sequence.
+     */
+    UnoDeck(GameRandom random) {
+        this.random = random;
+    }
+
+    private static byte[] buildStandardDeck() {
+        byte[] deck = new byte[DECK_SIZE];
+        int n = 0;
+
         // Cartas normales por color
         for (UnoCard.Color color : UnoCard.Color.values()) {
             if (color == UnoCard.Color.WILD) continue;
 
             // Un solo cero y dos de cada número 1-9
-            cards.add(new UnoCard(color, UnoCard.Value.ZERO));
+            deck[n++] = (byte) UnoCard.codeOf(color, UnoCard.Value.ZERO);
             for (int i = 1; i <= 9; i++) {
                 for (int j = 0; j < 2; j++) {
-                    cards.add(new UnoCard(color, UnoCard.Value.values()[i]));
+                    deck[n++] = (byte) UnoCard.codeOf(color, UnoCard.Value.getValue(i));
                 }
             }
 
             // Dos de cada carta especial por color
-            addSpecialCards(color, 2);
+            UnoCard.Value[] specials = {UnoCard.Value.SKIP, UnoCard.Value.REVERSE, UnoCard.Value.DRAW_TWO};
+            for (UnoCard.Value special : specials) {
+                for (int i = 0; i < 2; i++) {
+                    deck[n++] = (byte) UnoCard.codeOf(color, special);
+                }
+            }
         }
 
         // Comodines (4 de cada tipo)
-        addWildCards(4);
+        for (int i = 0; i < 4; i++) {
+            deck[n++] = (byte) UnoCard.WILD_CODE;
+            deck[n++] = (byte) UnoCard.WILD_DRAW_FOUR_CODE;
+        }
+        return deck;
     }
 
-    private void addSpecialCards(UnoCard.Color color, int count) {
-        UnoCard.Value[] specials = {UnoCard.Value.SKIP, UnoCard.Value.REVERSE, UnoCard.Value.DRAW_TWO};
-        for (UnoCard.Value special : specials) {
-            for (int i = 0; i < count; i++) {
-                cards.add(new UnoCard(color, special));
-            }
-        }
+    private void initializeDeck() {
+        System.arraycopy(STANDARD_DECK, 0, cards, 0, DECK_SIZE);
+        cardCount = DECK_SIZE;
+        discardCount = 0;
     }
 
-    private void addWildCards(int count) {
-        for (int i = 0; i < count; i++) {
-            cards.add(new UnoCard(UnoCard.Color.WILD, UnoCard.Value.WILD));
-            cards.add(new UnoCard(UnoCard.Color.WILD, UnoCard.Value.WILD_DRAW_FOUR));
-        }
+    /**
+     * Restores the full 108-card deck, empties the discard pile and shuffles,
+     * continuing the deck's current random sequence.
+     */
+    public void reset() {
+        initializeDeck();
+        shuffle();
+    }
+
+    /**
+     * Restores the full 108-card deck, empties the discard pile and shuffles
+     * with the given seed. Does not allocate.
+     *
+     * @param seed the shuffle seed.
+     */
+    public void reset(long seed) {
+        random.setSeed(seed);
+        reset();
     }
 
     public void shuffle() {
-        Collections.shuffle(cards);
+        shuffle(cards, cardCount);
+    }
+
+    private void shuffle(byte[] pile, int count) {
+        // Fisher-Yates sobre los códigos de carta
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte tmp = pile[i];
+            pile[i] = pile[j];
+            pile[j] = tmp;
+        }
     }
 
     /**
@@ -76,51 +152,77 @@ public class UnoDeck {
      * @throws DeckEmptyException if the draw pile is empty.
      */
     public UnoCard drawCard() throws DeckEmptyException {
-        if (cards.isEmpty()) {
-            if (discardPile.size() <= 1) {
-                throw new DeckEmptyException();
-            }
-
-            // Guardar la carta superior del descarte
-            UnoCard topDiscard = discardPile.get(discardPile.size() - 1);
-
-            // Remover la carta superior antes de barajar
-            discardPile.remove(discardPile.size() - 1);
-
-            // Barajar el resto del descarte y convertirlo en el mazo actual
-            Collections.shuffle(discardPile);
-            cards.addAll(discardPile);
-            discardPile.clear();
+        int code = drawCode();
+        if (code < 0) {
+            throw new DeckEmptyException();
+        }
+        return UnoCard.of(code);
+    }
 
-            // Poner la carta superior de vuelta en el descarte
-            discardPile.add(topDiscard);
+    /**
+     * Draws the top card code from the draw pile, refilling it from the discard
+     * pile (keeping the top card) when it is empty. Never throws or allocates.
+     *
+     * @return the drawn card code, or -1 if no cards remain in deck or discard.
+     */
+    public int drawCode() {
+        if (cardCount == 0) {
+            if (discardCount <= 1) {
+                return -1;
+            }
+            if (REFILL_EVENTS.isEnabled()) {
+                DeckRefillEvent event = new DeckRefillEvent();
+                event.begin();
+                byte topDiscard = refill();
+                event.end();
+                if (event.shouldCommit()) {
+                    event.cards = cardCount;
+                    event.topCode = topDiscard;
+                    event.commit();
+                }
+            } else {
+                refill();
+            }
         }
 
         // Robar la carta superior del mazo
-        if (cards.isEmpty()) {
-            throw new DeckEmptyException("No hay cartas disponibles");
-        }
-        UnoCard card = cards.remove(cards.size() - 1);
-        return card;
+        return cards[--cardCount];
     }
 
-    public List<UnoCard> drawCards(int count) throws DeckEmptyException {
-        List<UnoCard> drawnCards = new ArrayList<>();
-        for (int i = 0; i < count; i++) {
-            drawnCards.add(drawCard());
-        }
-        return drawnCards;
+    /**
+     * Shuffles the discard pile, except its top card, into the empty draw pile.
+     *
+     * @return the top card of the discard pile, which stays there.
+     */
+    private byte refill() {
+        // Guardar la carta superior del descarte
+        byte topDiscard = discardPile[discardCount - 1];
+
+        // Barajar el resto del descarte y convertirlo en el mazo actual
+        shuffle(discardPile, discardCount - 1);
+        System.arraycopy(discardPile, 0, cards, 0, discardCount - 1);
+        cardCount = discardCount - 1;
+
+        // Poner la carta superior de vuelta en el descarte
+        discardPile[0] = topDiscard;
+        discardCount = 1;
+        return topDiscard;
     }
 
     public void addToDiscardPile(UnoCard card) {
-        discardPile.add(card);
+        if (discardCount == discardPile.length) {
+            // Solo ocurre si se descartan cartas que no salieron de este mazo
+            discardPile = Arrays.copyOf(discardPile, discardPile.length * 2);
+            cards = Arrays.copyOf(cards, discardPile.length);
+        }
+        discardPile[discardCount++] = (byte) card.getCode();
     }
 
     public UnoCard getTopDiscard() {
-        if (discardPile.isEmpty()) {
+        if (discardCount == 0) {
             throw new IllegalStateException("No hay cartas en el descarte");
         }
-        return discardPile.get(discardPile.size() - 1);
+        return UnoCard.of(discardPile[discardCount - 1]);
     }
 
     /**
@@ -129,17 +231,21 @@ public class UnoDeck {
      *
      */
     public void refillFromDiscard() {
-        if (discardPile.size() <= 1) {
+        if (discardCount <= 1) {
             throw new IllegalStateException("No hay suficientes cartas para continuar");
         }
 
         // Mantener la carta superior del descarte
-        UnoCard topCard = discardPile.remove(discardPile.size() - 1);
+        byte topCard = discardPile[discardCount - 1];
 
         // Mover el resto al mazo
-        cards.addAll(discardPile);
-        discardPile.clear();
-        discardPile.add(topCard);
+        if (cardCount + discardCount - 1 > cards.length) {
+            cards = Arrays.copyOf(cards, cardCount + discardCount - 1);
+        }
+        System.arraycopy(discardPile, 0, cards, cardCount, discardCount - 1);
+        cardCount += discardCount - 1;
+        discardPile[0] = topCard;
+        discardCount = 1;
 
         shuffle();
     }
@@ -149,12 +255,112 @@ public class UnoDeck {
      *
      * @return the size of the draw pile.
      */
-    public int size() { return cards.size(); }
+    public int size() { return cardCount; }
 
 
-    public int discardSize() { return discardPile.size(); }
-}
+    public int discardSize() { return discardCount; }
+
+    /**
+     * Copies both piles of another deck into this one. The random sequence is
+     * not copied. Does not allocate unless the other deck's piles have grown.
+     *
+     * @param other the deck to copy.
+     */
+    void copyFrom(UnoDeck other) {
+        if (cards.length < other.cards.length) {
+            cards = new byte[other.cards.length];
+            discardPile = new byte[other.discardPile.length];
+        }
+        System.arraycopy(other.cards, 0, cards, 0, other.cardCount);
+        cardCount = other.cardCount;
+        System.arraycopy(other.discardPile, 0, discardPile, 0, other.discardCount);
+        discardCount = other.discardCount;
+    }
+
+    /** Returns the state of the shuffle sequence, for {@link GameModel#checkpoint}. */
+    long getRandomState() {
+        return random.getState();
+    }
+
+    /** Continues the shuffle sequence from a state returned by {@link #getRandomState()}. */
+    void setRandomState(long state) {
+        random.setSeed(state);
+    }
+
+    /**
+     * Returns how many copies of a card face a standard deck holds.
+     *
+     * @param code the card code.
+     * @return 1, 2 or 4.
+     */
+    static int copiesOf(int code) {
+        return COPIES[code];
+    }
 
+    /**
+     * Writes how many copies of each face the discard pile holds.
+     *
+     * @param counts the destination, indexed by card code.
+     */
+    void countDiscards(byte[] counts) {
+        Arrays.fill(counts, 0, UnoCard.FACE_COUNT, (byte) 0);
+        for (int i = 0; i < discardCount; i++) {
+            counts[discardPile[i]]++;
+        }
+    }
 
+    /**
+     * Writes the draw pile, bottom card first, into an array.
+     *
+     * @param dst    the destination array.
+     * @param offset the first index to write.
+     * @return the index after the last card written.
+     */
+    int copyDrawPile(byte[] dst, int offset) {
+        System.arraycopy(cards, 0, dst, offset, cardCount);
+        return offset + cardCount;
+    }
 
+    /**
+     * Writes the discard pile, bottom card first, into an array.
+     *
+     * @param dst    the destination array.
+     * @param offset the first index to write.
+     * @return the index after the last card written.
+     */
+    int copyDiscardPile(byte[] dst, int offset) {
+        System.arraycopy(discardPile, 0, dst, offset, discardCount);
+        return offset + discardCount;
+    }
 
+    /**
+     * Replaces the discard pile; the last card given is the top card.
+     *
+     * @param src    the card codes.
+     * @param offset the index of the bottom card.
+     * @param count  the number of cards.
+     */
+    void setDiscardPile(byte[] src, int offset, int count) {
+        if (discardPile.length < count) {
+            discardPile = new byte[count];
+            cards = Arrays.copyOf(cards, Math.max(cards.length, count));
+        }
+        System.arraycopy(src, offset, discardPile, 0, count);
+        discardCount = count;
+    }
+
+    /**
+     * Replaces the draw pile; the last card given is the next one drawn.
+     *
+     * @param src    the card codes.
+     * @param offset the index of the bottom card.
+     * @param count  the number of cards.
+     */
+    void setDrawPile(byte[] src, int offset, int count) {
+        if (cards.length < count) {
+            cards = new byte[count];
+        }
+        System.arraycopy(src, offset, cards, 0, count);
+        cardCount = count;
+    }
+}
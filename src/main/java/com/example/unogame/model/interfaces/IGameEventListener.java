@@ -0,0 +1,28 @@
+package com.example.unogame.model.interfaces;
+
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+
+/**
+ * Receives every state change of a {@link GameModel} as it happens, e.g. to
+ * journal games. Callbacks run on the thread that changes the model and must
+ * not modify it.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+public interface IGameEventListener {
+    /** A game has been dealt; the model holds the starting position. */
+    void onGameStart(GameModel model);
+
+    void onCardPlayed(int seat, int code);
+
+    void onCardDrawn(int seat, int code);
+
+    /** A color was chosen for a wild card, by the user or by a CPU seat. */
+    void onWildColorChosen(UnoCard.Color color);
+
+    /** The turn was passed or assigned outside of a card play. */
+    void onTurnChanged(int seat);
+
+    void onGameOver(int winner);
+}
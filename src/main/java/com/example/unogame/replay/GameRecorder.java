@@ -0,0 +1,91 @@
+package com.example.unogame.replay;
+
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+import com.example.unogame.model.interfaces.IGameEventListener;
+
+import java.util.Arrays;
+
+/**
+ * Listener that records the events of the current game of a model in memory,
+ * so it can be replayed by {@link ReplayEngine}.
+ *
+ * <p>Each new game dealt on the model starts a new recording; events are
+ * appended to a reusable array, so recording does not allocate once the array
+ * has grown to the length of a game.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class GameRecorder implements IGameEventListener {
+    private int[] events = new int[256];
+    private int size;
+    private long seed;
+    private int seatCount;
+
+    /**
+     * Records the given model from its next game on.
+     *
+     * @param model the model to record.
+     * @return the installed recorder.
+     */
+    public static GameRecorder attach(GameModel model) {
+        GameRecorder recorder = new GameRecorder();
+        model.addEventListener(recorder);
+        return recorder;
+    }
+
+    /**
+     * Freezes the events recorded so far together with the model's current position.
+     *
+     * @param model the recorded model, in the position the game ended in.
+     * @return the recording.
+     */
+    public GameRecording finish(GameModel model) {
+        return new GameRecording(seed, seatCount, Arrays.copyOf(events, size), model.stateHash());
+    }
+
+    public int getEventCount() {
+        return size;
+    }
+
+    private void add(int type, int seat, int value) {
+        if (size == events.length) {
+            events = Arrays.copyOf(events, size * 2);
+        }
+        events[size++] = GameRecording.encode(type, seat, value);
+    }
+
+    @Override
+    public void onGameStart(GameModel model) {
+        seed = model.getSeed();
+        seatCount = model.getSeatCount();
+        size = 0;
+    }
+
+    @Override
+    public void onCardPlayed(int seat, int code) {
+        add(GameRecording.PLAY, seat, code);
+    }
+
+    @Override
+    public void onCardDrawn(int seat, int code) {
+        add(GameRecording.DRAW, seat, code);
+    }
+
+    @Override
+    public void onWildColorChosen(UnoCard.Color color) {
+        add(GameRecording.COLOR, 0, color == null ? GameRecording.NONE : color.ordinal());
+    }
+
+    @Override
+    public void onTurnChanged(int seat) {
+        add(GameRecording.TURN, seat, GameRecording.NONE);
+    }
+
+    @Override
+    public void onGameOver(int winner) {
+        add(GameRecording.END, winner, GameRecording.NONE);
+    }
+}
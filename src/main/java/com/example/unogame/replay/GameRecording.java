@@ -0,0 +1,91 @@
+package com.example.unogame.replay;
+
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+
+/**
+ * One recorded game: its seed, its seat count, every event in order and the
+ * {@link GameModel#stateHash() hash} of the position it ended in.
+ *
+ * <p>Each event is packed into one {@code int}:</p>
+ * <pre>
+ *   bits 24-31  type   PLAY, DRAW, COLOR, TURN, END
+ *   bits 16-23  seat
+ *   bits  0-15  value  card code, color ordinal or winner ({@link #NONE} for none)
+ * </pre>
+ * The seed fixes the shuffle, the deal and every reshuffle, so the events plus
+ * the seed are enough to rebuild the game exactly.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class GameRecording {
+    public static final int PLAY = 1;
+    public static final int DRAW = 2;
+    public static final int COLOR = 3;
+    public static final int TURN = 4;
+    public static final int END = 5;
+
+    /** Value of an event without a card, color or winner. */
+    public static final int NONE = 0xFFFF;
+
+    private final long seed;
+    private final int seatCount;
+    private final int[] events;
+    private final long finalHash;
+
+    public GameRecording(long seed, int seatCount, int[] events, long finalHash) {
+        this.seed = seed;
+        this.seatCount = seatCount;
+        this.events = events;
+        this.finalHash = finalHash;
+    }
+
+    public static int encode(int type, int seat, int value) {
+        return (type << 24) | ((seat & 0xFF) << 16) | (value & 0xFFFF);
+    }
+
+    public static int type(int event) {
+        return event >>> 24;
+    }
+
+    public static int seat(int event) {
+        return (event >>> 16) & 0xFF;
+    }
+
+    public static int value(int event) {
+        return event & 0xFFFF;
+    }
+
+    /**
+     * Decodes the color of a COLOR event.
+     *
+     * @param event the packed event.
+     * @return the chosen color, or null if the color was cleared.
+     */
+    public static UnoCard.Color color(int event) {
+        int value = value(event);
+        return value == NONE ? null : UnoCard.Color.values()[value];
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getSeatCount() {
+        return seatCount;
+    }
+
+    public int getEventCount() {
+        return events.length;
+    }
+
+    public int getEvent(int index) {
+        return events[index];
+    }
+
+    public long getFinalHash() {
+        return finalHash;
+    }
+}
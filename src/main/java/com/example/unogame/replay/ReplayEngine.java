@@ -0,0 +1,183 @@
+package com.example.unogame.replay;
+
+import com.example.unogame.engine.HeadlessGameEngine;
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.exceptions.ReplayMismatchException;
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+import com.example.unogame.model.interfaces.IGameEventListener;
+
+import java.util.Arrays;
+
+/**
+ * Re-executes {@link GameRecording recorded games} from their seed and checks
+ * that they end in exactly the recorded position.
+ *
+ * <p>The model is reset with the recording's seed, which reproduces the deal.
+ * Each recorded event that is a decision (a play, a draw, a color choice or a
+ * turn change) is executed on the model; the events the model emits in response,
+ * including penalty draws, automatic CPU colors and the end of the game, must
+ * match the recording one for one. Finally the {@link GameModel#stateHash()
+ * position hash} must equal the recorded one. Models are reused per table size,
+ * so replaying does not allocate.</p>
+ *
+ * <p>Usage as a tool: {@code ReplayEngine [games] [seats] [seed]} records headless
+ * games, replays them all and prints the replay speed.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class ReplayEngine {
+    private final GameModel[] models = new GameModel[GameModel.MAX_SEATS + 1];
+    private final Capture capture = new Capture();
+
+    /**
+     * Replays one recording and verifies it.
+     *
+     * @param recording the game to replay.
+     * @return the number of decisions executed.
+     * @throws ReplayMismatchException if the replay diverges from the recording.
+     */
+    public int replay(GameRecording recording) {
+        GameModel model = modelFor(recording);
+        int moves = 0;
+        int index = 0;
+        int count = recording.getEventCount();
+        while (index < count) {
+            int event = recording.getEvent(index);
+            capture.size = 0;
+            execute(model, event, index);
+            moves++;
+
+            if (capture.size == 0 || index + capture.size > count) {
+                throw new ReplayMismatchException("La repetición no reproduce la jugada grabada", index);
+            }
+            for (int i = 0; i < capture.size; i++) {
+                if (capture.events[i] != recording.getEvent(index + i)) {
+                    throw new ReplayMismatchException("La repetición produce un evento distinto", index + i);
+                }
+            }
+            index += capture.size;
+        }
+        if (model.stateHash() != recording.getFinalHash()) {
+            throw new ReplayMismatchException("El estado final no coincide con el grabado", -1);
+        }
+        return moves;
+    }
+
+    private GameModel modelFor(GameRecording recording) {
+        int seats = recording.getSeatCount();
+        try {
+            GameModel model = models[seats];
+            if (model == null) {
+                model = new GameModel(seats, recording.getSeed());
+                model.setEventListener(capture);
+                models[seats] = model;
+            } else {
+                model.reset(recording.getSeed());
+            }
+            return model;
+        } catch (DeckEmptyException e) {
+            throw new IllegalStateException("El mazo no alcanza para repartir", e);
+        }
+    }
+
+    private static void execute(GameModel model, int event, int index) {
+        int seat = GameRecording.seat(event);
+        switch (GameRecording.type(event)) {
+            case GameRecording.PLAY:
+                if (model.playSeat(seat, GameRecording.value(event)) < 0) {
+                    throw new ReplayMismatchException("Jugada no permitida al repetir", index);
+                }
+                break;
+            case GameRecording.DRAW:
+                model.drawCode(seat);
+                break;
+            case GameRecording.COLOR:
+                model.setWildColor(GameRecording.color(event));
+                break;
+            case GameRecording.TURN:
+                model.setCurrentSeat(seat);
+                break;
+            default:
+                throw new ReplayMismatchException("Evento que no es una decisión: " + GameRecording.type(event), index);
+        }
+    }
+
+    /**
+     * Collects the events the model emits while one decision is executed.
+     */
+    private static final class Capture implements IGameEventListener {
+        private int[] events = new int[16];
+        private int size;
+
+        private void add(int type, int seat, int value) {
+            if (size == events.length) {
+                events = Arrays.copyOf(events, size * 2);
+            }
+            events[size++] = GameRecording.encode(type, seat, value);
+        }
+
+        @Override
+        public void onGameStart(GameModel model) {
+            size = 0;
+        }
+
+        @Override
+        public void onCardPlayed(int seat, int code) {
+            add(GameRecording.PLAY, seat, code);
+        }
+
+        @Override
+        public void onCardDrawn(int seat, int code) {
+            add(GameRecording.DRAW, seat, code);
+        }
+
+        @Override
+        public void onWildColorChosen(UnoCard.Color color) {
+            add(GameRecording.COLOR, 0, color == null ? GameRecording.NONE : color.ordinal());
+        }
+
+        @Override
+        public void onTurnChanged(int seat) {
+            add(GameRecording.TURN, seat, GameRecording.NONE);
+        }
+
+        @Override
+        public void onGameOver(int winner) {
+            add(GameRecording.END, winner, GameRecording.NONE);
+        }
+    }
+
+    public static void main(String[] args) throws DeckEmptyException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int seats = args.length > 1 ? Integer.parseInt(args[1]) : GameModel.MIN_SEATS;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        // Grabar partidas sin interfaz, cada una con su propia semilla
+        HeadlessGameEngine engine = new HeadlessGameEngine(seats, seed);
+        GameRecorder recorder = GameRecorder.attach(engine.getModel());
+        GameRecording[] recordings = new GameRecording[games];
+        long events = 0;
+        for (int i = 0; i < games; i++) {
+            engine.newGame();
+            engine.playGame();
+            recordings[i] = recorder.finish(engine.getModel());
+            events += recordings[i].getEventCount();
+        }
+        System.out.printf("Grabadas %d partidas de %d asientos (%d eventos)%n", games, seats, events);
+
+        ReplayEngine replayer = new ReplayEngine();
+        for (int pass = 1; pass <= 3; pass++) {
+            long moves = 0;
+            long start = System.nanoTime();
+            for (GameRecording recording : recordings) {
+                moves += replayer.replay(recording);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Pasada %d: %d jugadas verificadas en %.3f s (%.2f M jugadas/s, %.0f partidas/s)%n",
+                    pass, moves, seconds, moves / seconds / 1e6, games / seconds);
+        }
+    }
+}
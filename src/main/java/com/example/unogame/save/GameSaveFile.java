@@ -0,0 +1,151 @@
+package com.example.unogame.save;
+
+import com.example.unogame.model.GameModel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+
+/**
+ * Small versioned binary file holding one game in progress, used to resume a GUI
+ * game after closing the application and to checkpoint headless games.
+ *
+ * <p>Layout (big-endian):</p>
+ * <pre>
+ *   0  magic            (int)    "UNOS"
+ *   4  version          (short)
+ *   6  flags            (short)  user said UNO, CPU said UNO, CPU caught
+ *   8  user UNO window  (int)    millis left, or -1
+ *  12  CPU UNO window   (int)    millis left, or -1
+ *  16  timer random     (long)   state of the CPU UNO delay generator
+ *  24  checkpoint size  (short)
+ *  26  checkpoint       {@link GameModel#checkpoint(byte[], int) position and random state}
+ *   n  CRC-32           (int)    of every previous byte
+ * </pre>
+ * A two-player game takes under 200 bytes. Files are written to a temporary
+ * file and moved into place, so a crash never leaves a half-written save.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class GameSaveFile {
+    public static final int MAGIC = 0x554E4F53; // "UNOS"
+    public static final short VERSION = 1;
+
+    private static final int HEADER = 26;
+    private static final int USER_UNO_CLICKED = 1;
+    private static final int CPU_DECLARED_UNO = 1 << 1;
+    private static final int PLAYER_CAUGHT_CPU = 1 << 2;
+
+    private GameSaveFile() {
+    }
+
+    /**
+     * Encodes a game and its UNO windows.
+     *
+     * @param model  the game to save.
+     * @param timers the UNO windows, or {@link UnoTimerState#NONE}.
+     * @return the encoded save.
+     */
+    public static byte[] encode(GameModel model, UnoTimerState timers) {
+        int checkpointSize = model.checkpointSize();
+        byte[] data = new byte[HEADER + checkpointSize + Integer.BYTES];
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        int flags = (timers.isUserUnoClicked() ? USER_UNO_CLICKED : 0)
+                | (timers.isCpuDeclaredUno() ? CPU_DECLARED_UNO : 0)
+                | (timers.isPlayerCaughtCpu() ? PLAYER_CAUGHT_CPU : 0);
+        buffer.putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) flags)
+                .putInt(timers.getUserRemainingMillis())
+                .putInt(timers.getCpuRemainingMillis())
+                .putLong(timers.getRandomState())
+                .putShort((short) checkpointSize);
+        model.checkpoint(data, HEADER);
+
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, HEADER + checkpointSize);
+        buffer.putInt(HEADER + checkpointSize, (int) crc.getValue());
+        return data;
+    }
+
+    /**
+     * Decodes a save written by {@link #encode}.
+     *
+     * @param data the encoded save.
+     * @return the saved game, with a new model.
+     * @throws IOException if the data is truncated, corrupt or of another version.
+     */
+    public static SavedGame decode(byte[] data) throws IOException {
+        if (data.length < HEADER + Integer.BYTES) {
+            throw new IOException("Archivo de partida truncado");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("No es un archivo de partida de UNO");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Versión de archivo de partida no soportada: " + version);
+        }
+        int flags = buffer.getShort();
+        int userRemaining = buffer.getInt();
+        int cpuRemaining = buffer.getInt();
+        long randomState = buffer.getLong();
+        int checkpointSize = buffer.getShort() & 0xFFFF;
+        if (data.length != HEADER + checkpointSize + Integer.BYTES) {
+            throw new IOException("Archivo de partida truncado");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, HEADER + checkpointSize);
+        if (buffer.getInt(HEADER + checkpointSize) != (int) crc.getValue()) {
+            throw new IOException("Archivo de partida dañado (CRC distinto)");
+        }
+
+        GameModel model;
+        try {
+            model = GameModel.fromCheckpoint(data, HEADER);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("Posición guardada no válida: " + e.getMessage(), e);
+        }
+        UnoTimerState timers = new UnoTimerState(userRemaining, (flags & USER_UNO_CLICKED) != 0,
+                cpuRemaining, (flags & CPU_DECLARED_UNO) != 0, (flags & PLAYER_CAUGHT_CPU) != 0, randomState);
+        return new SavedGame(model, timers);
+    }
+
+    /**
+     * Saves a game, replacing the file atomically.
+     *
+     * @param file   the save file.
+     * @param model  the game to save.
+     * @param timers the UNO windows, or {@link UnoTimerState#NONE}.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(Path file, GameModel model, UnoTimerState timers) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, encode(model, timers));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Loads a game saved by {@link #write}.
+     *
+     * @param file the save file.
+     * @return the saved game.
+     * @throws IOException if the file cannot be read or is not valid.
+     */
+    public static SavedGame read(Path file) throws IOException {
+        return decode(Files.readAllBytes(file));
+    }
+}
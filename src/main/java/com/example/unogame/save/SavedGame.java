@@ -0,0 +1,29 @@
+package com.example.unogame.save;
+
+import com.example.unogame.model.GameModel;
+
+/**
+ * A game loaded from a {@link GameSaveFile}: the model in the saved position and
+ * the state of its UNO declaration windows.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class SavedGame {
+    private final GameModel model;
+    private final UnoTimerState timers;
+
+    public SavedGame(GameModel model, UnoTimerState timers) {
+        this.model = model;
+        this.timers = timers;
+    }
+
+    public GameModel getModel() {
+        return model;
+    }
+
+    public UnoTimerState getTimers() {
+        return timers;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.unogame.save;
+
+/**
+ * State of the UNO declaration windows at the moment a game is saved: which
+ * windows are open, how long each has left and what was already declared.
+ * Headless games have no windows and use {@link #NONE}.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class UnoTimerState {
+    /** No window open and nothing declared. */
+    public static final UnoTimerState NONE = new UnoTimerState(-1, false, -1, false, false, 0L);
+
+    private final int userRemainingMillis;
+    private final boolean userUnoClicked;
+    private final int cpuRemainingMillis;
+    private final boolean cpuDeclaredUno;
+    private final boolean playerCaughtCpu;
+    private final long randomState;
+
+    /**
+     * @param userRemainingMillis time left to press UNO, or -1 if the window is closed.
+     * @param userUnoClicked      whether the user already said UNO.
+     * @param cpuRemainingMillis  time left before the CPU says UNO, or -1 if the window is closed.
+     * @param cpuDeclaredUno      whether the CPU already said UNO.
+     * @param playerCaughtCpu     whether the user already caught the CPU.
+     * @param randomState         the state of the generator of CPU UNO delays.
+     */
+    public UnoTimerState(int userRemainingMillis, boolean userUnoClicked, int cpuRemainingMillis,
+                         boolean cpuDeclaredUno, boolean playerCaughtCpu, long randomState) {
+        this.userRemainingMillis = userRemainingMillis;
+        this.userUnoClicked = userUnoClicked;
+        this.cpuRemainingMillis = cpuRemainingMillis;
+        this.cpuDeclaredUno = cpuDeclaredUno;
+        this.playerCaughtCpu = playerCaughtCpu;
+        this.randomState = randomState;
+    }
+
+    public boolean isUserWindowOpen() {
+        return userRemainingMillis >= 0;
+    }
+
+    public int getUserRemainingMillis() {
+        return userRemainingMillis;
+    }
+
+    public boolean isUserUnoClicked() {
+        return userUnoClicked;
+    }
+
+    public boolean isCpuWindowOpen() {
+        return cpuRemainingMillis >= 0;
+    }
+
+    public int getCpuRemainingMillis() {
+        return cpuRemainingMillis;
+    }
+
+    public boolean isCpuDeclaredUno() {
+        return cpuDeclaredUno;
+    }
+
+    public boolean isPlayerCaughtCpu() {
+        return playerCaughtCpu;
+    }
+
+    public long getRandomState() {
+        return randomState;
+    }
+}
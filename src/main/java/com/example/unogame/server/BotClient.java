@@ -0,0 +1,111 @@
+package com.example.unogame.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load generator for {@link GameHost}: each thread opens one connection,
+ * creates a table and plays games back to back, choosing the first card
+ * whose color or value matches the top of the discard pile.
+ *
+ * <p>Usage: {@code BotClient [threads] [seconds] [port]}</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class BotClient {
+    private static final String[] COLORS = {"RED", "BLUE", "GREEN", "YELLOW"};
+
+    private BotClient() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int port = args.length > 2 ? Integer.parseInt(args[2]) : GameHost.DEFAULT_PORT;
+
+        LongAdder commands = new LongAdder();
+        LongAdder games = new LongAdder();
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Thread(() -> play(port, deadline, commands, games), "Bot-" + i);
+            workers[i].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        System.out.printf("%d comandos (%.0f cmd/s), %d partidas (%.1f partidas/s)%n",
+                commands.sum(), commands.sum() / (double) seconds,
+                games.sum(), games.sum() / (double) seconds);
+    }
+
+    private static void play(int port, long deadline, LongAdder commands, LongAdder games) {
+        try (Socket socket = new Socket("127.0.0.1", port)) {
+            socket.setTcpNoDelay(true);
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter out = new PrintWriter(
+                    new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+
+            String table = request(out, in, "CREATE", commands).split(" ")[1];
+            String response = request(out, in, "JOIN " + table, commands);
+            while (System.nanoTime() < deadline) {
+                if (response.startsWith("OVER")) {
+                    games.increment();
+                    response = request(out, in, "RESET " + table, commands);
+                } else if (response.startsWith("STATE")) {
+                    response = request(out, in, nextMove(table, response), commands);
+                } else {
+                    // BUSY o ERR: se vuelve a pedir el estado
+                    response = request(out, in, "STATE " + table, commands);
+                }
+            }
+            out.println("QUIT");
+        } catch (IOException e) {
+            System.err.println("Bot desconectado: " + e.getMessage());
+        }
+    }
+
+    private static String request(PrintWriter out, BufferedReader in, String command, LongAdder commands)
+            throws IOException {
+        out.println(command);
+        String response = in.readLine();
+        if (response == null) {
+            throw new IOException("el servidor cerró la conexión");
+        }
+        commands.increment();
+        return response;
+    }
+
+    /**
+     * Picks a move from a {@code STATE <t> TOP <code> COLOR <c> DECK <n> CPU <n> HAND <codes>} line.
+     */
+    private static String nextMove(String table, String state) {
+        String[] parts = state.split(" ");
+        int top = Integer.parseInt(parts[3]);
+        String color = parts[5];
+        int topValue = top < 52 ? top % 13 : -1;
+        if (parts.length > 11) {
+            for (String token : parts[11].split(",")) {
+                int code = Integer.parseInt(token);
+                if (code >= 52) {
+                    return "PLAY " + table + " " + code + " " + COLORS[code % COLORS.length];
+                }
+                if (COLORS[code / 13].equals(color) || code % 13 == topValue) {
+                    return "PLAY " + table + " " + code;
+                }
+            }
+        }
+        return "DRAW " + table;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.unogame.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Client connection of a {@link GameHost}. Reads and writes happen on the
+ * host's IO thread; table loops only append responses through {@link #send}.
+ *
+ * <p>Once more than {@link #MAX_QUEUED_BYTES} are waiting to be written the
+ * connection stops reading, so a client that does not consume its responses
+ * cannot make the host buffer without bound.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+final class Connection {
+    static final int MAX_QUEUED_BYTES = 1 << 20;
+    private static final int MAX_LINE_LENGTH = 256;
+
+    final SocketChannel channel;
+    final SelectionKey key;
+    /** Tables this client created or joined, closed when it disconnects. IO thread only. */
+    final List<Table> tables = new ArrayList<>();
+    private final GameHost host;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(4096);
+    private final StringBuilder line = new StringBuilder(64);
+    private final Queue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    private volatile boolean open = true;
+
+    Connection(GameHost host, SocketChannel channel, SelectionKey key) {
+        this.host = host;
+        this.channel = channel;
+        this.key = key;
+    }
+
+    boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Queues a response line. Safe to call from any thread.
+     *
+     * @param response the line, without terminator.
+     */
+    void send(String response) {
+        if (!open) return;
+        byte[] bytes = (response + "\n").getBytes(StandardCharsets.UTF_8);
+        outbound.add(ByteBuffer.wrap(bytes));
+        queuedBytes.addAndGet(bytes.length);
+        if (writeScheduled.compareAndSet(false, true)) {
+            host.requestWrite(this);
+        }
+    }
+
+    /**
+     * Reads available bytes and dispatches each complete line. IO thread only.
+     *
+     * @throws IOException if the channel fails.
+     */
+    void onReadable() throws IOException {
+        int read = channel.read(readBuffer);
+        if (read < 0) {
+            close();
+            return;
+        }
+        readBuffer.flip();
+        while (readBuffer.hasRemaining()) {
+            char c = (char) (readBuffer.get() & 0xFF);
+            if (c == '\n') {
+                int end = line.length();
+                if (end > 0 && line.charAt(end - 1) == '\r') {
+                    line.setLength(end - 1);
+                }
+                if (line.length() > 0) {
+                    host.dispatch(this, line.toString(), System.nanoTime());
+                }
+                line.setLength(0);
+            } else if (line.length() < MAX_LINE_LENGTH) {
+                line.append(c);
+            }
+        }
+        readBuffer.clear();
+        updateInterest();
+    }
+
+    /**
+     * Writes as much of the queued output as the socket accepts. IO thread only.
+     *
+     * @throws IOException if the channel fails.
+     */
+    void onWritable() throws IOException {
+        writeScheduled.set(false);
+        ByteBuffer buffer;
+        while ((buffer = outbound.peek()) != null) {
+            int written = channel.write(buffer);
+            queuedBytes.addAndGet(-written);
+            if (buffer.hasRemaining()) {
+                break;
+            }
+            outbound.poll();
+        }
+        updateInterest();
+    }
+
+    private void updateInterest() {
+        if (!key.isValid()) return;
+        int ops = 0;
+        // Contrapresión: con demasiada salida pendiente se deja de leer al cliente
+        if (queuedBytes.get() < MAX_QUEUED_BYTES) {
+            ops |= SelectionKey.OP_READ;
+        }
+        if (!outbound.isEmpty()) {
+            ops |= SelectionKey.OP_WRITE;
+        }
+        key.interestOps(ops);
+    }
+
+    /**
+     * Called on the IO thread after {@link #send} asked for a write.
+     */
+    void onWriteRequested() {
+        updateInterest();
+    }
+
+    void close() {
+        if (!open) return;
+        open = false;
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // La conexión ya está cerrada
+        }
+        outbound.clear();
+        host.onClosed(this);
+    }
+}
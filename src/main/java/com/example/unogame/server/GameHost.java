@@ -0,0 +1,300 @@
+package com.example.unogame.server;
+
+import com.example.unogame.journal.GameJournal;
+import com.example.unogame.jfr.UnoFlightRecorder;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hosts many independent UNO games in one process for bots and load tests.
+ *
+ * <p>One IO thread multiplexes every client socket with a {@link Selector};
+ * games run on one {@link TableEventLoop} per core, each table pinned to a
+ * single loop so its {@link com.example.unogame.model.GameModel} is never
+ * shared between threads. Each table accepts at most {@link #MAX_PENDING_PER_TABLE}
+ * queued commands; beyond that the host answers {@code BUSY} instead of queueing.</p>
+ *
+ * <p>Line protocol (one command per line, one response per command):</p>
+ * <pre>
+ *   CREATE                     -> OK &lt;table&gt;
+ *   JOIN &lt;table&gt;               -> STATE ... | OVER ...
+ *   PLAY &lt;table&gt; &lt;card&gt; [color] -> STATE ... | OVER ...
+ *   DRAW &lt;table&gt;               -> STATE ... | OVER ...
+ *   STATE &lt;table&gt;              -> STATE ... | OVER ...
+ *   RESET &lt;table&gt;              -> STATE ...
+ *   CLOSE &lt;table&gt;              -> CLOSED &lt;table&gt;
+ *   STATS [table]              -> STATS ...
+ *   QUIT
+ * </pre>
+ * Cards are {@link com.example.unogame.model.UnoCard#getCode() card codes}; errors are
+ * answered with {@code ERR}. A table is dropped on {@code CLOSE} or when the client
+ * sitting at it disconnects, so short-lived games do not pile up. When started with
+ * a journal, every game is recorded in a {@link GameJournal}.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class GameHost implements Runnable {
+    public static final int DEFAULT_PORT = 7777;
+    public static final int MAX_PENDING_PER_TABLE = 32;
+
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    private final TableEventLoop[] loops;
+    private final Map<Integer, Table> tables = new ConcurrentHashMap<>();
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final Queue<Connection> writeRequests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger nextTableId = new AtomicInteger(1);
+    private final HostMetrics metrics = new HostMetrics();
+    private final GameJournal journal;
+    private volatile boolean running = true;
+
+    /**
+     * Opens the listening socket and starts one table loop per core.
+     *
+     * @param port      the TCP port, bound on the loopback interface.
+     * @param loopCount the number of table loops.
+     * @throws IOException if the socket cannot be opened.
+     */
+    public GameHost(int port, int loopCount) throws IOException {
+        this(port, loopCount, null);
+    }
+
+    /**
+     * Opens the listening socket and starts one table loop per core.
+     *
+     * @param port      the TCP port, bound on the loopback interface.
+     * @param loopCount the number of table loops.
+     * @param journal   the journal that records every game, or null.
+     * @throws IOException if the socket cannot be opened.
+     */
+    public GameHost(int port, int loopCount, GameJournal journal) throws IOException {
+        this.journal = journal;
+        selector = Selector.open();
+        server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress("127.0.0.1", port));
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+
+        loops = new TableEventLoop[loopCount];
+        for (int i = 0; i < loopCount; i++) {
+            loops[i] = new TableEventLoop(i);
+            loops[i].start();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        UnoFlightRecorder.startIfRequested();
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int loopCount = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        GameJournal journal = args.length > 2 ? new GameJournal(Paths.get(args[2])) : null;
+        GameHost host = new GameHost(port, loopCount, journal);
+        System.out.printf("Servidor UNO en 127.0.0.1:%d con %d bucles de mesas%n", port, loopCount);
+        host.run();
+    }
+
+    /**
+     * Runs the IO loop until {@link #shutdown()} is called.
+     */
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                Connection pending;
+                while ((pending = writeRequests.poll()) != null) {
+                    pending.onWriteRequested();
+                }
+
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    handleKey(key);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error en el servidor: " + e.getMessage());
+        } finally {
+            closeAll();
+        }
+    }
+
+    private void handleKey(SelectionKey key) {
+        if (!key.isValid()) return;
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isWritable()) {
+                connection.onWritable();
+            }
+            if (key.isValid() && key.isReadable()) {
+                connection.onReadable();
+            }
+        } catch (IOException e) {
+            connection.close();
+        }
+    }
+
+    private void accept() {
+        try {
+            SocketChannel channel = server.accept();
+            if (channel == null) return;
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            Connection connection = new Connection(this, channel, key);
+            key.attach(connection);
+            connections.add(connection);
+        } catch (IOException e) {
+            System.err.println("No se pudo aceptar la conexión: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses one command line and routes it to the owning table loop.
+     * Runs on the IO thread.
+     */
+    void dispatch(Connection connection, String commandLine, long receivedNanos) {
+        metrics.commands.increment();
+        String[] args = commandLine.trim().split("\\s+");
+        String command = args[0].toUpperCase();
+
+        switch (command) {
+            case "QUIT":
+                connection.close();
+                return;
+            case "STATS":
+                if (args.length < 2) {
+                    respond(connection, null, metrics.summary(tables.size(), connections.size()), receivedNanos);
+                    return;
+                }
+                break;
+            case "CREATE":
+                int id = nextTableId.getAndIncrement();
+                Table created = new Table(id, loops[id % loops.length], MAX_PENDING_PER_TABLE, journal);
+                tables.put(id, created);
+                connection.tables.add(created);
+                submit(connection, created, command, args, receivedNanos);
+                return;
+            default:
+                break;
+        }
+
+        if (args.length < 2) {
+            metrics.errors.increment();
+            respond(connection, null, "ERR falta el número de mesa", receivedNanos);
+            return;
+        }
+        Table table;
+        try {
+            table = tables.get(Integer.parseInt(args[1]));
+        } catch (NumberFormatException e) {
+            table = null;
+        }
+        if (table == null) {
+            metrics.errors.increment();
+            respond(connection, null, "ERR mesa desconocida: " + args[1], receivedNanos);
+            return;
+        }
+        if ("STATS".equals(command)) {
+            respond(connection, table, table.summary(), receivedNanos);
+            return;
+        }
+        if ("JOIN".equals(command) && !connection.tables.contains(table)) {
+            connection.tables.add(table);
+        }
+        submit(connection, table, command, args, receivedNanos);
+    }
+
+    private void submit(Connection connection, Table table, String command, String[] args, long receivedNanos) {
+        if (!table.tryAcquire()) {
+            metrics.rejected.increment();
+            respond(connection, table, "BUSY " + table.id, receivedNanos);
+            return;
+        }
+        table.loop.submit(() -> {
+            try {
+                respond(connection, table, table.handle(connection, command, args, metrics), receivedNanos);
+                if (table.isClosed()) {
+                    tables.remove(table.id, table);
+                }
+            } finally {
+                table.release();
+            }
+        });
+    }
+
+    private void respond(Connection connection, Table table, String response, long receivedNanos) {
+        long latency = System.nanoTime() - receivedNanos;
+        metrics.latency.record(latency);
+        if (table != null) {
+            table.latency.record(latency);
+        }
+        connection.send(response);
+    }
+
+    /**
+     * Asks the IO thread to flush a connection's output. Safe to call from any thread.
+     */
+    void requestWrite(Connection connection) {
+        writeRequests.add(connection);
+        selector.wakeup();
+    }
+
+    void onClosed(Connection connection) {
+        connections.remove(connection);
+        // Las mesas se cierran en su propio bucle, que es el único que toca su estado
+        for (Table table : connection.tables) {
+            table.loop.submit(() -> {
+                if (table.abandon(connection)) {
+                    tables.remove(table.id, table);
+                }
+            });
+        }
+        connection.tables.clear();
+    }
+
+    /**
+     * Stops the IO loop and every table loop.
+     */
+    public void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+
+    private void closeAll() {
+        for (Connection connection : connections) {
+            connection.close();
+        }
+        for (TableEventLoop loop : loops) {
+            loop.shutdown();
+        }
+        try {
+            server.close();
+            selector.close();
+            if (journal != null) {
+                journal.close();
+            }
+        } catch (IOException ignored) {
+            // Se está cerrando de todas formas
+        }
+    }
+}
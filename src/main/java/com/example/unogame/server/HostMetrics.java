@@ -0,0 +1,30 @@
+package com.example.unogame.server;
+
+import com.example.unogame.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregate counters of a {@link GameHost}: commands, rejections, errors,
+ * finished games and command latency from receipt to response.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+final class HostMetrics {
+    final LongAdder commands = new LongAdder();
+    final LongAdder rejected = new LongAdder();
+    final LongAdder errors = new LongAdder();
+    final LongAdder gamesFinished = new LongAdder();
+    final LatencyHistogram latency = new LatencyHistogram();
+    private final long startNanos = System.nanoTime();
+
+    String summary(int tables, int connections) {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        long total = commands.sum();
+        return String.format("STATS tables=%d connections=%d commands=%d cmd/s=%.0f rejected=%d errors=%d games=%d %s",
+                tables, connections, total, total / seconds, rejected.sum(), errors.sum(),
+                gamesFinished.sum(), latency.summary());
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.unogame.server;
+
+import com.example.unogame.engine.HeadlessGameEngine;
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.exceptions.GameRuleException;
+import com.example.unogame.journal.GameJournal;
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+import com.example.unogame.metrics.LatencyHistogram;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One hosted game: a remote player in the user seat against the CPU.
+ * Game state is only touched from the table's {@link TableEventLoop};
+ * the pending-command counter and the metrics may be read from any thread.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+final class Table {
+    final int id;
+    final TableEventLoop loop;
+    final LatencyHistogram latency = new LatencyHistogram();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final int maxPending;
+    private final GameJournal journal;
+
+    private HeadlessGameEngine engine;
+    private Connection owner;
+    private Connection creator;
+    private volatile boolean closed;
+    private volatile long commands;
+    private volatile long gamesFinished;
+
+    Table(int id, TableEventLoop loop, int maxPending, GameJournal journal) {
+        this.id = id;
+        this.loop = loop;
+        this.maxPending = maxPending;
+        this.journal = journal;
+    }
+
+    /**
+     * Reserves a slot in the table's command queue.
+     *
+     * @return false if the table already has {@code maxPending} commands in flight.
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int current = pending.get();
+            if (current >= maxPending) {
+                return false;
+            }
+            if (pending.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release() {
+        pending.decrementAndGet();
+    }
+
+    /**
+     * Executes one command on the table's loop thread.
+     *
+     * @param connection the client that sent the command.
+     * @param command    the upper-case command name.
+     * @param args       the command tokens, {@code args[1]} being the table id.
+     * @param metrics    host-wide counters.
+     * @return the response line.
+     */
+    String handle(Connection connection, String command, String[] args, HostMetrics metrics) {
+        commands++;
+        if (closed) {
+            return "ERR " + id + " mesa cerrada";
+        }
+        try {
+            switch (command) {
+                case "CREATE":
+                    creator = connection;
+                    engine = new HeadlessGameEngine();
+                    if (journal != null) {
+                        journal.attach(engine.getModel());
+                    }
+                    engine.playUntilUserTurn();
+                    return "OK " + id;
+                case "JOIN":
+                    if (owner != null && owner != connection && owner.isOpen()) {
+                        return "ERR " + id + " mesa ocupada";
+                    }
+                    owner = connection;
+                    return state();
+                case "RESET":
+                    requireOwner(connection);
+                    engine.newGame();
+                    engine.playUntilUserTurn();
+                    return state();
+                case "STATE":
+                    return state();
+                case "PLAY":
+                    requireOwner(connection);
+                    requireUserTurn();
+                    return play(args, metrics);
+                case "DRAW":
+                    requireOwner(connection);
+                    requireUserTurn();
+                    return draw(metrics);
+                case "CLOSE":
+                    if (!abandon(connection)) {
+                        throw new GameRuleException("no estás sentado en esta mesa");
+                    }
+                    return "CLOSED " + id;
+                default:
+                    return "ERR " + id + " comando desconocido: " + command;
+            }
+        } catch (GameRuleException | IllegalArgumentException | DeckEmptyException e) {
+            metrics.errors.increment();
+            return "ERR " + id + " " + e.getMessage();
+        }
+    }
+
+    private String play(String[] args, HostMetrics metrics) {
+        if (args.length < 3) {
+            throw new IllegalArgumentException("uso: PLAY <mesa> <carta> [color]");
+        }
+        int code = Integer.parseInt(args[2]);
+        if (code < 0 || code >= UnoCard.FACE_COUNT) {
+            throw new IllegalArgumentException("carta inválida: " + code);
+        }
+        // El color se valida antes de jugar: después el turno ya habría pasado a la CPU
+        UnoCard.Color color = args.length > 3 ? parseColor(args[3]) : null;
+        UnoCard card = engine.playCard(UnoCard.of(code), true);
+        if (card.getColor() == UnoCard.Color.WILD && color != null) {
+            engine.getModel().setWildColor(color);
+        }
+        return afterUserMove(metrics);
+    }
+
+    private static UnoCard.Color parseColor(String name) {
+        try {
+            UnoCard.Color color = UnoCard.Color.valueOf(name.toUpperCase(Locale.ROOT));
+            if (color != UnoCard.Color.WILD) {
+                return color;
+            }
+        } catch (IllegalArgumentException ignored) {
+            // Se informa abajo con el nombre recibido
+        }
+        throw new IllegalArgumentException("color inválido: " + name);
+    }
+
+    private String draw(HostMetrics metrics) {
+        // Igual que en la interfaz: si la carta robada no sirve, el turno pasa a la CPU
+        UnoCard drawn = engine.drawCard(true);
+        if (drawn == null || !engine.isValidPlay(drawn)) {
+            engine.switchTurn();
+        }
+        return afterUserMove(metrics);
+    }
+
+    private String afterUserMove(HostMetrics metrics) {
+        engine.playUntilUserTurn();
+        if (engine.isFinished()) {
+            gamesFinished++;
+            metrics.gamesFinished.increment();
+        }
+        return state();
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes the table if the connection is sitting at it, or created it and
+     * nobody sat down. Loop thread only.
+     *
+     * @param connection a client that closes the table or has disconnected.
+     * @return true if the table is closed.
+     */
+    boolean abandon(Connection connection) {
+        if (!closed && (owner == connection || owner == null && creator == connection)) {
+            closed = true;
+            engine = null;
+            owner = null;
+            creator = null;
+        }
+        return closed;
+    }
+
+    private void requireOwner(Connection connection) {
+        if (owner != connection) {
+            throw new GameRuleException("no estás sentado en esta mesa");
+        }
+    }
+
+    private void requireUserTurn() {
+        if (engine.isFinished()) {
+            throw new GameRuleException("la partida ha terminado");
+        }
+        if (!engine.getModel().isUserTurn()) {
+            throw new GameRuleException("no es tu turno");
+        }
+    }
+
+    /**
+     * Formats the player's view of the game:
+     * {@code STATE <id> TOP <code> COLOR <color> DECK <n> CPU <n> HAND <c,c,...>}, or
+     * {@code OVER <id> WIN|LOSE|DRAW} once the game has ended.
+     */
+    private String state() {
+        if (engine.isFinished()) {
+            String result = engine.isStalemate() ? "DRAW" : engine.userWins() ? "WIN" : "LOSE";
+            return "OVER " + id + " " + result;
+        }
+        GameModel model = engine.getModel();
+        StringBuilder sb = new StringBuilder(64 + model.getUserHand().size() * 3);
+        sb.append("STATE ").append(id)
+                .append(" TOP ").append(model.getTopDiscard().getCode())
+                .append(" COLOR ").append(model.getCurrentColor())
+                .append(" DECK ").append(model.getDeckSize())
+                .append(" CPU ").append(model.getCpuHand().size())
+                .append(" HAND ");
+        boolean first = true;
+        for (UnoCard card : model.getUserHand()) {
+            if (!first) sb.append(',');
+            sb.append(card.getCode());
+            first = false;
+        }
+        return sb.toString();
+    }
+
+    String summary() {
+        return String.format("STATS %d commands=%d pending=%d games=%d %s",
+                id, commands, pending.get(), gamesFinished, latency.summary());
+    }
+}
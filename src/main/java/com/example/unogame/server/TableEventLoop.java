@@ -0,0 +1,50 @@
+package com.example.unogame.server;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Single-threaded event loop that owns a subset of the tables.
+ * Every command for a table runs on that table's loop, so game state
+ * needs no locking; the host starts one loop per core.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+final class TableEventLoop implements Runnable {
+    private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    TableEventLoop(int index) {
+        this.thread = new Thread(this, "TableLoop-" + index);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void submit(Runnable task) {
+        tasks.add(task);
+    }
+
+    void shutdown() {
+        running = false;
+        thread.interrupt();
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                tasks.take().run();
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                System.err.println("Error en " + thread.getName() + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.unogame.strategy;
+
+import com.example.unogame.model.UnoCard;
+
+/**
+ * Plays action cards first (+2, REVERSE, SKIP), then the highest number, and
+ * keeps wild cards for when nothing else fits.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+public final class ActionFirstStrategy implements Strategy {
+    private static final long COLORED_MASK = (1L << UnoCard.WILD_CODE) - 1;
+
+    @Override
+    public String name() {
+        return "action";
+    }
+
+    @Override
+    public Decision decide(PositionView position) {
+        long mask = position.getPlayableMask();
+        if (mask == 0) return Decision.DRAW;
+        long colored = mask & COLORED_MASK;
+        if (colored == 0) {
+            return Decision.play(position, Long.numberOfTrailingZeros(mask));
+        }
+        // Dentro de cada color el valor crece con el código: SKIP, REVERSE y +2 son los más altos
+        int best = -1;
+        int bestValue = -1;
+        for (long m = colored; m != 0; m &= m - 1) {
+            int code = Long.numberOfTrailingZeros(m);
+            int value = code % UnoCard.COLORED_VALUES;
+            if (value > bestValue) {
+                best = code;
+                bestValue = value;
+            }
+        }
+        return Decision.play(position, best);
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.unogame.strategy;
+
+import com.example.unogame.engine.HeadlessGameEngine;
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+
+/**
+ * Plays many games at once with one {@link Strategy} per seat, batching decisions:
+ * each round gathers every table waiting on a seat and hands all their positions
+ * to that seat's strategy in one {@link Strategy#decideAll} call. A finished table
+ * is dealt its next game until the requested number of games has been played.
+ *
+ * <p>Usage: {@code java -cp target/classes com.example.unogame.strategy.BatchGameRunner
+ * [games] [tables] [strategies]}, e.g. {@code 200000 256 first,action}.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class BatchGameRunner {
+    private final Strategy[] strategies;
+    private final HeadlessGameEngine[] engines;
+    private final boolean[] live;
+    private final int[] turns;
+    private final int[] passes;
+    private final long seed;
+    private final long[] wins;
+    private long games;
+    private long draws;
+    private long decisions;
+    private long batches;
+    private long started;
+
+    /**
+     * @param strategies the strategy of each seat; their number is the table size.
+     * @param tables     how many games are played at the same time.
+     * @param seed       the seed of the first deal; game {@code i} is dealt from {@code seed + i}.
+     */
+    public BatchGameRunner(Strategy[] strategies, int tables, long seed) {
+        this.strategies = strategies.clone();
+        this.engines = new HeadlessGameEngine[tables];
+        this.live = new boolean[tables];
+        this.turns = new int[tables];
+        this.passes = new int[tables];
+        this.wins = new long[strategies.length];
+        this.seed = seed;
+        try {
+            for (int t = 0; t < tables; t++) {
+                engines[t] = new HeadlessGameEngine(strategies.length, seed);
+            }
+        } catch (DeckEmptyException e) {
+            throw new IllegalStateException("El mazo no alcanza para repartir", e);
+        }
+    }
+
+    /**
+     * Plays the given number of games to the end.
+     *
+     * @param total the number of games.
+     */
+    public void run(long total) {
+        int tables = engines.length;
+        PositionView[] views = new PositionView[tables];
+        Decision[] batch = new Decision[tables];
+        int[] index = new int[tables];
+
+        int active = 0;
+        for (int t = 0; t < tables; t++) {
+            if (startGame(t, total)) active++;
+        }
+        while (active > 0) {
+            for (int seat = 0; seat < strategies.length; seat++) {
+                int n = 0;
+                for (int t = 0; t < tables; t++) {
+                    if (live[t] && engines[t].getModel().getCurrentSeat() == seat) {
+                        views[n] = PositionView.of(engines[t].getModel(), seat);
+                        index[n++] = t;
+                    }
+                }
+                if (n == 0) continue;
+                strategies[seat].decideAll(views, n, batch);
+                batches++;
+                decisions += n;
+
+                for (int i = 0; i < n; i++) {
+                    int t = index[i];
+                    if (apply(t, seat, batch[i])) {
+                        finishGame(t);
+                        if (!startGame(t, total)) active--;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies one decision; a game is blocked when no seat changes its hand or
+     * the discard pile for a full round.
+     *
+     * @return true if the game is over.
+     */
+    private boolean apply(int t, int seat, Decision decision) {
+        GameModel model = engines[t].getModel();
+        int sizeBefore = model.getHand(seat).size();
+        UnoCard topBefore = model.getTopDiscard();
+        int status = decision.apply(model, seat);
+        if (!decision.isDraw() && status < 0) {
+            throw new IllegalStateException("La estrategia " + strategies[seat].name()
+                    + " eligió una jugada no válida: " + decision);
+        }
+        boolean moved = model.getHand(seat).size() != sizeBefore || model.getTopDiscard() != topBefore;
+        passes[t] = moved ? 0 : passes[t] + 1;
+        turns[t]++;
+        return model.isGameOver() || passes[t] >= strategies.length || turns[t] >= HeadlessGameEngine.MAX_TURNS;
+    }
+
+    private boolean startGame(int t, long total) {
+        if (started == total) {
+            live[t] = false;
+            return false;
+        }
+        try {
+            engines[t].newGame(seed + started++);
+        } catch (DeckEmptyException e) {
+            throw new IllegalStateException("El mazo no alcanza para repartir", e);
+        }
+        turns[t] = 0;
+        passes[t] = 0;
+        live[t] = true;
+        return true;
+    }
+
+    private void finishGame(int t) {
+        games++;
+        int winner = engines[t].getModel().getWinner();
+        if (winner == GameModel.NO_SEAT) {
+            draws++;
+        } else {
+            wins[winner]++;
+        }
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins(int seat) {
+        return wins[seat];
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    /**
+     * Returns the average number of positions per {@link Strategy#decideAll} call.
+     *
+     * @return the average batch size.
+     */
+    public double getAverageBatch() {
+        return batches == 0 ? 0 : (double) decisions / batches;
+    }
+
+    public long getDecisions() {
+        return decisions;
+    }
+
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 200_000;
+        int tables = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+        String[] names = (args.length > 2 ? args[2] : "first,action").split(",");
+        System.out.println("Estrategias disponibles: " + StrategyRegistry.names());
+
+        Strategy[] strategies = new Strategy[names.length];
+        for (int i = 0; i < names.length; i++) {
+            strategies[i] = StrategyRegistry.create(names[i].trim());
+            strategies[i].setSeed(i);
+        }
+
+        // Calentamiento para que el JIT compile el bucle antes de medir
+        new BatchGameRunner(strategies, tables, 1L).run(Math.min(games, 20_000));
+
+        BatchGameRunner runner = new BatchGameRunner(strategies, tables, 42L);
+        long start = System.nanoTime();
+        runner.run(games);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d partidas en %d mesas simultáneas: %.3f s, %.0f partidas/s%n",
+                runner.getGames(), tables, seconds, runner.getGames() / seconds);
+        System.out.printf("%d decisiones, %.1f posiciones por llamada a decideAll%n",
+                runner.getDecisions(), runner.getAverageBatch());
+        for (int seat = 0; seat < names.length; seat++) {
+            System.out.printf("  asiento %d (%s): %.2f%% victorias%n",
+                    seat, strategies[seat].name(), 100.0 * runner.getWins(seat) / runner.getGames());
+        }
+        System.out.printf("  bloqueadas: %d%n", runner.getDraws());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.unogame.strategy;
+
+import com.example.unogame.ai.Move;
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+
+/**
+ * What a {@link Strategy} decided for one position: the card to play (or to
+ * draw), the color for a wild card and whether to call UNO.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class Decision {
+    /** Draw a card without calling UNO. */
+    public static final Decision DRAW = new Decision(GameModel.NO_CARD, null, false);
+
+    private final int code;
+    private final UnoCard.Color color;
+    private final boolean callUno;
+
+    private Decision(int code, UnoCard.Color color, boolean callUno) {
+        this.code = code;
+        this.color = color;
+        this.callUno = callUno;
+    }
+
+    /**
+     * Returns the decision to play a card.
+     *
+     * @param code    the card code; must be playable.
+     * @param color   the color chosen for a wild card, or null for colored cards.
+     * @param callUno whether to call UNO, i.e. the card leaves one card in hand.
+     * @return the decision.
+     */
+    public static Decision play(int code, UnoCard.Color color, boolean callUno) {
+        if (code >= UnoCard.WILD_CODE && color == null) {
+            throw new IllegalArgumentException("Un comodín necesita un color");
+        }
+        return new Decision(code, color, callUno);
+    }
+
+    /**
+     * Plays a card, calling UNO when it leaves the seat with one card and choosing
+     * the view's {@link PositionView#bestColor() best color} for wild cards.
+     *
+     * @param view the position the card is played in.
+     * @param code the card code.
+     * @return the decision.
+     */
+    public static Decision play(PositionView view, int code) {
+        return play(code, code >= UnoCard.WILD_CODE ? view.bestColor() : null, view.getHandSize() == 2);
+    }
+
+    public boolean isDraw() {
+        return code == GameModel.NO_CARD;
+    }
+
+    /**
+     * @return the card code, or {@link GameModel#NO_CARD} to draw.
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * @return the wild color, or null.
+     */
+    public UnoCard.Color getColor() {
+        return color;
+    }
+
+    public boolean callsUno() {
+        return callUno;
+    }
+
+    /**
+     * Applies the decision for a seat, like {@link Move#apply(GameModel, int)}.
+     *
+     * @param model the game.
+     * @param seat  the seat deciding.
+     * @return a {@link GameModel#play} status, or {@link GameModel#NO_CARD} if the seat passed.
+     */
+    public int apply(GameModel model, int seat) {
+        return Move.apply(model, seat, code, color);
+    }
+
+    @Override
+    public String toString() {
+        String move = isDraw() ? "DRAW" : color == null ? UnoCard.of(code).toString() : UnoCard.of(code) + " -> " + color;
+        return callUno ? move + " (UNO)" : move;
+    }
+}
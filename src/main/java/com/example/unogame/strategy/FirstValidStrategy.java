@@ -0,0 +1,19 @@
+package com.example.unogame.strategy;
+
+/**
+ * The model's own rule: the first valid card in code order, wild cards last.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+public final class FirstValidStrategy implements Strategy {
+    @Override
+    public String name() {
+        return "first";
+    }
+
+    @Override
+    public Decision decide(PositionView position) {
+        long mask = position.getPlayableMask();
+        return mask == 0 ? Decision.DRAW : Decision.play(position, Long.numberOfTrailingZeros(mask));
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.unogame.strategy;
+
+import com.example.unogame.model.UnoCard;
+
+/**
+ * Plays a card of the color the hand holds most, to keep its options open,
+ * and keeps wild cards for when nothing else fits.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+public final class MajorityColorStrategy implements Strategy {
+    private static final long COLORED_MASK = (1L << UnoCard.WILD_CODE) - 1;
+
+    @Override
+    public String name() {
+        return "color";
+    }
+
+    @Override
+    public Decision decide(PositionView position) {
+        long mask = position.getPlayableMask();
+        if (mask == 0) return Decision.DRAW;
+        int best = Long.numberOfTrailingZeros(mask);
+        int bestCount = -1;
+        for (long m = mask & COLORED_MASK; m != 0; m &= m - 1) {
+            int code = Long.numberOfTrailingZeros(m);
+            int count = position.colorCount(UnoCard.of(code).getColor());
+            if (count > bestCount) {
+                best = code;
+                bestCount = count;
+            }
+        }
+        return Decision.play(position, best);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.unogame.strategy;
+
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.Hand;
+import com.example.unogame.model.UnoCard;
+
+/**
+ * Immutable view of a game from one seat: what that seat may know when it has
+ * to decide. It holds its own copy of the seat's hand and of the public state
+ * (top card, color, direction, discarded cards, hand and deck sizes), so it stays valid after the
+ * game moves on and can be handed to other threads.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class PositionView {
+    private static final UnoCard.Color[] PLAYABLE_COLORS = {
+            UnoCard.Color.RED, UnoCard.Color.BLUE, UnoCard.Color.GREEN, UnoCard.Color.YELLOW
+    };
+
+    private final int seat;
+    private final int direction;
+    private final int topCode;
+    private final UnoCard.Color color;
+    private final int deckSize;
+    private final byte[] counts = new byte[UnoCard.FACE_COUNT];
+    private final byte[] discards = new byte[UnoCard.FACE_COUNT];
+    private final int[] colorCounts = new int[UnoCard.Color.values().length];
+    private final int[] handSizes;
+    private final long playableMask;
+
+    private PositionView(GameModel model, int seat) {
+        this.seat = seat;
+        this.direction = model.getDirection();
+        this.topCode = model.getTopDiscard().getCode();
+        this.color = model.getCurrentColor();
+        this.deckSize = model.getDeckSize();
+
+        Hand hand = model.getHand(seat);
+        for (int code = 0; code < UnoCard.FACE_COUNT; code++) {
+            counts[code] = (byte) hand.count(code);
+        }
+        for (UnoCard.Color c : UnoCard.Color.values()) {
+            colorCounts[c.ordinal()] = hand.colorCount(c);
+        }
+        model.copyDiscardCounts(discards);
+        this.playableMask = model.isGameOver() ? 0
+                : hand.playableMask(color, model.getTopDiscard().getValue());
+
+        handSizes = new int[model.getSeatCount()];
+        for (int i = 0; i < handSizes.length; i++) {
+            handSizes[i] = model.getHand(i).size();
+        }
+    }
+
+    /**
+     * Captures the position as seen from a seat.
+     *
+     * @param model the game.
+     * @param seat  the seat that decides.
+     * @return the view.
+     */
+    public static PositionView of(GameModel model, int seat) {
+        return new PositionView(model, seat);
+    }
+
+    public int getSeat() {
+        return seat;
+    }
+
+    public int getSeatCount() {
+        return handSizes.length;
+    }
+
+    /** +1 or -1. */
+    public int getDirection() {
+        return direction;
+    }
+
+    public UnoCard getTopDiscard() {
+        return UnoCard.of(topCode);
+    }
+
+    /**
+     * Returns the color to follow: the top card's color, or the one chosen for a wild card.
+     *
+     * @return the color; null only for a wild card whose color is still to be chosen.
+     */
+    public UnoCard.Color getColor() {
+        return color;
+    }
+
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    public int getHandSize() {
+        return handSizes[seat];
+    }
+
+    /**
+     * Returns how many cards another seat holds.
+     *
+     * @param other the seat.
+     * @return its hand size.
+     */
+    public int getHandSize(int other) {
+        return handSizes[other];
+    }
+
+    /**
+     * Returns how many copies of a card this seat holds.
+     *
+     * @param code the card code.
+     * @return the number of copies.
+     */
+    public int count(int code) {
+        return counts[code];
+    }
+
+    /**
+     * Returns how many copies of a card have been discarded, the top card included.
+     *
+     * @param code the card code.
+     * @return the number of copies.
+     */
+    public int discardCount(int code) {
+        return discards[code];
+    }
+
+    public int colorCount(UnoCard.Color c) {
+        return colorCounts[c.ordinal()];
+    }
+
+    /**
+     * Returns one bit per card code of this seat's hand that can be played now.
+     *
+     * @return the mask; 0 if the seat must draw.
+     */
+    public long getPlayableMask() {
+        return playableMask;
+    }
+
+    /**
+     * Returns the colored color this seat holds most, RED if it holds none,
+     * as the model chooses for CPU wild cards.
+     *
+     * @return the color.
+     */
+    public UnoCard.Color bestColor() {
+        UnoCard.Color best = UnoCard.Color.RED;
+        int bestCount = 0;
+        for (UnoCard.Color c : PLAYABLE_COLORS) {
+            if (colorCounts[c.ordinal()] > bestCount) {
+                best = c;
+                bestCount = colorCounts[c.ordinal()];
+            }
+        }
+        return best;
+    }
+}
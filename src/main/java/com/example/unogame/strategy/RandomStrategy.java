@@ -0,0 +1,32 @@
+package com.example.unogame.strategy;
+
+import com.example.unogame.model.GameRandom;
+
+/**
+ * Plays any valid card, uniformly at random; a baseline for the other strategies.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+public final class RandomStrategy implements Strategy {
+    private final GameRandom random = new GameRandom();
+
+    @Override
+    public String name() {
+        return "random";
+    }
+
+    @Override
+    public Decision decide(PositionView position) {
+        long mask = position.getPlayableMask();
+        if (mask == 0) return Decision.DRAW;
+        for (int skip = random.nextInt(Long.bitCount(mask)); skip > 0; skip--) {
+            mask &= mask - 1;
+        }
+        return Decision.play(position, Long.numberOfTrailingZeros(mask));
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+}
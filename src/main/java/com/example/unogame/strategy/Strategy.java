@@ -0,0 +1,97 @@
+package com.example.unogame.strategy;
+
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+
+/**
+ * Service interface of CPU strategies: given what a seat can see, decide its move.
+ *
+ * <p>Implementations are found with {@link java.util.ServiceLoader}: declare them
+ * with {@code provides com.example.unogame.strategy.Strategy with ...} in a module,
+ * or in {@code META-INF/services} on the class path; see {@link StrategyRegistry}.
+ * The game module exports the model types the positions and decisions use, so
+ * providers may live in modules of their own. Each
+ * {@link java.util.ServiceLoader.Provider#get()} creates a new instance, and an
+ * instance is only ever used by one thread at a time, so strategies may keep
+ * state (caches, random generators) without locking.</p>
+ *
+ * <p>{@link #decideAll} receives the positions of many games at once, e.g. every
+ * table waiting on this strategy in a {@link BatchGameRunner}; override it to
+ * share work between them (vectorized evaluation, caches, one call to a remote
+ * model).</p>
+ *
+ * <p>The drivers that give an instance one game at a time (the game window's
+ * {@link com.example.unogame.turn.TurnStateMachine}, tournaments) also report
+ * every game start and every move of every seat, so a strategy that keeps a
+ * search tree can follow the game instead of starting over at each decision.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public interface Strategy {
+    /**
+     * Returns the short name used to choose the strategy, e.g. {@code first}.
+     *
+     * @return the name.
+     */
+    String name();
+
+    /**
+     * Decides the move of one position.
+     *
+     * @param position the position, from the deciding seat.
+     * @return the decision; must play a card of {@link PositionView#getPlayableMask()} or draw.
+     */
+    Decision decide(PositionView position);
+
+    /**
+     * Decides the moves of many positions. By default calls {@link #decide} for each one.
+     *
+     * @param positions the positions; only the first {@code count} are used.
+     * @param count     how many positions to decide.
+     * @param decisions receives the decision of {@code positions[i]} at index {@code i}.
+     */
+    default void decideAll(PositionView[] positions, int count, Decision[] decisions) {
+        for (int i = 0; i < count; i++) {
+            decisions[i] = decide(positions[i]);
+        }
+    }
+
+    /**
+     * Called when a new game starts, before the first decision in it. By default does nothing.
+     */
+    default void onGameStart() {
+    }
+
+    /**
+     * Called after every move of every seat, the strategy's own included, once it
+     * has been applied. By default does nothing.
+     *
+     * @param seat  the seat that moved.
+     * @param code  the card it played, or {@link GameModel#NO_CARD} if it drew
+     *              (and then played the drawn card if it fit).
+     * @param color the color chosen for a wild card, or null.
+     */
+    default void onMove(int seat, int code, UnoCard.Color color) {
+    }
+
+    /**
+     * Seeds the randomness of the strategy, if it has any, so games can be reproduced.
+     *
+     * @param seed the seed.
+     */
+    default void setSeed(long seed) {
+    }
+
+    /**
+     * Applies the argument written after the name, e.g. the {@code 200} of
+     * {@code mc:200}. By default strategies take no argument.
+     *
+     * @param argument the text after the first {@code ':'}.
+     * @throws IllegalArgumentException if the strategy does not accept it.
+     */
+    default void configure(String argument) {
+        throw new IllegalArgumentException("La estrategia " + name() + " no admite argumentos: " + argument);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.unogame.strategy;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Finds the {@link Strategy} implementations available through {@link ServiceLoader}
+ * and creates them by name.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class StrategyRegistry {
+    private StrategyRegistry() {
+    }
+
+    /**
+     * Providers by strategy name, loaded once on first use.
+     */
+    private static final class Holder {
+        static final Map<String, ServiceLoader.Provider<Strategy>> PROVIDERS = load();
+
+        private static Map<String, ServiceLoader.Provider<Strategy>> load() {
+            Map<String, ServiceLoader.Provider<Strategy>> providers = new LinkedHashMap<>();
+            ServiceLoader.load(Strategy.class).stream()
+                    .forEach(provider -> providers.putIfAbsent(provider.get().name(), provider));
+            return Collections.unmodifiableMap(providers);
+        }
+    }
+
+    /**
+     * Returns the names of the available strategies, in discovery order.
+     *
+     * @return the names.
+     */
+    public static Set<String> names() {
+        return Holder.PROVIDERS.keySet();
+    }
+
+    /**
+     * Creates a new instance of a strategy. A name may carry an argument after a
+     * colon, e.g. {@code mc:200}, which is handed to {@link Strategy#configure}.
+     *
+     * @param spec the strategy name, optionally followed by {@code :argument}.
+     * @return the new instance.
+     * @throws IllegalArgumentException if no strategy has that name or it rejects the argument.
+     */
+    public static Strategy create(String spec) {
+        int colon = spec.indexOf(':');
+        String name = colon < 0 ? spec : spec.substring(0, colon);
+        ServiceLoader.Provider<Strategy> provider = Holder.PROVIDERS.get(name);
+        if (provider == null) {
+            throw new IllegalArgumentException("Estrategia desconocida: " + name + " (disponibles: " + names() + ")");
+        }
+        Strategy strategy = provider.get();
+        if (colon >= 0) {
+            strategy.configure(spec.substring(colon + 1));
+        }
+        return strategy;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.unogame.tournament;
+
+import com.example.unogame.controller.interfaces.ICardPlayer;
+import com.example.unogame.model.GameModel;
+
+/**
+ * Creates the {@link ICardPlayer} of a strategy for one seat of a game.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+@FunctionalInterface
+public interface CardPlayerFactory {
+    /**
+     * @param model the game the player takes part in; reused for every game it plays.
+     * @param seat  the seat it plays.
+     * @param seed  seed for any randomness of the strategy.
+     * @return the player.
+     */
+    ICardPlayer create(GameModel model, int seat, long seed);
+}
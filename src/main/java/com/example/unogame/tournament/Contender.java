@@ -0,0 +1,24 @@
+package com.example.unogame.tournament;
+
+/**
+ * A named strategy taking part in a tournament.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+public final class Contender {
+    private final String name;
+    private final CardPlayerFactory factory;
+
+    public Contender(String name, CardPlayerFactory factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CardPlayerFactory getFactory() {
+        return factory;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.unogame.tournament;
+
+import com.example.unogame.ai.Move;
+import com.example.unogame.controller.interfaces.ICardPlayer;
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.Hand;
+import com.example.unogame.model.UnoCard;
+
+/**
+ * Base {@link ICardPlayer} bound to one seat of a {@link GameModel}: each
+ * {@link #playTurn()} plays the card chosen by {@link #chooseCard()}, or draws
+ * one card, plays it if it fits and otherwise passes, like the GUI allows.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public abstract class SeatPlayer implements ICardPlayer {
+    protected final GameModel model;
+    protected final int seat;
+
+    protected SeatPlayer(GameModel model, int seat) {
+        this.model = model;
+        this.seat = seat;
+    }
+
+    /**
+     * Chooses the card to play this turn.
+     *
+     * @return a playable card code, or {@link GameModel#NO_CARD} to draw.
+     */
+    protected abstract int chooseCard();
+
+    /**
+     * Chooses the color after playing a wild card; by default the color the hand holds most.
+     *
+     * @return the color.
+     */
+    protected UnoCard.Color chooseColor() {
+        return model.chooseBestColor(model.getHand(seat));
+    }
+
+    /**
+     * Returns the mask of the card codes this seat can play now.
+     *
+     * @return the mask, 0 if nothing can be played.
+     */
+    protected final long playableMask() {
+        Hand hand = model.getHand(seat);
+        return hand.playableMask(model.getCurrentColor(), model.getTopDiscard().getValue());
+    }
+
+    @Override
+    public void playTurn() {
+        int code = model.isGameOver() ? GameModel.NO_CARD : chooseCard();
+        UnoCard.Color color = code >= UnoCard.WILD_CODE ? chooseColor() : null;
+        Move.apply(model, seat, code, color);
+    }
+
+    @Override
+    public UnoCard drawCard() throws DeckEmptyException {
+        int code = model.drawCode(seat);
+        if (code == GameModel.NO_CARD) {
+            throw new DeckEmptyException("No quedan cartas en el mazo ni en el descarte");
+        }
+        return UnoCard.of(code);
+    }
+
+    @Override
+    public boolean canPlayCard() {
+        return !model.isGameOver() && playableMask() != 0;
+    }
+
+    @Override
+    public void declareUno() {
+        // Las partidas sin interfaz no penalizan el UNO
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.unogame.tournament;
+
+import com.example.unogame.adapters.CardPlayerAdapter;
+import com.example.unogame.ai.MonteCarloPlayer;
+import com.example.unogame.ai.Move;
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+import com.example.unogame.strategy.Strategy;
+import com.example.unogame.strategy.StrategyRegistry;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * CPU strategies for tournaments: every {@link Strategy} found by the
+ * {@link StrategyRegistry} (built in: {@code first}, {@code action}, {@code color},
+ * {@code random}, {@code ismcts:<ms>}), played through a {@link CardPlayerAdapter}, plus
+ * {@code mc:<ms>}, the {@link MonteCarloPlayer} with the given budget per move,
+ * which here searches the full model rather than a position view.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class Strategies {
+    private Strategies() {
+    }
+
+    /**
+     * Returns the strategy with the given name.
+     *
+     * @param name a strategy name, or {@code mc:<ms>}.
+     * @return the strategy.
+     * @throws IllegalArgumentException if the name is unknown.
+     */
+    public static Contender byName(String name) {
+        if (name.startsWith("mc:")) {
+            long budget = Long.parseLong(name.substring(3));
+            return new Contender(name, (model, seat, seed) -> new MonteCarlo(model, seat, budget, seed));
+        }
+        StrategyRegistry.create(name); // Falla pronto si el nombre no existe
+        return new Contender(name, (model, seat, seed) -> {
+            Strategy strategy = StrategyRegistry.create(name);
+            strategy.setSeed(seed);
+            return new CardPlayerAdapter(model, seat, strategy);
+        });
+    }
+
+    private static final class MonteCarlo extends SeatPlayer {
+        private final MonteCarloPlayer search;
+        private UnoCard.Color color;
+
+        MonteCarlo(GameModel model, int seat, long budgetMillis, long seed) {
+            super(model, seat);
+            this.search = new MonteCarloPlayer(ForkJoinPool.commonPool(), budgetMillis, seed);
+        }
+
+        @Override
+        protected int chooseCard() {
+            if (playableMask() == 0) return GameModel.NO_CARD;
+            Move move = search.chooseMove(model, seat);
+            color = move.getColor();
+            return move.getCode();
+        }
+
+        @Override
+        protected UnoCard.Color chooseColor() {
+            return color != null ? color : super.chooseColor();
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.example.unogame.tournament;
+
+import com.example.unogame.controller.interfaces.ICardPlayer;
+import com.example.unogame.engine.HeadlessGameEngine;
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.exceptions.InvalidCardPlayException;
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.Hand;
+import com.example.unogame.model.UnoCard;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Round-robin tournament between {@link ICardPlayer} strategies on two-seat tables.
+ *
+ * <p>Every pairing plays the same number of games. Games come in pairs that share
+ * a seed with the seats swapped, so neither strategy profits from a lucky deal or
+ * from starting. The games are split into {@link RecursiveAction} ranges on a
+ * work-stealing {@link ForkJoinPool}; each range owns its engine and players,
+ * and results are added to {@link LongAdder} counters, so workers never share
+ * a lock. Win rates are reported with 95% Wilson score intervals.</p>
+ *
+ * <p>Usage: {@code java -cp target/classes com.example.unogame.tournament.TournamentRunner
+ * [gamesPerPairing] [strategies] [threads] [seed]}, e.g. {@code 20000 first,action,color,random,mc:5}.
+ * See {@link Strategies} for the names.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class TournamentRunner {
+    private static final int GRAIN = 64;
+    private static final double Z_95 = 1.959964;
+
+    private final Contender[] contenders;
+    private final int gamesPerPairing;
+    private final long seed;
+    private final LongAdder[] games;
+    private final LongAdder[] wins;
+    private final LongAdder[][] pairWins; // pairWins[a][b]: victorias de a contra b
+    private final LongAdder draws = new LongAdder();
+    private final LongAdder turns = new LongAdder();
+
+    /**
+     * @param contenders      the strategies; every pair of them plays.
+     * @param gamesPerPairing games per pairing, rounded up to an even number for seat swapping.
+     * @param seed            base seed of the deals.
+     */
+    public TournamentRunner(Contender[] contenders, int gamesPerPairing, long seed) {
+        if (contenders.length < 2) {
+            throw new IllegalArgumentException("Se necesitan al menos dos estrategias");
+        }
+        this.contenders = contenders.clone();
+        this.gamesPerPairing = gamesPerPairing + (gamesPerPairing & 1);
+        this.seed = seed;
+        int n = contenders.length;
+        games = newAdders(n);
+        wins = newAdders(n);
+        pairWins = new LongAdder[n][];
+        for (int i = 0; i < n; i++) {
+            pairWins[i] = newAdders(n);
+        }
+    }
+
+    private static LongAdder[] newAdders(int n) {
+        LongAdder[] adders = new LongAdder[n];
+        for (int i = 0; i < n; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Plays every pairing on the given pool and waits for the results.
+     *
+     * @param pool the pool that runs the games.
+     * @return the total number of games played.
+     */
+    public long run(ForkJoinPool pool) {
+        int n = contenders.length;
+        int pairings = n * (n - 1) / 2;
+        int[] first = new int[pairings];
+        int[] second = new int[pairings];
+        int p = 0;
+        for (int a = 0; a < n; a++) {
+            for (int b = a + 1; b < n; b++) {
+                first[p] = a;
+                second[p] = b;
+                p++;
+            }
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                Games[] tasks = new Games[pairings];
+                for (int i = 0; i < pairings; i++) {
+                    tasks[i] = new Games(i, first[i], second[i], 0, gamesPerPairing);
+                }
+                invokeAll(tasks);
+            }
+        });
+        return (long) pairings * gamesPerPairing;
+    }
+
+    /**
+     * A range of games of one pairing; splits in halves down to {@value #GRAIN} games.
+     */
+    private final class Games extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int pairing;
+        private final int a;
+        private final int b;
+        private final int from;
+        private final int to;
+
+        Games(int pairing, int a, int b, int from, int to) {
+            this.pairing = pairing;
+            this.a = a;
+            this.b = b;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GRAIN) {
+                int middle = (from + to) >>> 1 & ~1; // Mantener juntas las dos partidas de cada semilla
+                invokeAll(new Games(pairing, a, b, from, middle), new Games(pairing, a, b, middle, to));
+                return;
+            }
+            play();
+        }
+
+        private void play() {
+            long pairingSeed = seed + (long) pairing * gamesPerPairing;
+            HeadlessGameEngine engine;
+            try {
+                engine = new HeadlessGameEngine(2, pairingSeed);
+            } catch (DeckEmptyException e) {
+                throw new IllegalStateException(e);
+            }
+            GameModel model = engine.getModel();
+            // jugadores[orientación][asiento]: en la orientación 1 se intercambian los asientos
+            ICardPlayer[][] players = {
+                    {create(a, model, 0, pairingSeed + from), create(b, model, 1, pairingSeed + from)},
+                    {create(b, model, 0, pairingSeed + to), create(a, model, 1, pairingSeed + to)}};
+            int[][] owners = {{a, b}, {b, a}};
+
+            int localTurns = 0;
+            for (int game = from; game < to; game++) {
+                int swapped = game & 1;
+                try {
+                    engine.newGame(pairingSeed + (game >>> 1));
+                } catch (DeckEmptyException e) {
+                    throw new IllegalStateException(e);
+                }
+                localTurns += playGame(model, players[swapped]);
+
+                games[a].increment();
+                games[b].increment();
+                int winner = model.getWinner();
+                if (winner == GameModel.NO_SEAT) {
+                    draws.increment();
+                } else {
+                    int owner = owners[swapped][winner];
+                    wins[owner].increment();
+                    pairWins[owner][owner == a ? b : a].increment();
+                }
+            }
+            turns.add(localTurns);
+        }
+
+        private ICardPlayer create(int contender, GameModel model, int seat, long playerSeed) {
+            return contenders[contender].getFactory().create(model, seat, playerSeed);
+        }
+    }
+
+    /**
+     * Plays one game to the end, telling every player of every move. A game is
+     * blocked when no seat changes its hand or the discard pile for a full round.
+     *
+     * @return the number of turns played.
+     */
+    private static int playGame(GameModel model, ICardPlayer[] players) {
+        int turn = 0;
+        int passes = 0;
+        for (ICardPlayer player : players) {
+            player.onGameStart();
+        }
+        while (!model.isGameOver() && passes < players.length && turn < HeadlessGameEngine.MAX_TURNS) {
+            int seat = model.getCurrentSeat();
+            Hand hand = model.getHand(seat);
+            int sizeBefore = hand.size();
+            UnoCard topBefore = model.getTopDiscard();
+            try {
+                players[seat].playTurn();
+            } catch (InvalidCardPlayException | DeckEmptyException e) {
+                throw new IllegalStateException("Jugada no válida del asiento " + seat, e);
+            }
+            // Si la mano no bajó, el asiento robó (y quizá jugó la carta robada)
+            int code = hand.size() < sizeBefore ? model.getTopDiscard().getCode() : GameModel.NO_CARD;
+            UnoCard.Color color = code >= UnoCard.WILD_CODE ? model.getCurrentColor() : null;
+            for (ICardPlayer player : players) {
+                player.onMove(seat, code, color);
+            }
+            passes = hand.size() == sizeBefore && model.getTopDiscard() == topBefore ? passes + 1 : 0;
+            turn++;
+        }
+        return turn;
+    }
+
+    /**
+     * Returns the 95% Wilson score interval of a proportion.
+     *
+     * @param successes the number of successes.
+     * @param trials    the number of trials.
+     * @return {lower, upper}, as fractions.
+     */
+    public static double[] wilsonInterval(long successes, long trials) {
+        if (trials == 0) {
+            return new double[]{0, 1};
+        }
+        double p = (double) successes / trials;
+        double z2n = Z_95 * Z_95 / trials;
+        double center = (p + z2n / 2) / (1 + z2n);
+        double half = Z_95 * Math.sqrt(p * (1 - p) / trials + z2n / (4.0 * trials)) / (1 + z2n);
+        return new double[]{center - half, center + half};
+    }
+
+    /**
+     * Prints the overall standings and the result of every pairing.
+     */
+    public void printResults() {
+        int n = contenders.length;
+        System.out.printf("%-10s %10s %10s %8s   %s%n", "Estrategia", "Partidas", "Victorias", "%", "IC 95%");
+        for (int i = 0; i < n; i++) {
+            long played = games[i].sum();
+            long won = wins[i].sum();
+            double[] ci = wilsonInterval(won, played);
+            System.out.printf("%-10s %10d %10d %7.2f%%   [%.2f%%, %.2f%%]%n", contenders[i].getName(),
+                    played, won, 100.0 * won / played, 100 * ci[0], 100 * ci[1]);
+        }
+        System.out.println("Enfrentamientos:");
+        for (int a = 0; a < n; a++) {
+            for (int b = a + 1; b < n; b++) {
+                long winsA = pairWins[a][b].sum();
+                long winsB = pairWins[b][a].sum();
+                double[] ci = wilsonInterval(winsA, gamesPerPairing);
+                System.out.printf("  %-10s vs %-10s %6.2f%% [%.2f%%, %.2f%%]  (%d-%d, %d bloqueadas)%n",
+                        contenders[a].getName(), contenders[b].getName(), 100.0 * winsA / gamesPerPairing,
+                        100 * ci[0], 100 * ci[1], winsA, winsB, gamesPerPairing - winsA - winsB);
+            }
+        }
+    }
+
+    public long getTurns() {
+        return turns.sum();
+    }
+
+    public long getDraws() {
+        return draws.sum();
+    }
+
+    public static void main(String[] args) {
+        int gamesPerPairing = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        String[] names = (args.length > 1 ? args[1] : "first,action,color,random").split(",");
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+        Contender[] contenders = new Contender[names.length];
+        for (int i = 0; i < names.length; i++) {
+            contenders[i] = Strategies.byName(names[i].trim());
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        // Calentamiento para que el JIT compile el bucle de partidas antes de medir
+        new TournamentRunner(contenders, Math.min(gamesPerPairing, 2_000), seed + 1).run(pool);
+
+        TournamentRunner tournament = new TournamentRunner(contenders, gamesPerPairing, seed);
+        long start = System.nanoTime();
+        long played = tournament.run(pool);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+
+        System.out.printf("Torneo: %d estrategias, %d partidas por enfrentamiento, %d hilos%n",
+                contenders.length, tournament.gamesPerPairing, threads);
+        tournament.printResults();
+        System.out.printf("%d partidas en %.3f s: %.0f partidas/s (%.1f turnos por partida)%n",
+                played, seconds, played / seconds, (double) tournament.getTurns() / played);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.unogame.turn;
+
+import java.util.ArrayDeque;
+
+/**
+ * Scheduler for headless runs: ignores delays and runs the tasks in the order
+ * they were scheduled, from {@link #runUntilIdle()} on the caller's thread.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class ImmediateScheduler implements TurnScheduler {
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void schedule(long delayMillis, Runnable task) {
+        tasks.add(task);
+    }
+
+    /**
+     * Runs tasks, including the ones they schedule, until none are left.
+     *
+     * @return how many tasks ran.
+     */
+    public long runUntilIdle() {
+        long count = 0;
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Drops every pending task.
+     */
+    public void clear() {
+        tasks.clear();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.unogame.turn;
+
+import com.example.unogame.model.UnoCard;
+
+/**
+ * One change of the game that the view has to show, in the order the model made
+ * it: a card played, a card drawn (penalties included), a wild color chosen or
+ * the turn passed without a card.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class TurnAction {
+    public enum Type {
+        PLAY(300),
+        DRAW(250),
+        COLOR(500),
+        TURN(0);
+
+        private final long millis;
+
+        Type(long millis) {
+            this.millis = millis;
+        }
+
+        /**
+         * Returns how long this action is shown at normal animation speed.
+         *
+         * @return the duration in milliseconds.
+         */
+        public long getMillis() {
+            return millis;
+        }
+    }
+
+    private final Type type;
+    private final int seat;
+    private final int code;
+    private final UnoCard.Color color;
+    private final int handSize;
+    private final boolean callsUno;
+
+    TurnAction(Type type, int seat, int code, UnoCard.Color color, int handSize, boolean callsUno) {
+        this.type = type;
+        this.seat = seat;
+        this.code = code;
+        this.color = color;
+        this.handSize = handSize;
+        this.callsUno = callsUno;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the seat that played, drew or received the turn; -1 for colors.
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * @return the card played or drawn, or {@link com.example.unogame.model.GameModel#NO_CARD}.
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * @return the chosen color of a {@link Type#COLOR} action, or null.
+     */
+    public UnoCard.Color getColor() {
+        return color;
+    }
+
+    /**
+     * @return the size of the seat's hand right after the action.
+     */
+    public int getHandSize() {
+        return handSize;
+    }
+
+    /**
+     * @return whether the strategy that played this {@link Type#PLAY} card called UNO
+     *         with it; always false for the user, who calls it with the button.
+     */
+    public boolean callsUno() {
+        return callsUno;
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case PLAY:
+                return "PLAY " + seat + " " + UnoCard.of(code) + (callsUno ? " (UNO)" : "");
+            case DRAW:
+                return "DRAW " + seat + " " + UnoCard.of(code);
+            case COLOR:
+                return "COLOR " + color;
+            default:
+                return "TURN " + seat;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.unogame.turn;
+
+import com.example.unogame.engine.HeadlessGameEngine;
+import com.example.unogame.exceptions.DeckEmptyException;
+import com.example.unogame.model.GameModel;
+import com.example.unogame.strategy.Decision;
+import com.example.unogame.strategy.PositionView;
+import com.example.unogame.strategy.Strategy;
+import com.example.unogame.strategy.StrategyRegistry;
+
+/**
+ * Plays whole games through the same {@link TurnStateMachine} as the game window,
+ * with animation scale 0, no view and the user seat played by a strategy, and
+ * reports throughput.
+ *
+ * <p>Usage: {@code java -cp target/classes com.example.unogame.turn.TurnMachineRunner [games] [userStrategy] [cpuStrategy] [seed]}</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class TurnMachineRunner implements TurnView {
+    private static final int DEFAULT_GAMES = 100_000;
+
+    private final ImmediateScheduler scheduler = new ImmediateScheduler();
+    private final Strategy user;
+    private final TurnStateMachine machine;
+    private Decision pending;
+    private int moves;
+    private long actions;
+
+    private TurnMachineRunner(Strategy user, Strategy cpu) {
+        this.user = user;
+        this.machine = new TurnStateMachine(this, scheduler, cpu, Runnable::run);
+        machine.setAnimationScale(0);
+    }
+
+    /**
+     * Plays one game to the end, or until {@link HeadlessGameEngine#MAX_TURNS}
+     * moves if nobody can finish it.
+     *
+     * @param model the dealt game.
+     * @return true if the game has a winner.
+     */
+    private boolean play(GameModel model) {
+        moves = 0;
+        machine.start(model);
+        scheduler.runUntilIdle();
+        boolean finished = machine.getState() == TurnState.GAME_OVER;
+        machine.stop();
+        scheduler.clear();
+        return finished;
+    }
+
+    @Override
+    public void show(TurnAction action, long millis, Runnable done) {
+        actions++;
+        done.run();
+    }
+
+    @Override
+    public void onStateChanged(TurnState state) {
+        if (state == TurnState.USER_TURN || state == TurnState.CPU_TURN) {
+            if (++moves > HeadlessGameEngine.MAX_TURNS) {
+                scheduler.schedule(0, machine::stop);
+                return;
+            }
+        }
+        if (state == TurnState.USER_TURN) {
+            scheduler.schedule(0, this::userMove);
+        } else if (state == TurnState.COLOR_CHOICE) {
+            scheduler.schedule(0, () -> machine.chooseColor(pending != null && pending.getColor() != null
+                    ? pending.getColor()
+                    : PositionView.of(machine.getModel(), GameModel.USER_SEAT).bestColor()));
+        }
+    }
+
+    private void userMove() {
+        if (machine.getState() != TurnState.USER_TURN) {
+            return;
+        }
+        pending = user.decide(PositionView.of(machine.getModel(), GameModel.USER_SEAT));
+        if (pending.isDraw() || machine.playUser(pending.getCode()) < 0) {
+            machine.drawUser();
+        }
+    }
+
+    /**
+     * Runs the games.
+     *
+     * @param args optional number of games, user and CPU strategy names and seed.
+     * @throws DeckEmptyException if a game cannot be dealt.
+     */
+    public static void main(String[] args) throws DeckEmptyException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        String userName = args.length > 1 ? args[1] : "first";
+        String cpuName = args.length > 2 ? args[2] : "first";
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        TurnMachineRunner runner = new TurnMachineRunner(
+                StrategyRegistry.create(userName), StrategyRegistry.create(cpuName));
+        GameModel model = new GameModel(GameModel.MIN_SEATS, seed);
+
+        long userWins = 0;
+        long blocked = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            if (i > 0) {
+                model.reset();
+            }
+            if (!runner.play(model)) {
+                blocked++;
+            } else if (model.userWins()) {
+                userWins++;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("Partidas: %d en %.3f s (%.0f partidas/s, %.0f acciones/s)%n",
+                games, seconds, games / seconds, runner.actions / seconds);
+        System.out.printf("%s contra %s: victorias usuario %.2f%%  bloqueadas: %d%n",
+                userName, cpuName, 100.0 * userWins / games, blocked);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.unogame.turn;
+
+/**
+ * Runs the delayed steps of a {@link TurnStateMachine} on the thread that owns it,
+ * e.g. the JavaFX thread in the game window or the caller's loop in headless runs.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+public interface TurnScheduler {
+    /**
+     * Runs a task on the machine's thread after a delay. A delay of 0 runs it as
+     * soon as the current task returns, never from inside this call.
+     *
+     * @param delayMillis the delay, already scaled by the animation speed.
+     * @param task        the task.
+     */
+    void schedule(long delayMillis, Runnable task);
+}
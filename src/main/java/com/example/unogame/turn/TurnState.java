@@ -0,0 +1,21 @@
+package com.example.unogame.turn;
+
+/**
+ * States of a {@link TurnStateMachine}.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+public enum TurnState {
+    /** No game has been started. */
+    IDLE,
+    /** Waiting for the user to play a card or draw. */
+    USER_TURN,
+    /** Waiting for the user to choose the color of a wild card. */
+    COLOR_CHOICE,
+    /** The CPU is about to move or is deciding. */
+    CPU_TURN,
+    /** A move has been applied to the model and the view is still showing it. */
+    ANIMATING,
+    /** The game has a winner. */
+    GAME_OVER
+}
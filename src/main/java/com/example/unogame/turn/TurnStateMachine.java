@@ -0,0 +1,527 @@
+package com.example.unogame.turn;
+
+import com.example.unogame.exceptions.GameRuleException;
+import com.example.unogame.jfr.AnimationChainEvent;
+import com.example.unogame.jfr.CpuDecisionEvent;
+import com.example.unogame.metrics.LatencyHistogram;
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+import com.example.unogame.model.interfaces.IGameEventListener;
+import com.example.unogame.strategy.Decision;
+import com.example.unogame.strategy.PositionView;
+import com.example.unogame.strategy.Strategy;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+/**
+ * Turn sequencing of a game against the CPU, independent of JavaFX.
+ *
+ * <p>The machine listens to the {@link GameModel} and turns every change it
+ * makes (cards played, penalty cards drawn, colors, passed turns) into a
+ * {@link TurnAction} queue that its {@link TurnView} shows one action at a time.
+ * Only when the queue is empty does it move on to the next state: game over,
+ * the user's color choice, the user's turn or the CPU's turn. Since the view
+ * only renders what the model already did, penalties are drawn exactly once.</p>
+ *
+ * <p>The CPU decides with a {@link Strategy} on an immutable {@link PositionView},
+ * so the decision can run on another executor; its result is applied back on the
+ * machine's thread through the {@link TurnScheduler}. Every delay and animation
+ * is multiplied by the {@linkplain #setAnimationScale animation scale}: 1 is the
+ * normal speed and 0 shows everything instantly, so the same sequencing runs the
+ * game window, its turbo mode and headless games ({@link TurnMachineRunner}).</p>
+ *
+ * <p>With {@linkplain #setAutoplay autoplay} the user's seat is played by a
+ * strategy too, for the spectator mode; {@link #setMovePacing} then keeps a fixed
+ * rhythm of moves while the animations are instant.</p>
+ *
+ * <p>Both strategies are told of every game start and of every move, the user's
+ * included, through {@link Strategy#onGameStart} and {@link Strategy#onMove}.</p>
+ *
+ * <p>All methods must be called on the machine's thread (the JavaFX thread in
+ * the game window).</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class TurnStateMachine implements IGameEventListener {
+    /** Pause before each CPU move at normal speed. */
+    public static final long CPU_DELAY_MILLIS = 500;
+    /** Pause before the CPU opens the game after a SKIP or REVERSE first card. */
+    public static final long FIRST_TURN_MILLIS = 1500;
+
+    private final TurnView view;
+    private final TurnScheduler scheduler;
+    private final Strategy cpu;
+    private final Executor decisions;
+    private final ArrayDeque<TurnAction> queue = new ArrayDeque<>();
+    private Strategy autoplay;
+    private long movePacing;
+    private GameModel model;
+    private LatencyHistogram decisionLatency;
+    private double animationScale = 1;
+    private TurnState state = TurnState.IDLE;
+    private int generation; // Descarta animaciones y decisiones de partidas anteriores
+    private boolean showing;
+    private boolean pumping;
+    private boolean colorPending;
+    private long cpuDelay = CPU_DELAY_MILLIS;
+    private int lastPlaySeat = GameModel.NO_SEAT;
+    private int userDrawn = GameModel.NO_CARD; // Carta robada que el usuario aún puede jugar
+    private int userWild = GameModel.NO_CARD;  // Comodín del usuario a la espera de su color
+    private boolean callingUno; // La decisión que se está aplicando dice UNO
+    private AnimationChainEvent chain;
+    private String chainName;
+    private int chainCode;
+
+    /**
+     * Creates a machine.
+     *
+     * @param view      the subscriber that shows the actions.
+     * @param scheduler runs delayed steps on the machine's thread.
+     * @param cpu       the strategy of the CPU seats.
+     * @param decisions where the CPU decides, e.g. a background thread, or
+     *                  {@code Runnable::run} to decide on the machine's thread.
+     */
+    public TurnStateMachine(TurnView view, TurnScheduler scheduler, Strategy cpu, Executor decisions) {
+        this.view = view;
+        this.scheduler = scheduler;
+        this.cpu = cpu;
+        this.decisions = decisions;
+    }
+
+    /**
+     * Records how long each CPU decision takes.
+     *
+     * @param histogram the histogram, or null to stop recording.
+     */
+    public void setDecisionLatency(LatencyHistogram histogram) {
+        this.decisionLatency = histogram;
+    }
+
+    public double getAnimationScale() {
+        return animationScale;
+    }
+
+    /**
+     * Sets the factor applied to every animation and pause; takes effect with the
+     * next action.
+     *
+     * @param scale 1 for normal speed, 0.5 for twice as fast, 0 for instant.
+     * @throws IllegalArgumentException if the scale is negative.
+     */
+    public void setAnimationScale(double scale) {
+        if (!(scale >= 0)) {
+            throw new IllegalArgumentException("La escala de animación no puede ser negativa: " + scale);
+        }
+        this.animationScale = scale;
+    }
+
+    /**
+     * Plays the user's seat with a strategy, or gives it back to the user. Takes
+     * effect at once if the machine is waiting for the user.
+     *
+     * @param strategy the strategy, or null for a human user.
+     */
+    public void setAutoplay(Strategy strategy) {
+        this.autoplay = strategy;
+        if (strategy != null && state == TurnState.USER_TURN) {
+            advance();
+        }
+    }
+
+    public boolean isAutoplay() {
+        return autoplay != null;
+    }
+
+    /**
+     * Sets a minimum pause before every automatic move that does not depend on the
+     * animation scale, e.g. 50 ms for 20 moves per second with instant animations.
+     *
+     * @param millis the pause; 0 for none.
+     */
+    public void setMovePacing(long millis) {
+        this.movePacing = Math.max(0, millis);
+    }
+
+    public TurnState getState() {
+        return state;
+    }
+
+    public GameModel getModel() {
+        return model;
+    }
+
+    /**
+     * Starts a freshly dealt game: applies the first card (the user draws for +2
+     * and +4 and chooses the color of a wild card) and gives the turn to whoever opens.
+     *
+     * @param model the dealt game; the machine becomes its event listener.
+     */
+    public void start(GameModel model) {
+        bind(model);
+        UnoCard top = model.getTopDiscard();
+        beginChain("start", top.getCode());
+        setState(TurnState.ANIMATING);
+        switch (top.getValue()) {
+            case WILD_DRAW_FOUR:
+                drawCards(GameModel.USER_SEAT, 4);
+                colorPending = true;
+                model.setUserTurn(true);
+                break;
+            case WILD:
+                colorPending = true;
+                model.setUserTurn(true);
+                break;
+            case DRAW_TWO:
+                drawCards(GameModel.USER_SEAT, 2);
+                model.setUserTurn(true);
+                break;
+            default:
+                cpuDelay = FIRST_TURN_MILLIS;
+                break;
+        }
+        pump();
+    }
+
+    /**
+     * Continues a game restored from a save, asking for the color of a wild card
+     * left without one.
+     *
+     * @param model the restored game; the machine becomes its event listener.
+     */
+    public void resume(GameModel model) {
+        bind(model);
+        colorPending = model.getTopDiscard().getColor() == UnoCard.Color.WILD
+                && model.getCurrentColor() == UnoCard.Color.WILD;
+        setState(TurnState.ANIMATING);
+        pump();
+    }
+
+    /**
+     * Stops the game: drops the queued actions and any pending CPU decision.
+     */
+    public void stop() {
+        if (model != null) {
+            model.removeEventListener(this);
+        }
+        generation++;
+        queue.clear();
+        showing = false;
+        chain = null;
+        setState(TurnState.IDLE);
+    }
+
+    private void bind(GameModel model) {
+        stop();
+        this.model = model;
+        model.addEventListener(this);
+        colorPending = false;
+        cpuDelay = CPU_DELAY_MILLIS;
+        lastPlaySeat = GameModel.NO_SEAT;
+        userDrawn = GameModel.NO_CARD;
+        userWild = GameModel.NO_CARD;
+        cpu.onGameStart();
+        if (autoplay != null && autoplay != cpu) {
+            autoplay.onGameStart();
+        }
+    }
+
+    /**
+     * Plays a card of the user's hand.
+     *
+     * @param code the card code.
+     * @return a {@link GameModel#play} status; negative if the card cannot be played,
+     *         in which case nothing changes.
+     * @throws GameRuleException if it is not the user's turn.
+     */
+    public int playUser(int code) {
+        requireState(TurnState.USER_TURN);
+        beginChain("userPlay", code);
+        int status = model.playSeat(GameModel.USER_SEAT, code);
+        if (status < 0) {
+            chain = null;
+            return status;
+        }
+        colorPending = code >= UnoCard.WILD_CODE;
+        if (code == userDrawn) {
+            // Jugar la carta recién robada completa la jugada de robar
+            reportMove(GameModel.USER_SEAT, GameModel.NO_CARD, null);
+        } else if (colorPending) {
+            userWild = code;
+        } else {
+            reportMove(GameModel.USER_SEAT, code, null);
+        }
+        userDrawn = GameModel.NO_CARD;
+        setState(TurnState.ANIMATING);
+        pump();
+        return status;
+    }
+
+    /**
+     * Draws one card for the user. The user keeps the turn if it can be played;
+     * otherwise the turn passes.
+     *
+     * @return the drawn card, or {@link GameModel#NO_CARD} if no cards were left.
+     * @throws GameRuleException if it is not the user's turn.
+     */
+    public int drawUser() {
+        requireState(TurnState.USER_TURN);
+        int code = model.drawCode(GameModel.USER_SEAT);
+        beginChain("userDraw", code);
+        if (code == GameModel.NO_CARD || !model.isValidPlay(UnoCard.of(code))) {
+            model.switchTurn();
+            userDrawn = GameModel.NO_CARD;
+            reportMove(GameModel.USER_SEAT, GameModel.NO_CARD, null);
+        } else {
+            userDrawn = code;
+        }
+        setState(TurnState.ANIMATING);
+        pump();
+        return code;
+    }
+
+    /**
+     * Sets the color of the wild card the user just played.
+     *
+     * @param color the chosen color.
+     * @throws GameRuleException if no color is being asked for.
+     */
+    public void chooseColor(UnoCard.Color color) {
+        requireState(TurnState.COLOR_CHOICE);
+        colorPending = false;
+        setState(TurnState.ANIMATING);
+        model.setWildColor(color);
+        if (userWild != GameModel.NO_CARD) {
+            reportMove(GameModel.USER_SEAT, userWild, color);
+            userWild = GameModel.NO_CARD;
+        }
+        pump();
+    }
+
+    /**
+     * Makes a seat draw penalty cards outside of a move, e.g. for not calling UNO.
+     *
+     * @param seat  the seat.
+     * @param count how many cards.
+     * @return how many cards could be drawn.
+     */
+    public int drawPenalty(int seat, int count) {
+        int drawn = drawCards(seat, count);
+        pump();
+        return drawn;
+    }
+
+    private int drawCards(int seat, int count) {
+        for (int i = 0; i < count; i++) {
+            if (model.drawCode(seat) == GameModel.NO_CARD) {
+                return i;
+            }
+        }
+        return count;
+    }
+
+    private void requireState(TurnState expected) {
+        if (state != expected) {
+            throw new GameRuleException("Acción no permitida en el estado " + state);
+        }
+    }
+
+    /**
+     * Hands the queued actions to the view one at a time. A view that finishes
+     * inside {@link TurnView#show} is served by this loop instead of recursing.
+     */
+    private void pump() {
+        if (pumping) {
+            return;
+        }
+        pumping = true;
+        try {
+            while (!showing && !queue.isEmpty()) {
+                TurnAction action = queue.poll();
+                showing = true;
+                int game = generation;
+                view.show(action, scaled(action.getType().getMillis()), () -> actionShown(game));
+            }
+        } finally {
+            pumping = false;
+        }
+        if (!showing && queue.isEmpty() && state == TurnState.ANIMATING) {
+            advance();
+        }
+    }
+
+    private void actionShown(int game) {
+        if (game != generation || !showing) {
+            return;
+        }
+        showing = false;
+        pump();
+    }
+
+    /**
+     * Chooses the next state once the view has shown the whole move.
+     */
+    private void advance() {
+        endChain();
+        if (model.isGameOver()) {
+            setState(TurnState.GAME_OVER);
+        } else if (colorPending && autoplay != null) {
+            // Comodín inicial en modo espectador: el color lo elige la jugada automática
+            colorPending = false;
+            model.setWildColor(PositionView.of(model, GameModel.USER_SEAT).bestColor());
+            pump();
+        } else if (colorPending) {
+            setState(TurnState.COLOR_CHOICE);
+        } else if (model.isUserTurn() && autoplay == null) {
+            setState(TurnState.USER_TURN);
+        } else {
+            setState(TurnState.CPU_TURN);
+            int game = generation;
+            long delay = Math.max(scaled(cpuDelay), movePacing);
+            cpuDelay = CPU_DELAY_MILLIS;
+            scheduler.schedule(delay, () -> decideCpu(game));
+        }
+    }
+
+    private void decideCpu(int game) {
+        if (game != generation || state != TurnState.CPU_TURN) {
+            return;
+        }
+        int seat = model.getCurrentSeat();
+        Strategy strategy = seat == GameModel.USER_SEAT ? autoplay : cpu;
+        if (strategy == null) {
+            // El usuario recuperó el control mientras se esperaba la jugada automática
+            setState(TurnState.USER_TURN);
+            return;
+        }
+        PositionView position = PositionView.of(model, seat);
+        decisions.execute(() -> {
+            CpuDecisionEvent event = new CpuDecisionEvent();
+            event.begin();
+            long start = System.nanoTime();
+            Decision decision;
+            try {
+                decision = strategy.decide(position);
+            } catch (RuntimeException e) {
+                System.err.println("La estrategia " + strategy.name() + " falló, la CPU roba: " + e.getMessage());
+                decision = Decision.DRAW;
+            }
+            if (decisionLatency != null) {
+                decisionLatency.record(System.nanoTime() - start);
+            }
+            event.finish(strategy.name(), seat, position.getHandSize(), decision.getCode(), 0);
+            Decision chosen = decision;
+            scheduler.schedule(0, () -> applyCpu(game, seat, chosen));
+        });
+    }
+
+    private void applyCpu(int game, int seat, Decision decision) {
+        if (game != generation || state != TurnState.CPU_TURN) {
+            return;
+        }
+        beginChain(seat == GameModel.USER_SEAT ? "autoplay" : "cpuTurn", decision.getCode());
+        setState(TurnState.ANIMATING);
+        callingUno = decision.callsUno();
+        int status;
+        try {
+            status = decision.apply(model, seat);
+        } finally {
+            callingUno = false;
+        }
+        int code = decision.getCode();
+        if (!decision.isDraw() && status < 0) {
+            // Jugada no válida de la estrategia: se trata como robar
+            Decision.DRAW.apply(model, seat);
+            code = GameModel.NO_CARD;
+        }
+        reportMove(seat, code, code >= UnoCard.WILD_CODE ? model.getCurrentColor() : null);
+        pump();
+    }
+
+    private void reportMove(int seat, int code, UnoCard.Color color) {
+        cpu.onMove(seat, code, color);
+        if (autoplay != null && autoplay != cpu) {
+            autoplay.onMove(seat, code, color);
+        }
+    }
+
+    private long scaled(long millis) {
+        return animationScale == 0 ? 0 : Math.round(millis * animationScale);
+    }
+
+    private void setState(TurnState next) {
+        if (state != next) {
+            state = next;
+            view.onStateChanged(next);
+        }
+    }
+
+    private void beginChain(String name, int code) {
+        chain = new AnimationChainEvent();
+        chain.begin();
+        chainName = name;
+        chainCode = code;
+    }
+
+    private void endChain() {
+        if (chain == null) {
+            return;
+        }
+        chain.end();
+        if (chain.shouldCommit()) {
+            chain.chain = chainName;
+            chain.code = chainCode;
+            chain.userHandSize = model.getHand(true).size();
+            chain.cpuHandSize = model.getHand(false).size();
+            chain.commit();
+        }
+        chain = null;
+    }
+
+    private void enqueue(TurnAction.Type type, int seat, int code, UnoCard.Color color) {
+        enqueue(type, seat, code, color, false);
+    }
+
+    private void enqueue(TurnAction.Type type, int seat, int code, UnoCard.Color color, boolean callsUno) {
+        int handSize = seat >= 0 ? model.getHand(seat).size() : 0;
+        queue.add(new TurnAction(type, seat, code, color, handSize, callsUno));
+    }
+
+    @Override
+    public void onGameStart(GameModel model) {
+        // La partida empieza con start(), cuando la vista ya repartió las manos
+    }
+
+    @Override
+    public void onCardPlayed(int seat, int code) {
+        lastPlaySeat = seat;
+        enqueue(TurnAction.Type.PLAY, seat, code, null, callingUno);
+    }
+
+    @Override
+    public void onCardDrawn(int seat, int code) {
+        enqueue(TurnAction.Type.DRAW, seat, code, null);
+    }
+
+    @Override
+    public void onWildColorChosen(UnoCard.Color color) {
+        // Una CPU que elige color al jugar y otra vez con su decisión: solo se muestra el último
+        TurnAction last = queue.peekLast();
+        if (last != null && last.getType() == TurnAction.Type.COLOR) {
+            queue.pollLast();
+        }
+        enqueue(TurnAction.Type.COLOR, lastPlaySeat, GameModel.NO_CARD, color);
+    }
+
+    @Override
+    public void onTurnChanged(int seat) {
+        enqueue(TurnAction.Type.TURN, seat, GameModel.NO_CARD, null);
+    }
+
+    @Override
+    public void onGameOver(int winner) {
+        // El fin de la partida se anuncia cuando la vista termina de mostrar la jugada
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.unogame.turn;
+
+/**
+ * Subscriber of a {@link TurnStateMachine}: shows each action of its queue and
+ * follows its state, e.g. to enable the user's cards or prompt for a color.
+ *
+ * @authors Jhon Steven Angulo Nieves, Braulio Robledo Delgado
+ */
+public interface TurnView {
+    /**
+     * Shows one action. The machine hands out the next action only after
+     * {@code done} runs, which may happen inside this call when nothing is animated.
+     *
+     * @param action the action.
+     * @param millis how long the animation should take; 0 to show it instantly.
+     * @param done   to be run once when the action has been shown.
+     */
+    void show(TurnAction action, long millis, Runnable done);
+
+    /**
+     * The machine changed state; e.g. {@link TurnState#COLOR_CHOICE} asks the user
+     * for a color, answered with {@link TurnStateMachine#chooseColor}.
+     *
+     * @param state the new state.
+     */
+    void onStateChanged(TurnState state);
+}
@@ -0,0 +1,565 @@
+package com.example.unogame.view;
+
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+import com.example.unogame.view.interfaces.ITableRenderer;
+import javafx.animation.AnimationTimer;
+import javafx.animation.Interpolator;
+import javafx.event.EventHandler;
+import javafx.geometry.Rectangle2D;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.TextAlignment;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Table drawn on a single {@link Canvas}: the deck, the discard pile and both
+ * hands are painted straight from the {@link CardAtlas}, with no node per card.
+ * Meant for spectator sessions at high frame rates; selected at startup with
+ * {@code -Duno.renderer=canvas}.
+ *
+ * <p>Every change only marks the rectangle it affects as dirty. Once per pulse
+ * the union of those rectangles is cleared and everything inside it is painted
+ * again in z-order: piles, CPU hand, user hand and cards in flight. The canvas
+ * is transparent, so the background is still the scene's CSS. Hands are placed
+ * like a {@link HandLayout}: only the slots that fit are drawn, from a window
+ * the mouse wheel scrolls along the hand, and the rest are counted in a "+N" mark.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class CanvasTable implements ITableRenderer {
+    private static final double PADDING = 20; // Como el -fx-padding de .hand-layout
+    private static final double PILE_WIDTH = 100; // Como el fitWidth del mazo y el descarte en el FXML
+    private static final double PILE_GAP = 20;
+    private static final double CARD_WIDTH = HandGeometry.CARD_WIDTH;
+    private static final double SHAKE_PIXELS = 10;
+    private static final long SHAKE_HALF_NANOS = 100_000_000L;
+    private static final int SHAKE_HALVES = 6;
+    private static final Color OVERFLOW_BACKGROUND = Color.rgb(0, 0, 0, 0.6);
+
+    private final Canvas canvas = new Canvas();
+    private final GraphicsContext g = canvas.getGraphicsContext2D();
+    private final CardAtlas atlas = CardAtlas.getInstance();
+    private final Image deckImage = CardImageCache.getInstance().getDeck();
+    private final Row cpuRow = new Row(false);
+    private final Row userRow = new Row(true);
+    private final ArrayList<Effect> effects = new ArrayList<>();
+    private final ArrayList<Runnable> finished = new ArrayList<>();
+    private UnoCard discard;
+    private EventHandler<MouseEvent> onCardClicked;
+    private Runnable onDeckClicked;
+    private boolean running;
+    // Unión de los rectángulos sucios desde el último repintado
+    private double dirtyMinX = Double.POSITIVE_INFINITY;
+    private double dirtyMinY = Double.POSITIVE_INFINITY;
+    private double dirtyMaxX = Double.NEGATIVE_INFINITY;
+    private double dirtyMaxY = Double.NEGATIVE_INFINITY;
+    // Rectángulo del repintado en curso, para saltarse lo que queda fuera
+    private double clipMinX;
+    private double clipMaxX;
+
+    private final AnimationTimer pulse = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            frame(now);
+        }
+    };
+
+    public CanvasTable() {
+        canvas.widthProperty().addListener(o -> markAllDirty());
+        canvas.heightProperty().addListener(o -> markAllDirty());
+        canvas.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> {
+            if (hitsDeck(event.getX(), event.getY())) {
+                if (onDeckClicked != null) {
+                    onDeckClicked.run();
+                }
+            } else if (onCardClicked != null) {
+                onCardClicked.handle(event);
+            }
+        });
+        canvas.addEventHandler(ScrollEvent.SCROLL, event -> {
+            Row row = hitsRow(userRow, event.getY()) ? userRow : hitsRow(cpuRow, event.getY()) ? cpuRow : null;
+            if (row != null && row.size > row.shown()) {
+                row.scrollTo(row.first() + (event.getDeltaY() < 0 ? 1 : -1));
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Puts the canvas in a pane, sized to fill it.
+     *
+     * @param parent the pane that hosts the table.
+     */
+    public void install(Pane parent) {
+        canvas.setManaged(false);
+        canvas.widthProperty().bind(parent.widthProperty());
+        canvas.heightProperty().bind(parent.heightProperty());
+        parent.getChildren().add(canvas);
+        markAllDirty();
+    }
+
+    private Row row(int seat) {
+        return seat == GameModel.USER_SEAT ? userRow : cpuRow;
+    }
+
+    @Override
+    public void setHand(int seat, int[] codes, int count) {
+        row(seat).set(codes, count);
+    }
+
+    @Override
+    public void addCard(int seat, int code) {
+        row(seat).add(code);
+    }
+
+    @Override
+    public void updateDiscardPile(UnoCard card) {
+        if (card != discard) {
+            discard = card;
+            markDirty(discardX(), pileY(), PILE_WIDTH, pileHeight());
+        }
+    }
+
+    @Override
+    public void animateCardPlay(int seat, int code, Duration duration, Runnable onFinished) {
+        Row row = row(seat);
+        int slot = row.indexOf(code);
+        if (!row.isShown(slot)) {
+            row.remove(slot);
+            onFinished.run();
+            return;
+        }
+        double x = row.slotX(slot);
+        double y = row.y();
+        row.remove(slot);
+        start(new Flight(row.faceUp ? code : CardAtlas.BACK_INDEX, x, y, duration, onFinished));
+    }
+
+    @Override
+    public void animateFadeIn(int seat, int code, Duration duration, Runnable onFinished) {
+        Row row = row(seat);
+        row.add(code);
+        int slot = row.size - 1;
+        if (!row.isShown(slot)) {
+            // Fuera de la parte visible de la mano: no hay nada que animar
+            onFinished.run();
+            return;
+        }
+        row.fadeSlot = slot;
+        row.fadeAlpha = 0;
+        start(new Fade(row, duration, onFinished));
+    }
+
+    @Override
+    public void shakeAnimation(int code) {
+        int slot = userRow.indexOf(code);
+        if (!userRow.isShown(slot)) {
+            return;
+        }
+        userRow.shakeSlot = slot;
+        start(new Shake(userRow));
+    }
+
+    @Override
+    public void setOnCardClicked(EventHandler<MouseEvent> handler) {
+        this.onCardClicked = handler;
+    }
+
+    @Override
+    public void setOnDeckClicked(Runnable handler) {
+        this.onDeckClicked = handler;
+    }
+
+    @Override
+    public int userCardAt(MouseEvent event) {
+        int slot = userRow.slotAt(event.getX(), event.getY());
+        return slot < 0 ? GameModel.NO_CARD : userRow.codes[slot];
+    }
+
+    private void start(Effect effect) {
+        effects.add(effect);
+        if (!running) {
+            running = true;
+            pulse.start();
+        }
+    }
+
+    private void markAllDirty() {
+        markDirty(0, 0, canvas.getWidth(), canvas.getHeight());
+    }
+
+    private void markDirty(double x, double y, double width, double height) {
+        dirtyMinX = Math.min(dirtyMinX, x);
+        dirtyMinY = Math.min(dirtyMinY, y);
+        dirtyMaxX = Math.max(dirtyMaxX, x + width);
+        dirtyMaxY = Math.max(dirtyMaxY, y + height);
+        if (!running) {
+            running = true;
+            pulse.start();
+        }
+    }
+
+    private void frame(long now) {
+        for (int i = effects.size() - 1; i >= 0; i--) {
+            Effect effect = effects.get(i);
+            if (effect.tick(now)) {
+                effects.remove(i);
+                finished.add(effect.onFinished);
+            }
+        }
+        repaint();
+        if (effects.isEmpty()) {
+            running = false;
+            pulse.stop();
+        }
+        // Los avisos pueden empezar otra animación: se dan cuando el cuadro ya está pintado
+        for (int i = 0; i < finished.size(); i++) {
+            finished.get(i).run();
+        }
+        finished.clear();
+    }
+
+    private void repaint() {
+        double minX = Math.max(0, Math.floor(dirtyMinX));
+        double minY = Math.max(0, Math.floor(dirtyMinY));
+        double maxX = Math.min(canvas.getWidth(), Math.ceil(dirtyMaxX));
+        double maxY = Math.min(canvas.getHeight(), Math.ceil(dirtyMaxY));
+        dirtyMinX = dirtyMinY = Double.POSITIVE_INFINITY;
+        dirtyMaxX = dirtyMaxY = Double.NEGATIVE_INFINITY;
+        if (maxX <= minX || maxY <= minY) {
+            return;
+        }
+        clipMinX = minX;
+        clipMaxX = maxX;
+
+        g.save();
+        g.beginPath();
+        g.rect(minX, minY, maxX - minX, maxY - minY);
+        g.clip();
+        g.clearRect(minX, minY, maxX - minX, maxY - minY);
+
+        if (deckImage.getWidth() > 0) {
+            g.drawImage(deckImage, deckX(), pileY(), PILE_WIDTH, PILE_WIDTH * deckImage.getHeight() / deckImage.getWidth());
+        }
+        if (discard != null) {
+            drawCard(discard.getCode(), discardX(), pileY(), PILE_WIDTH, 1);
+        }
+        if (overlaps(cpuRow, minY, maxY)) {
+            cpuRow.draw();
+        }
+        if (overlaps(userRow, minY, maxY)) {
+            userRow.draw();
+        }
+        for (Effect effect : effects) {
+            if (effect instanceof Flight flight) {
+                drawCard(flight.index, flight.x, flight.y, CARD_WIDTH, 1);
+            }
+        }
+        g.restore();
+    }
+
+    private static boolean hitsRow(Row row, double y) {
+        double top = row.y();
+        return y >= top && y < top + HandGeometry.cardHeight();
+    }
+
+    private static boolean overlaps(Row row, double minY, double maxY) {
+        double y = row.y();
+        return y < maxY && y + HandGeometry.cardHeight() > minY;
+    }
+
+    private void drawCard(int index, double x, double y, double width, double alpha) {
+        Rectangle2D viewport = atlas.getViewport(index);
+        g.setGlobalAlpha(alpha);
+        g.drawImage(atlas.getImage(), viewport.getMinX(), viewport.getMinY(), viewport.getWidth(), viewport.getHeight(),
+                x, y, width, width * viewport.getHeight() / viewport.getWidth());
+        g.setGlobalAlpha(1);
+    }
+
+    private double pileHeight() {
+        return PILE_WIDTH * HandGeometry.cardHeight() / CARD_WIDTH;
+    }
+
+    private double pileY() {
+        return Math.floor((canvas.getHeight() - pileHeight()) / 2);
+    }
+
+    private double deckX() {
+        return Math.floor(canvas.getWidth() / 2 - PILE_GAP / 2 - PILE_WIDTH);
+    }
+
+    private double discardX() {
+        return Math.floor(canvas.getWidth() / 2 + PILE_GAP / 2);
+    }
+
+    private boolean hitsDeck(double x, double y) {
+        double y0 = pileY();
+        return x >= deckX() && x < deckX() + PILE_WIDTH && y >= y0 && y < y0 + pileHeight();
+    }
+
+    /**
+     * One hand: its card codes, placed and drawn like a {@link HandLayout} row.
+     */
+    private final class Row {
+        final boolean faceUp;
+        int[] codes = new int[16];
+        int size;
+        int first; // Primer slot visible, antes de ajustarlo al ancho actual
+        int fadeSlot = -1;
+        double fadeAlpha = 1;
+        int shakeSlot = -1;
+        double shakeOffset;
+
+        Row(boolean faceUp) {
+            this.faceUp = faceUp;
+        }
+
+        double y() {
+            return faceUp ? Math.floor(canvas.getHeight() - PADDING - HandGeometry.cardHeight()) : PADDING;
+        }
+
+        double width() {
+            return Math.max(0, canvas.getWidth() - 2 * PADDING);
+        }
+
+        int shown() {
+            return Math.min(size, HandGeometry.capacity(width()));
+        }
+
+        /**
+         * Returns the first slot in view: the scroll offset, as far as the hand allows.
+         */
+        int first() {
+            return Math.max(0, Math.min(first, size - shown()));
+        }
+
+        boolean isShown(int slot) {
+            int first = first();
+            return slot >= first && slot < first + shown();
+        }
+
+        double slotX(int slot) {
+            int shown = shown();
+            double step = HandGeometry.step(width(), shown);
+            return Math.floor(PADDING + (width() - HandGeometry.rowWidth(shown, step)) / 2) + (slot - first()) * step;
+        }
+
+        /**
+         * Scrolls the window of drawn slots so that it starts at a slot, like
+         * {@link HandLayout#scrollTo}.
+         */
+        void scrollTo(int slot) {
+            int target = Math.max(0, Math.min(slot, size - shown()));
+            if (target != first()) {
+                first = target;
+                markDirty();
+            }
+        }
+
+        int indexOf(int code) {
+            for (int slot = 0; slot < size; slot++) {
+                if (codes[slot] == code) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        void markDirty() {
+            CanvasTable.this.markDirty(PADDING - SHAKE_PIXELS, y(), width() + 2 * SHAKE_PIXELS, HandGeometry.cardHeight());
+        }
+
+        void set(int[] cards, int count) {
+            if (count == size && Arrays.equals(codes, 0, count, cards, 0, count)) {
+                return;
+            }
+            if (count > codes.length) {
+                codes = Arrays.copyOf(codes, Math.max(count, codes.length * 2));
+            }
+            System.arraycopy(cards, 0, codes, 0, count);
+            size = count;
+            fadeSlot = -1;
+            shakeSlot = -1;
+            markDirty();
+        }
+
+        void add(int code) {
+            if (size == codes.length) {
+                codes = Arrays.copyOf(codes, size * 2);
+            }
+            codes[size++] = code;
+            markDirty();
+        }
+
+        void remove(int slot) {
+            if (slot < 0 || slot >= size) {
+                return;
+            }
+            System.arraycopy(codes, slot + 1, codes, slot, size - slot - 1);
+            size--;
+            if (slot < first) {
+                first--;
+            }
+            fadeSlot = fadeSlot == slot ? -1 : fadeSlot > slot ? fadeSlot - 1 : fadeSlot;
+            shakeSlot = shakeSlot == slot ? -1 : shakeSlot > slot ? shakeSlot - 1 : shakeSlot;
+            markDirty();
+        }
+
+        void draw() {
+            int shown = shown();
+            int first = first();
+            double step = HandGeometry.step(width(), shown);
+            double x0 = slotX(first);
+            double y = y();
+            for (int slot = first; slot < first + shown; slot++) {
+                double x = x0 + (slot - first) * step + (slot == shakeSlot ? shakeOffset : 0);
+                if (x >= clipMaxX || x + CARD_WIDTH <= clipMinX) {
+                    continue;
+                }
+                drawCard(faceUp ? codes[slot] : CardAtlas.BACK_INDEX, x, y, CARD_WIDTH,
+                        slot == fadeSlot ? fadeAlpha : 1);
+            }
+            if (size > shown) {
+                double right = canvas.getWidth() - PADDING;
+                g.setFill(OVERFLOW_BACKGROUND);
+                g.fillRoundRect(right - 40, y, 40, 20, 10, 10);
+                g.setFill(Color.WHITE);
+                g.setTextAlign(TextAlignment.CENTER);
+                g.setTextBaseline(VPos.CENTER);
+                g.fillText("+" + (size - shown), right - 20, y + 10);
+            }
+        }
+
+        int slotAt(double x, double y) {
+            if (!hitsRow(this, y)) {
+                return -1;
+            }
+            int shown = shown();
+            int first = first();
+            double step = HandGeometry.step(width(), shown);
+            double x0 = slotX(first);
+            // La última carta queda encima: se busca de derecha a izquierda
+            for (int slot = first + shown - 1; slot >= first; slot--) {
+                double left = x0 + (slot - first) * step;
+                if (x >= left && x < left + CARD_WIDTH) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Time-based animation advanced by the pulse timer.
+     */
+    private abstract static class Effect {
+        final long nanos;
+        final Runnable onFinished;
+        long start = -1;
+
+        Effect(long nanos, Runnable onFinished) {
+            this.nanos = nanos;
+            this.onFinished = onFinished;
+        }
+
+        /**
+         * Advances the animation to a pulse.
+         *
+         * @return true once it has finished.
+         */
+        boolean tick(long now) {
+            if (start < 0) {
+                start = now;
+            }
+            double t = nanos <= 0 ? 1 : Math.min(1, (now - start) / (double) nanos);
+            apply(t);
+            return t >= 1;
+        }
+
+        abstract void apply(double t);
+    }
+
+    private static long nanos(Duration duration) {
+        return (long) (duration.toMillis() * 1_000_000);
+    }
+
+    /** A played card moving from its slot to the discard pile. */
+    private final class Flight extends Effect {
+        final int index;
+        final double fromX;
+        final double fromY;
+        double x;
+        double y;
+
+        Flight(int index, double fromX, double fromY, Duration duration, Runnable onFinished) {
+            super(nanos(duration), onFinished);
+            this.index = index;
+            this.fromX = x = fromX;
+            this.fromY = y = fromY;
+        }
+
+        @Override
+        void apply(double t) {
+            double height = HandGeometry.cardHeight();
+            markDirty(x, y, CARD_WIDTH, height);
+            double eased = Interpolator.EASE_BOTH.interpolate(0.0, 1.0, t);
+            x = fromX + (discardX() - fromX) * eased;
+            y = fromY + (pileY() - fromY) * eased;
+            markDirty(x, y, CARD_WIDTH, height);
+        }
+    }
+
+    /** A drawn card fading in at the end of its hand. */
+    private final class Fade extends Effect {
+        final Row row;
+
+        Fade(Row row, Duration duration, Runnable onFinished) {
+            super(nanos(duration), onFinished);
+            this.row = row;
+        }
+
+        @Override
+        void apply(double t) {
+            row.fadeAlpha = t;
+            if (t >= 1) {
+                row.fadeSlot = -1;
+            }
+            row.markDirty();
+        }
+    }
+
+    /** A user card shaken after an invalid play, like the scene graph's TranslateTransition. */
+    private final class Shake extends Effect {
+        final Row row;
+
+        Shake(Row row) {
+            super(SHAKE_HALF_NANOS * SHAKE_HALVES, () -> { });
+            this.row = row;
+        }
+
+        @Override
+        void apply(double t) {
+            double halves = t * SHAKE_HALVES;
+            int half = (int) halves;
+            double fraction = halves - half;
+            row.shakeOffset = SHAKE_PIXELS * (half % 2 == 0 ? fraction : 1 - fraction);
+            if (t >= 1) {
+                row.shakeOffset = 0;
+                row.shakeSlot = -1;
+            }
+            row.markDirty();
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.unogame.view;
+
+import com.example.unogame.model.UnoCard;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Single texture holding all 54 card faces plus the card back.
+ * Card ImageViews share the atlas image and select their card through a viewport,
+ * so the renderer uploads one texture instead of one per card.
+ *
+ * <p>The atlas is built on first start from {@link CardImageCache} and saved as raw
+ * BGRA pixels in the user's cache folder ({@code ~/.unogame} or the
+ * {@code unogame.cacheDir} system property); later starts load it from there
+ * without decoding any PNG.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class CardAtlas {
+    /** Index of the card back; faces use their card code as index. */
+    public static final int BACK_INDEX = UnoCard.FACE_COUNT;
+
+    private static final int CELL_COUNT = UnoCard.FACE_COUNT + 1;
+    private static final int COLUMNS = 11;
+    private static final int MAGIC = 0x554E4F41; // "UNOA"
+    private static final int FORMAT_VERSION = 1;
+
+    private static volatile CardAtlas instance;
+    private static CompletableFuture<CardAtlas> loading;
+
+    private final Image image;
+    private final Rectangle2D[] viewports;
+
+    private CardAtlas(Image image, Rectangle2D[] viewports) {
+        this.image = image;
+        this.viewports = viewports;
+    }
+
+    /**
+     * Returns the shared atlas, loading or building it on the calling thread if
+     * the background preload has not finished yet.
+     *
+     * @return the card atlas.
+     */
+    public static CardAtlas getInstance() {
+        CardAtlas atlas = instance;
+        if (atlas == null) {
+            synchronized (CardAtlas.class) {
+                if (instance == null) {
+                    instance = loadOrBuild();
+                }
+                atlas = instance;
+            }
+        }
+        return atlas;
+    }
+
+    /**
+     * Loads or builds the atlas on a background thread.
+     *
+     * @return a future completed with the atlas.
+     */
+    public static synchronized CompletableFuture<CardAtlas> preloadAsync() {
+        if (loading == null) {
+            loading = new CompletableFuture<>();
+            Thread loader = new Thread(() -> {
+                try {
+                    loading.complete(getInstance());
+                } catch (RuntimeException e) {
+                    loading.completeExceptionally(e);
+                }
+            }, "CardAtlasLoader");
+            loader.setDaemon(true);
+            loader.start();
+        }
+        return loading;
+    }
+
+    /**
+     * Shows the given card face on an ImageView.
+     *
+     * @param view the view to update.
+     * @param card the card to show.
+     */
+    public void applyFace(ImageView view, UnoCard card) {
+        apply(view, card.getCode());
+    }
+
+    /**
+     * Shows the card back on an ImageView.
+     *
+     * @param view the view to update.
+     */
+    public void applyBack(ImageView view) {
+        apply(view, BACK_INDEX);
+    }
+
+    private void apply(ImageView view, int index) {
+        if (view.getImage() != image) {
+            view.setImage(image);
+        }
+        view.setViewport(viewports[index]);
+    }
+
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Returns the atlas region of a cell.
+     *
+     * @param index a card code, or {@link #BACK_INDEX}.
+     * @return the viewport rectangle.
+     */
+    public Rectangle2D getViewport(int index) {
+        return viewports[index];
+    }
+
+    private static CardAtlas loadOrBuild() {
+        Path file = cacheFile();
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                return read(in);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Atlas de cartas inválido, se regenera: " + e.getMessage());
+            }
+        }
+
+        CardAtlas atlas = build();
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), "atlas", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                atlas.write(out);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("No se pudo guardar el atlas de cartas: " + e.getMessage());
+        }
+        return atlas;
+    }
+
+    private static Path cacheFile() {
+        String dir = System.getProperty("unogame.cacheDir",
+                Path.of(System.getProperty("user.home"), ".unogame").toString());
+        return Path.of(dir, "card-atlas-v" + FORMAT_VERSION + "-" + (int) CardImageCache.CARD_WIDTH + ".bin");
+    }
+
+    private static CardAtlas build() {
+        CardImageCache cache = CardImageCache.getInstance();
+        Image[] cells = new Image[CELL_COUNT];
+        int cellWidth = 0;
+        int cellHeight = 0;
+        for (int i = 0; i < CELL_COUNT; i++) {
+            cells[i] = i == BACK_INDEX ? cache.getBack() : cache.getFace(UnoCard.of(i));
+            cellWidth = Math.max(cellWidth, (int) cells[i].getWidth());
+            cellHeight = Math.max(cellHeight, (int) cells[i].getHeight());
+        }
+
+        int rows = (CELL_COUNT + COLUMNS - 1) / COLUMNS;
+        WritableImage atlas = new WritableImage(COLUMNS * cellWidth, rows * cellHeight);
+        Rectangle2D[] viewports = new Rectangle2D[CELL_COUNT];
+        for (int i = 0; i < CELL_COUNT; i++) {
+            int x = (i % COLUMNS) * cellWidth;
+            int y = (i / COLUMNS) * cellHeight;
+            int w = (int) cells[i].getWidth();
+            int h = (int) cells[i].getHeight();
+            atlas.getPixelWriter().setPixels(x, y, w, h, cells[i].getPixelReader(), 0, 0);
+            viewports[i] = new Rectangle2D(x, y, w, h);
+        }
+        return new CardAtlas(atlas, viewports);
+    }
+
+    private void write(OutputStream stream) throws IOException {
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        byte[] pixels = new byte[width * height * 4];
+        image.getPixelReader().getPixels(0, 0, width, height,
+                PixelFormat.getByteBgraInstance(), pixels, 0, width * 4);
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(width);
+        out.writeInt(height);
+        out.writeInt(CELL_COUNT);
+        for (Rectangle2D viewport : viewports) {
+            out.writeShort((int) viewport.getMinX());
+            out.writeShort((int) viewport.getMinY());
+            out.writeShort((int) viewport.getWidth());
+            out.writeShort((int) viewport.getHeight());
+        }
+        out.write(pixels);
+        out.flush();
+    }
+
+    private static CardAtlas read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw new IOException("formato desconocido");
+        }
+        int width = in.readInt();
+        int height = in.readInt();
+        if (in.readInt() != CELL_COUNT) {
+            throw new IOException("número de cartas inesperado");
+        }
+        Rectangle2D[] viewports = new Rectangle2D[CELL_COUNT];
+        for (int i = 0; i < CELL_COUNT; i++) {
+            viewports[i] = new Rectangle2D(in.readShort(), in.readShort(), in.readShort(), in.readShort());
+        }
+        byte[] pixels = new byte[width * height * 4];
+        in.readFully(pixels);
+
+        WritableImage atlas = new WritableImage(width, height);
+        atlas.getPixelWriter().setPixels(0, 0, width, height,
+                PixelFormat.getByteBgraInstance(), pixels, 0, width * 4);
+        return new CardAtlas(atlas, viewports);
+    }
+}
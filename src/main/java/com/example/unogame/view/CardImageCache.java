@@ -0,0 +1,68 @@
+package com.example.unogame.view;
+
+import com.example.unogame.model.UnoCard;
+import javafx.scene.image.Image;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of decoded card images, keyed by file name inside the cards-uno folder.
+ * Each PNG is decoded once at the display width of a card in hand. The faces and
+ * the card back are only decoded when the {@link CardAtlas} is built, on its
+ * background loader; the deck image is decoded in the background at startup.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class CardImageCache {
+    /** Resource folder of the card images. */
+    public static final String CARD_PREFIX = "/com/example/unogame/cards-uno/";
+    /** Display width of a card, matching the ImageViews' fitWidth. */
+    public static final double CARD_WIDTH = 80;
+    public static final String CARD_BACK = "card_uno.png";
+    public static final String DECK_IMAGE = "deck_of_cards.png";
+
+    private static final CardImageCache INSTANCE = new CardImageCache();
+
+    private final Map<String, Image> images = new ConcurrentHashMap<>();
+
+    private CardImageCache() {
+    }
+
+    public static CardImageCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the decoded image for a file in the cards-uno folder, decoding it on first use.
+     *
+     * @param fileName the image file name, e.g. "5_red.png".
+     * @return the cached Image.
+     */
+    public Image get(String fileName) {
+        return images.computeIfAbsent(fileName, CardImageCache::load);
+    }
+
+    public Image getFace(UnoCard card) {
+        return get(card.toFileName());
+    }
+
+    public Image getBack() {
+        return get(CARD_BACK);
+    }
+
+    public Image getDeck() {
+        return get(DECK_IMAGE);
+    }
+
+    private static Image load(String fileName) {
+        String path = CARD_PREFIX + fileName;
+        InputStream stream = Objects.requireNonNull(CardImageCache.class.getResourceAsStream(path),
+                "No se encontró la imagen: " + path);
+        return new Image(stream, CARD_WIDTH, 0, true, true);
+    }
+}
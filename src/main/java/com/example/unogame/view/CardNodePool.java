@@ -0,0 +1,99 @@
+package com.example.unogame.view;
+
+import com.example.unogame.model.UnoCard;
+import javafx.event.EventHandler;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.MouseEvent;
+
+import java.util.ArrayDeque;
+
+/**
+ * Pool of card nodes shared by both hands and every game. A node serves as a
+ * face-up user card or a face-down CPU card as needed; after a played card lands
+ * on the discard pile, or a hand shrinks, its node comes back here for the next
+ * card drawn.
+ *
+ * <p>Each node gets the one shared click handler when it is created and keeps it
+ * for life; the handler tells cards apart by the node's user data (null on card
+ * backs) and its parent. Once the pool covers the largest number of cards on the
+ * table, no nodes or handlers are created any more.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class CardNodePool {
+    private final ArrayDeque<ImageView> free = new ArrayDeque<>();
+    private final EventHandler<MouseEvent> clickHandler;
+    private int created;
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param clickHandler the handler attached once to every node.
+     */
+    public CardNodePool(EventHandler<MouseEvent> clickHandler) {
+        this.clickHandler = clickHandler;
+    }
+
+    /**
+     * Returns a node showing a card face, with the card as its user data.
+     *
+     * @param card the card.
+     * @return the node.
+     */
+    public ImageView acquireFace(UnoCard card) {
+        ImageView view = acquire();
+        CardAtlas.getInstance().applyFace(view, card);
+        view.setUserData(card);
+        return view;
+    }
+
+    /**
+     * Returns a node showing the card back, with no user data.
+     *
+     * @return the node.
+     */
+    public ImageView acquireBack() {
+        ImageView view = acquire();
+        CardAtlas.getInstance().applyBack(view);
+        view.setUserData(null);
+        return view;
+    }
+
+    /**
+     * Gives a node back. It must already be out of the scene graph and have no
+     * animation running.
+     *
+     * @param view the node.
+     */
+    public void release(ImageView view) {
+        if (view.getTranslateX() != 0 || view.getTranslateY() != 0 || view.getOpacity() != 1) {
+            view.setTranslateX(0);
+            view.setTranslateY(0);
+            view.setOpacity(1);
+        }
+        free.push(view);
+    }
+
+    /**
+     * Returns how many nodes the pool has created so far.
+     *
+     * @return the number of nodes.
+     */
+    public int created() {
+        return created;
+    }
+
+    private ImageView acquire() {
+        ImageView view = free.poll();
+        if (view == null) {
+            view = new ImageView();
+            view.setFitWidth(CardImageCache.CARD_WIDTH);
+            view.setPreserveRatio(true);
+            view.addEventHandler(MouseEvent.MOUSE_CLICKED, clickHandler);
+            created++;
+        }
+        return view;
+    }
+}
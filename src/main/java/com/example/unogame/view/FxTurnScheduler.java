@@ -0,0 +1,29 @@
+package com.example.unogame.view;
+
+import com.example.unogame.turn.TurnScheduler;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+/**
+ * Runs the steps of a {@link com.example.unogame.turn.TurnStateMachine} on the
+ * JavaFX thread: with a {@link PauseTransition} when there is a delay, and with
+ * {@link Platform#runLater} otherwise, which is also how CPU decisions made on a
+ * background thread come back.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class FxTurnScheduler implements TurnScheduler {
+    @Override
+    public void schedule(long delayMillis, Runnable task) {
+        if (delayMillis <= 0 || !Platform.isFxApplicationThread()) {
+            Platform.runLater(delayMillis <= 0 ? task : () -> schedule(delayMillis, task));
+            return;
+        }
+        PauseTransition pause = new PauseTransition(Duration.millis(delayMillis));
+        pause.setOnFinished(e -> task.run());
+        pause.play();
+    }
+}
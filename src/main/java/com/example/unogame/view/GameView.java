@@ -1,32 +1,45 @@
 package com.example.unogame.view;
 
 import com.example.unogame.model.UnoCard;
+import com.example.unogame.view.interfaces.ITableRenderer;
 import javafx.animation.*;
 import javafx.application.Platform;
 import javafx.scene.control.Alert;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 import javafx.util.Duration;
 
-import java.util.Objects;
-
 /**
  * Responsible for rendering the game UI and animations.
  *
+ * <p>Cards are drawn by an {@link ITableRenderer}, either the scene graph or a
+ * single canvas; this class adds the alerts and the end-of-game dialog.</p>
+ *
  * @authors
  *   Jhon Steven Angulo Nieves
  *   Braulio Robledo Delgado
  */
 public class GameView {
-    private final ImageView discardPileView;
-    private final String cardPrefix = "/com/example/unogame/cards-uno/";
+    private final ITableRenderer table;
     private boolean gameOver = false;
+    private boolean quiet = false;
 
-    public GameView(ImageView discardPileView) {
-        this.discardPileView = discardPileView;
+    public GameView(ITableRenderer table) {
+        this.table = table;
+    }
+
+    /**
+     * Silences every alert and the end-of-game dialog, e.g. in spectator mode
+     * where nobody is there to close them.
+     *
+     * @param quiet true to show no alerts.
+     */
+    public void setQuiet(boolean quiet) {
+        this.quiet = quiet;
     }
 
     public void showAlertSafely(String title, String message, Alert.AlertType type) {
+        if (quiet) {
+            return;
+        }
         Alert alert = new Alert(type);
         alert.setTitle(title);
         alert.setHeaderText(null);
@@ -38,30 +51,23 @@ public class GameView {
         delay.play();
     }
 
-    public void shakeAnimation(ImageView card) {
-        TranslateTransition shake = new TranslateTransition(Duration.millis(100), card);
-        shake.setFromX(0);
-        shake.setByX(10);
-        shake.setCycleCount(6);
-        shake.setAutoReverse(true);
-        shake.play();
+    public void shakeAnimation(int code) {
+        table.shakeAnimation(code);
     }
 
-    public void animateCardPlay(ImageView card, Runnable onFinished) {
-        TranslateTransition move = new TranslateTransition(Duration.millis(300), card);
-        move.setToX(discardPileView.getLayoutX() - card.getLayoutX());
-        move.setToY(discardPileView.getLayoutY() - card.getLayoutY());
-        move.setOnFinished(e -> onFinished.run());
-        move.play();
+    public void animateCardPlay(int seat, int code, Runnable onFinished) {
+        animateCardPlay(seat, code, Duration.millis(300), onFinished);
     }
 
-    public void updateDiscardPile(UnoCard topCard) {
-        String imagePath = cardPrefix + topCard.toFileName();
+    public void animateCardPlay(int seat, int code, Duration duration, Runnable onFinished) {
+        table.animateCardPlay(seat, code, duration, onFinished);
+    }
 
+    public void updateDiscardPile(UnoCard topCard) {
         try {
-            discardPileView.setImage(new Image(Objects.requireNonNull(getClass().getResourceAsStream(imagePath))));
+            table.updateDiscardPile(topCard);
         } catch (Exception e) {
-            System.err.println("Error al cargar imagen: " + imagePath);
+            System.err.println("Error al cargar imagen: " + topCard.toFileName());
             e.printStackTrace();
         }
     }
@@ -69,6 +75,9 @@ public class GameView {
     public boolean checkGameOver(boolean isGameOver, boolean userWins) {
         if (isGameOver && !gameOver) {
             gameOver = true;
+            if (quiet) {
+                return true;
+            }
             String winner = userWins ? "¡Has ganado!" : "La CPU ha ganado";
 
             Platform.runLater(() -> {
@@ -82,17 +91,12 @@ public class GameView {
         return gameOver;
     }
 
-    public void animateFadeIn(ImageView card, Duration duration, Runnable onFinished) {
-        card.setOpacity(0);
-        FadeTransition fadeIn = new FadeTransition(duration, card);
-        fadeIn.setFromValue(0);
-        fadeIn.setToValue(1);
-        fadeIn.setOnFinished(e -> {
+    public void animateFadeIn(int seat, int code, Duration duration, Runnable onFinished) {
+        table.animateFadeIn(seat, code, duration, () -> {
             if (onFinished != null) {
                 onFinished.run();
             }
         });
-        fadeIn.play();
     }
 
     public void showCpuColorChoice(UnoCard.Color color) {
@@ -0,0 +1,73 @@
+package com.example.unogame.view;
+
+import javafx.geometry.Rectangle2D;
+
+/**
+ * Placement of overlapped cards in a hand row, shared by {@link HandLayout} and
+ * {@link CanvasTable} so that both renderers lay out hands the same way.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+final class HandGeometry {
+    /** Overlap between neighbouring cards while the hand fits, as the old {@code -fx-spacing: -40}. */
+    static final double OVERLAP = 40;
+    /** Narrowest strip of a card left visible before slots start being hidden. */
+    static final double MIN_STEP = 16;
+    static final double CARD_WIDTH = CardImageCache.CARD_WIDTH;
+    private static double cardHeight = -1;
+
+    private HandGeometry() {
+    }
+
+    /**
+     * Returns how many cards fit in a row with at least {@link #MIN_STEP} pixels
+     * of each showing.
+     *
+     * @param width the width of the row, without padding.
+     * @return at least one.
+     */
+    static int capacity(double width) {
+        return Math.max(1, 1 + (int) Math.floor((width - CARD_WIDTH) / MIN_STEP));
+    }
+
+    /**
+     * Returns the distance between the left edges of neighbouring cards.
+     *
+     * @param width the width of the row, without padding.
+     * @param count the cards shown, at most {@link #capacity(double)}.
+     * @return the step in pixels.
+     */
+    static double step(double width, int count) {
+        double step = CARD_WIDTH - OVERLAP;
+        if (count > 1) {
+            step = Math.min(step, Math.max(MIN_STEP, Math.floor((width - CARD_WIDTH) / (count - 1))));
+        }
+        return step;
+    }
+
+    /**
+     * Returns the width taken by a row of cards.
+     *
+     * @param count the cards shown.
+     * @param step  the step between them.
+     * @return the width in pixels.
+     */
+    static double rowWidth(int count, double step) {
+        return count == 0 ? 0 : CARD_WIDTH + (count - 1) * step;
+    }
+
+    /**
+     * Returns the height of a card drawn {@link #CARD_WIDTH} pixels wide.
+     *
+     * @return the height in pixels.
+     */
+    static double cardHeight() {
+        if (cardHeight < 0) {
+            Rectangle2D viewport = CardAtlas.getInstance().getViewport(CardAtlas.BACK_INDEX);
+            cardHeight = Math.ceil(viewport.getHeight() * CARD_WIDTH / viewport.getWidth());
+        }
+        return cardHeight;
+    }
+}
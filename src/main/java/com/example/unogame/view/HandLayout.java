@@ -0,0 +1,330 @@
+package com.example.unogame.view;
+
+import com.example.unogame.model.UnoCard;
+import javafx.geometry.Insets;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Row of the cards of one hand, overlapped to fit its width. Replaces the
+ * {@code HBox} of one {@link ImageView} per card, which laid out cards far
+ * off-screen and the whole row again on every card added or removed.
+ *
+ * <p>The hand is kept as an array of card codes; nodes exist only for the
+ * window of slots that fit with at least {@link HandGeometry#MIN_STEP} pixels of each card
+ * showing. The rest are counted in a "+N" label and reached with the mouse
+ * wheel. Nodes come from and go back to a {@link CardNodePool}.</p>
+ *
+ * <p>Layout is incremental: the cards sit in a {@link Group} that centers the
+ * row as a whole, so adding or removing a card repositions only the nodes from
+ * that slot on, unless the overlap has to change. The work per frame is bounded
+ * by the width of the row, not by the size of the hand.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class HandLayout extends Region {
+    private static final double CARD_WIDTH = HandGeometry.CARD_WIDTH;
+
+    private final Group row = new Group();
+    private final ArrayList<ImageView> visible = new ArrayList<>();
+    private final Label overflow = new Label();
+    private CardNodePool pool;
+    private boolean faceUp = true;
+    private int[] codes = new int[16];
+    private int size;
+    private int first; // Slot que muestra visible.get(0)
+    private int dirtyFrom; // Primer nodo visible cuya posición está desactualizada
+    private double laidStep = -1;
+    private double laidWidth = -1;
+
+    public HandLayout() {
+        getStyleClass().add("hand-layout");
+        row.setAutoSizeChildren(false);
+        overflow.getStyleClass().add("hand-overflow");
+        overflow.setManaged(false);
+        overflow.setMouseTransparent(true);
+        overflow.setVisible(false);
+        getChildren().addAll(row, overflow);
+        addEventHandler(ScrollEvent.SCROLL, e -> {
+            if (size > visible.size()) {
+                scrollTo(first + (e.getDeltaY() < 0 ? 1 : -1));
+                e.consume();
+            }
+        });
+    }
+
+    public void setPool(CardNodePool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Chooses whether cards are drawn face up (user) or as card backs (CPU).
+     * Must be set before the first card is added.
+     *
+     * @param faceUp true to show the faces.
+     */
+    public void setFaceUp(boolean faceUp) {
+        this.faceUp = faceUp;
+    }
+
+    public boolean isFaceUp() {
+        return faceUp;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the first slot holding a card.
+     *
+     * @param code the card code.
+     * @return the slot, or -1 if the hand does not hold the card.
+     */
+    public int indexOf(int code) {
+        for (int slot = 0; slot < size; slot++) {
+            if (codes[slot] == code) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the node showing a slot.
+     *
+     * @param slot the slot.
+     * @return the node, or null if the slot is scrolled out of view or does not exist.
+     */
+    public ImageView nodeAt(int slot) {
+        int index = slot - first;
+        return index >= 0 && index < visible.size() ? visible.get(index) : null;
+    }
+
+    /**
+     * Tells whether a node currently shows one of this hand's cards.
+     *
+     * @param node the node.
+     * @return true if it belongs to the row.
+     */
+    public boolean holds(Node node) {
+        return node.getParent() == row;
+    }
+
+    /**
+     * Appends a card.
+     *
+     * @param code the card code.
+     * @return the node showing it, or null if it falls outside the visible window.
+     */
+    public ImageView add(int code) {
+        ensureCapacity(size + 1);
+        codes[size++] = code;
+        reconcile(first);
+        return nodeAt(size - 1);
+    }
+
+    /**
+     * Removes a slot; the following cards move one slot left.
+     *
+     * @param slot the slot; ignored if it does not exist.
+     */
+    public void remove(int slot) {
+        if (slot < 0 || slot >= size) {
+            return;
+        }
+        System.arraycopy(codes, slot + 1, codes, slot, size - slot - 1);
+        size--;
+        int index = slot - first;
+        if (index < 0) {
+            // Los nodos visibles muestran ahora un slot menos
+            first--;
+        } else if (index < visible.size()) {
+            releaseAt(index);
+        }
+        reconcile(first);
+    }
+
+    /**
+     * Removes the slot a node shows.
+     *
+     * @param node the node.
+     * @return false if the node no longer shows a card of this hand.
+     */
+    public boolean remove(ImageView node) {
+        int index = visible.indexOf(node);
+        if (index < 0) {
+            return false;
+        }
+        remove(first + index);
+        return true;
+    }
+
+    /**
+     * Replaces the whole hand. Slots whose card did not change keep their node
+     * untouched; the rest reuse the existing nodes before taking new ones.
+     *
+     * @param cards the card codes, in slot order.
+     * @param count how many entries of {@code cards} are used.
+     */
+    public void setCards(int[] cards, int count) {
+        ensureCapacity(count);
+        for (int slot = 0; slot < count; slot++) {
+            if (slot >= size || codes[slot] != cards[slot]) {
+                codes[slot] = cards[slot];
+                ImageView view = slot < size ? nodeAt(slot) : null;
+                if (view != null && faceUp) {
+                    UnoCard card = UnoCard.of(cards[slot]);
+                    CardAtlas.getInstance().applyFace(view, card);
+                    view.setUserData(card);
+                }
+            }
+        }
+        size = count;
+        // Deshace lo que una animación interrumpida haya dejado en los nodos
+        for (ImageView view : visible) {
+            if (view.getTranslateX() != 0 || view.getTranslateY() != 0 || view.getOpacity() != 1) {
+                view.setTranslateX(0);
+                view.setTranslateY(0);
+                view.setOpacity(1);
+            }
+        }
+        reconcile(first);
+    }
+
+    /**
+     * Scrolls the visible window so that it starts at a slot, as far as the hand allows.
+     *
+     * @param slot the first slot to show.
+     */
+    public void scrollTo(int slot) {
+        reconcile(slot);
+    }
+
+    /**
+     * Makes the nodes match the window of slots that fits, starting as close to
+     * {@code target} as possible, reusing the nodes that stay in view.
+     */
+    private void reconcile(int target) {
+        int count = Math.min(size, capacity());
+        int start = Math.max(0, Math.min(target, size - count));
+        int end = start + count;
+
+        while (!visible.isEmpty() && first < start) {
+            releaseAt(0);
+            first++;
+        }
+        while (!visible.isEmpty() && first + visible.size() > end) {
+            releaseAt(visible.size() - 1);
+        }
+        if (visible.isEmpty()) {
+            first = start;
+        }
+        while (first > start) {
+            first--;
+            acquireAt(0, first);
+        }
+        while (first + visible.size() < end) {
+            acquireAt(visible.size(), first + visible.size());
+        }
+
+        int hidden = size - count;
+        overflow.setVisible(hidden > 0);
+        if (hidden > 0) {
+            overflow.setText("+" + hidden);
+        }
+        requestLayout();
+    }
+
+    private void acquireAt(int index, int slot) {
+        ImageView view = faceUp ? pool.acquireFace(UnoCard.of(codes[slot])) : pool.acquireBack();
+        visible.add(index, view);
+        row.getChildren().add(index, view);
+        dirtyFrom = Math.min(dirtyFrom, index);
+    }
+
+    private void releaseAt(int index) {
+        ImageView view = visible.remove(index);
+        row.getChildren().remove(index);
+        pool.release(view);
+        dirtyFrom = Math.min(dirtyFrom, index);
+    }
+
+    /**
+     * Returns how many cards fit, or no limit before the first layout gives the
+     * row a width.
+     */
+    private int capacity() {
+        if (getWidth() <= 0) {
+            return Integer.MAX_VALUE;
+        }
+        return HandGeometry.capacity(getWidth() - getInsets().getLeft() - getInsets().getRight());
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > codes.length) {
+            codes = Arrays.copyOf(codes, Math.max(capacity, codes.length * 2));
+        }
+    }
+
+    @Override
+    protected void layoutChildren() {
+        if (getWidth() != laidWidth) {
+            // Cambia cuántas cartas caben: la ventana se ajusta antes de colocar
+            laidWidth = getWidth();
+            reconcile(first);
+        }
+        Insets insets = getInsets();
+        double width = getWidth() - insets.getLeft() - insets.getRight();
+        int count = visible.size();
+        double step = HandGeometry.step(width, count);
+        double rowWidth = HandGeometry.rowWidth(count, step);
+
+        // Centrar mueve el grupo entero, no cada carta
+        row.setLayoutX(snapPositionX(insets.getLeft() + (width - rowWidth) / 2));
+        row.setLayoutY(snapPositionY(insets.getTop()));
+        int from = step == laidStep ? dirtyFrom : 0;
+        for (int index = from; index < count; index++) {
+            ImageView view = visible.get(index);
+            view.setLayoutX(index * step);
+            view.setLayoutY(0);
+        }
+        laidStep = step;
+        dirtyFrom = count;
+
+        if (overflow.isVisible()) {
+            overflow.autosize();
+            overflow.relocate(getWidth() - insets.getRight() - overflow.getWidth(), insets.getTop());
+        }
+    }
+
+    @Override
+    protected double computeMinWidth(double height) {
+        return getInsets().getLeft() + CARD_WIDTH + getInsets().getRight();
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        double cards = HandGeometry.rowWidth(size, CARD_WIDTH - HandGeometry.OVERLAP);
+        return getInsets().getLeft() + cards + getInsets().getRight();
+    }
+
+    @Override
+    protected double computeMinHeight(double width) {
+        return computePrefHeight(width);
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        return getInsets().getTop() + HandGeometry.cardHeight() + getInsets().getBottom();
+    }
+}
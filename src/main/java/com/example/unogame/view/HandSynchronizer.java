@@ -0,0 +1,90 @@
+package com.example.unogame.view;
+
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.Hand;
+import com.example.unogame.model.UnoCard;
+import com.example.unogame.view.interfaces.ITableRenderer;
+import javafx.animation.AnimationTimer;
+
+import java.util.Arrays;
+
+/**
+ * Brings both hand rows and the discard pile in line with the model at most once
+ * per pulse, instead of adding and animating one node per card. Used when moves
+ * are shown instantly, e.g. in spectator mode, and to deal each new game.
+ *
+ * <p>Each hand is handed to the {@link ITableRenderer} as a list of card codes.
+ * The scene graph keeps the nodes of unchanged slots untouched and takes the
+ * missing ones from its {@link CardNodePool}, so back-to-back games do not create
+ * nodes once the pool has reached the largest number of cards on the table; the
+ * canvas only repaints the hands that changed.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class HandSynchronizer {
+    private final ITableRenderer table;
+    private int[] codes = new int[16];
+    private GameModel model;
+    private boolean pending;
+
+    private final AnimationTimer pulse = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            syncNow();
+        }
+    };
+
+    /**
+     * Creates a synchronizer.
+     *
+     * @param table the table the hands and the discard pile are drawn on.
+     */
+    public HandSynchronizer(ITableRenderer table) {
+        this.table = table;
+    }
+
+    public void setModel(GameModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Schedules a synchronization for the next pulse; further requests before it
+     * runs are merged into it.
+     */
+    public void requestSync() {
+        if (!pending) {
+            pending = true;
+            pulse.start();
+        }
+    }
+
+    /**
+     * Synchronizes right away and cancels a pending request.
+     */
+    public void syncNow() {
+        pending = false;
+        pulse.stop();
+        if (model == null) {
+            return;
+        }
+        sync(GameModel.USER_SEAT);
+        sync(GameModel.CPU_SEAT);
+        table.updateDiscardPile(model.getTopDiscard());
+    }
+
+    private void sync(int seat) {
+        Hand hand = model.getHand(seat);
+        int count = 0;
+        for (int code = 0; code < UnoCard.FACE_COUNT; code++) {
+            for (int copies = hand.count(code); copies > 0; copies--) {
+                if (count == codes.length) {
+                    codes = Arrays.copyOf(codes, count * 2);
+                }
+                codes[count++] = code;
+            }
+        }
+        table.setHand(seat, codes, count);
+    }
+}
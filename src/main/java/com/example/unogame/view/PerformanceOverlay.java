@@ -0,0 +1,133 @@
+package com.example.unogame.view;
+
+import com.example.unogame.metrics.GameMetrics;
+import com.example.unogame.metrics.LatencyHistogram;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Pane;
+
+/**
+ * Performance overlay drawn over the game, toggled with F3: FPS, scene layout
+ * time, user turn latency, CPU decision percentiles, heap and bytes per turn.
+ *
+ * <p>The label is unmanaged, so changing its text never lays out the rest of
+ * the scene, and it is refreshed at most four times per second. The frame
+ * interval and layout time keep being measured while it is hidden, so the
+ * exported report covers the whole session.</p>
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class PerformanceOverlay {
+    public static final KeyCode TOGGLE_KEY = KeyCode.F3;
+    private static final long REFRESH_NANOS = 250_000_000L;
+
+    private final GameMetrics metrics;
+    private final Label label = new Label();
+    private final StringBuilder text = new StringBuilder(256);
+    private long lastFrame;
+    private long lastRefresh;
+    private int framesSinceRefresh;
+    private long layoutStart;
+    private long lastRenderNanos;
+
+    private final AnimationTimer frames = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (lastFrame != 0) {
+                metrics.frameInterval().record(now - lastFrame);
+            }
+            lastFrame = now;
+            framesSinceRefresh++;
+            if (label.isVisible() && now - lastRefresh >= REFRESH_NANOS) {
+                refresh(now);
+            }
+        }
+    };
+
+    public PerformanceOverlay(GameMetrics metrics) {
+        this.metrics = metrics;
+        label.setManaged(false);
+        label.setMouseTransparent(true);
+        label.setVisible(false);
+        label.setStyle("-fx-background-color: rgba(0,0,0,0.7); -fx-text-fill: #7fff7f;"
+                + " -fx-font-family: monospace; -fx-font-size: 11px; -fx-padding: 6;");
+        label.relocate(8, 8);
+    }
+
+    /**
+     * Adds the overlay on top of the scene root and starts measuring frames and layout passes.
+     *
+     * @param scene a scene whose root is a {@link Pane}.
+     */
+    public void install(Scene scene) {
+        ((Pane) scene.getRoot()).getChildren().add(label);
+        scene.addPreLayoutPulseListener(this::beforeLayout);
+        scene.addPostLayoutPulseListener(this::afterLayout);
+        scene.addEventHandler(KeyEvent.KEY_PRESSED, e -> {
+            if (e.getCode() == TOGGLE_KEY) {
+                toggle();
+                e.consume();
+            }
+        });
+        frames.start();
+    }
+
+    public void toggle() {
+        label.setVisible(!label.isVisible());
+        if (label.isVisible()) {
+            label.toFront();
+            refresh(System.nanoTime());
+        }
+    }
+
+    private void beforeLayout() {
+        layoutStart = System.nanoTime();
+    }
+
+    private void afterLayout() {
+        if (layoutStart != 0) {
+            metrics.layout().record(System.nanoTime() - layoutStart);
+        }
+    }
+
+    private void refresh(long now) {
+        long start = System.nanoTime();
+        double fps = lastRefresh == 0 ? 0 : framesSinceRefresh * 1e9 / (now - lastRefresh);
+        lastRefresh = now;
+        framesSinceRefresh = 0;
+
+        Runtime runtime = Runtime.getRuntime();
+        long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+        LatencyHistogram cpu = metrics.cpuDecision();
+        text.setLength(0);
+        text.append(String.format("FPS %.0f  layout p50 %s p99 %s%n", fps,
+                millis(metrics.layout().percentileNanos(50)),
+                millis(metrics.layout().percentileNanos(99))));
+        text.append(String.format("Turno usuario p50 %s p99 %s (n=%d)%n",
+                millis(metrics.userTurn().percentileNanos(50)),
+                millis(metrics.userTurn().percentileNanos(99)), metrics.userTurn().count()));
+        text.append(String.format("Decisión CPU p50 %s p90 %s p99 %s max %s%n",
+                millis(cpu.percentileNanos(50)), millis(cpu.percentileNanos(90)),
+                millis(cpu.percentileNanos(99)), millis(cpu.maxNanos())));
+        text.append(String.format("Heap %d/%d MB  asignado/turno %s (media %s)%n",
+                usedHeap >> 20, runtime.maxMemory() >> 20,
+                kilobytes(metrics.lastTurnBytes()), kilobytes(metrics.meanTurnBytes())));
+        text.append(String.format("Overlay %.0f us", lastRenderNanos / 1000.0));
+        label.setText(text.toString());
+        label.autosize();
+        lastRenderNanos = System.nanoTime() - start;
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2fms", nanos / 1e6);
+    }
+
+    private static String kilobytes(long bytes) {
+        return bytes < 0 ? "n/d" : String.format("%.1fKB", bytes / 1024.0);
+    }
+}
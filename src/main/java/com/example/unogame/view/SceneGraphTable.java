@@ -0,0 +1,142 @@
+package com.example.unogame.view;
+
+import com.example.unogame.model.GameModel;
+import com.example.unogame.model.UnoCard;
+import com.example.unogame.view.interfaces.ITableRenderer;
+import javafx.animation.FadeTransition;
+import javafx.animation.TranslateTransition;
+import javafx.event.EventHandler;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.MouseEvent;
+import javafx.util.Duration;
+
+/**
+ * Table drawn with one {@link ImageView} per card: the two {@link HandLayout}
+ * rows and the deck and discard pile views of the FXML. This is the default
+ * renderer; every card node comes from one {@link CardNodePool}.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class SceneGraphTable implements ITableRenderer {
+    private final HandLayout userHand;
+    private final HandLayout cpuHand;
+    private final ImageView discardPileView;
+    private EventHandler<MouseEvent> onCardClicked;
+    private Runnable onDeckClicked;
+
+    public SceneGraphTable(HandLayout userHand, HandLayout cpuHand, ImageView deckView, ImageView discardPileView) {
+        this.userHand = userHand;
+        this.cpuHand = cpuHand;
+        this.discardPileView = discardPileView;
+
+        // Los nodos reciben el manejador una sola vez, al crearse
+        CardNodePool pool = new CardNodePool(event -> {
+            if (onCardClicked != null) {
+                onCardClicked.handle(event);
+            }
+        });
+        userHand.setPool(pool);
+        cpuHand.setPool(pool);
+        cpuHand.setFaceUp(false);
+
+        deckView.setImage(CardImageCache.getInstance().getDeck());
+        deckView.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> {
+            if (onDeckClicked != null) {
+                onDeckClicked.run();
+            }
+        });
+    }
+
+    private HandLayout hand(int seat) {
+        return seat == GameModel.USER_SEAT ? userHand : cpuHand;
+    }
+
+    @Override
+    public void setHand(int seat, int[] codes, int count) {
+        hand(seat).setCards(codes, count);
+    }
+
+    @Override
+    public void addCard(int seat, int code) {
+        hand(seat).add(code);
+    }
+
+    @Override
+    public void updateDiscardPile(UnoCard card) {
+        CardAtlas.getInstance().applyFace(discardPileView, card);
+    }
+
+    @Override
+    public void animateCardPlay(int seat, int code, Duration duration, Runnable onFinished) {
+        HandLayout hand = hand(seat);
+        int slot = hand.indexOf(code);
+        ImageView card = hand.nodeAt(slot);
+        if (card == null) {
+            // Con la mano desplazada la carta puede no tener nodo: entonces no se anima
+            hand.remove(slot);
+            onFinished.run();
+            return;
+        }
+        TranslateTransition move = new TranslateTransition(duration, card);
+        move.setToX(discardPileView.getLayoutX() - card.getLayoutX());
+        move.setToY(discardPileView.getLayoutY() - card.getLayoutY());
+        move.setOnFinished(e -> {
+            // La mano devuelve el nodo al pool (salvo que una sincronización ya lo haya retirado)
+            hand.remove(card);
+            onFinished.run();
+        });
+        move.play();
+    }
+
+    @Override
+    public void animateFadeIn(int seat, int code, Duration duration, Runnable onFinished) {
+        ImageView card = hand(seat).add(code);
+        if (card == null) {
+            // Fuera de la parte visible de la mano: no hay nada que animar
+            onFinished.run();
+            return;
+        }
+        card.setOpacity(0);
+        FadeTransition fadeIn = new FadeTransition(duration, card);
+        fadeIn.setFromValue(0);
+        fadeIn.setToValue(1);
+        fadeIn.setOnFinished(e -> onFinished.run());
+        fadeIn.play();
+    }
+
+    @Override
+    public void shakeAnimation(int code) {
+        ImageView card = userHand.nodeAt(userHand.indexOf(code));
+        if (card == null) {
+            return;
+        }
+        TranslateTransition shake = new TranslateTransition(Duration.millis(100), card);
+        shake.setFromX(0);
+        shake.setByX(10);
+        shake.setCycleCount(6);
+        shake.setAutoReverse(true);
+        shake.play();
+    }
+
+    @Override
+    public void setOnCardClicked(EventHandler<MouseEvent> handler) {
+        this.onCardClicked = handler;
+    }
+
+    @Override
+    public void setOnDeckClicked(Runnable handler) {
+        this.onDeckClicked = handler;
+    }
+
+    @Override
+    public int userCardAt(MouseEvent event) {
+        // Los nodos del pool también sirven de reverso en la mano de la CPU
+        if (event.getSource() instanceof ImageView card && userHand.holds(card)
+                && card.getUserData() instanceof UnoCard selected) {
+            return selected.getCode();
+        }
+        return GameModel.NO_CARD;
+    }
+}
@@ -2,7 +2,6 @@ package com.example.unogame.view.interfaces;
 
 import com.example.unogame.model.UnoCard;
 import javafx.scene.control.Alert;
-import javafx.scene.image.ImageView;
 import javafx.util.Duration;
 
 /**
@@ -15,6 +14,6 @@ import javafx.util.Duration;
 public interface IGameView {
     void updateDiscardPile(UnoCard card);
     void showAlertSafely(String title, String message, Alert.AlertType type);
-    void animateCardPlay(ImageView card, Runnable onFinished);
+    void animateCardPlay(int seat, int code, Runnable onFinished);
 }
 
@@ -0,0 +1,76 @@
+package com.example.unogame.view.interfaces;
+
+import com.example.unogame.model.UnoCard;
+import javafx.event.EventHandler;
+import javafx.scene.input.MouseEvent;
+import javafx.util.Duration;
+
+/**
+ * Draws the table: the deck, the discard pile and both hands. Cards are named by
+ * seat and card code, never by node, so the table can be a scene graph of one
+ * node per card or a single canvas. Every method runs on the FX thread.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public interface ITableRenderer {
+    /**
+     * Replaces the cards of a hand, keeping what did not change.
+     *
+     * @param seat  the seat of the hand.
+     * @param codes the card codes, in slot order.
+     * @param count how many entries of {@code codes} are used.
+     */
+    void setHand(int seat, int[] codes, int count);
+
+    void addCard(int seat, int code);
+
+    void updateDiscardPile(UnoCard card);
+
+    /**
+     * Moves a card of a hand towards the discard pile and takes it out of the
+     * hand. Without a visible card to move, it is just taken out.
+     *
+     * @param seat       the seat that plays.
+     * @param code       the card played.
+     * @param duration   the length of the movement.
+     * @param onFinished run once the card has arrived.
+     */
+    void animateCardPlay(int seat, int code, Duration duration, Runnable onFinished);
+
+    /**
+     * Adds a card to a hand, fading it in.
+     *
+     * @param seat       the seat that draws.
+     * @param code       the card drawn.
+     * @param duration   the length of the fade.
+     * @param onFinished run once the card is fully shown.
+     */
+    void animateFadeIn(int seat, int code, Duration duration, Runnable onFinished);
+
+    /**
+     * Shakes a card of the user's hand, e.g. after an invalid play.
+     *
+     * @param code the card.
+     */
+    void shakeAnimation(int code);
+
+    /**
+     * Sets the handler of clicks on the user's cards; it learns which card was
+     * clicked from {@link #userCardAt(MouseEvent)}.
+     *
+     * @param handler the handler.
+     */
+    void setOnCardClicked(EventHandler<MouseEvent> handler);
+
+    void setOnDeckClicked(Runnable handler);
+
+    /**
+     * Returns the user's card a click landed on.
+     *
+     * @param event a click delivered to the card click handler.
+     * @return the card code, or {@code GameModel.NO_CARD} if it hit no user card.
+     */
+    int userCardAt(MouseEvent event);
+}
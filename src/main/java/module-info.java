@@ -1,10 +1,29 @@
 module com.example.unogame {
     requires javafx.controls;
     requires javafx.fxml;
+    requires jdk.jfr;
+    requires jdk.management;
 
 
     opens com.example.unogame to javafx.fxml;
     exports com.example.unogame;
     exports com.example.unogame.controller;
     opens com.example.unogame.controller to javafx.fxml;
-}
\ No newline at end of file
+    // Tipo que devuelve GameViewController.getMetrics()
+    exports com.example.unogame.metrics;
+    exports com.example.unogame.strategy;
+    // Tipos que aparecen en la API de las estrategias
+    exports com.example.unogame.model;
+    exports com.example.unogame.model.interfaces;
+    exports com.example.unogame.exceptions;
+    exports com.example.unogame.view to javafx.fxml;
+
+    uses com.example.unogame.strategy.Strategy;
+    provides com.example.unogame.strategy.Strategy with
+            com.example.unogame.strategy.FirstValidStrategy,
+            com.example.unogame.strategy.ActionFirstStrategy,
+            com.example.unogame.strategy.MajorityColorStrategy,
+            com.example.unogame.strategy.RandomStrategy,
+            com.example.unogame.ai.MonteCarloStrategy,
+            com.example.unogame.ai.IsmctsStrategy;
+}
@@ -0,0 +1,33 @@
+package com.example.unogame.engine;
+
+import com.example.unogame.exceptions.DeckEmptyException;
+
+/**
+ * Games in progress shared by the tests: dealt from a seed and played for a
+ * number of turns, so each test starts from a reproducible mid-game position.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+public final class TestGames {
+    private TestGames() {
+    }
+
+    /**
+     * Deals a game and plays its first turns.
+     *
+     * @param seats the number of seats.
+     * @param seed  the game seed.
+     * @param turns how many turns to play.
+     * @return the engine, with its model in the reached position.
+     * @throws DeckEmptyException if the game cannot be dealt.
+     */
+    public static HeadlessGameEngine midGame(int seats, long seed, int turns) throws DeckEmptyException {
+        HeadlessGameEngine engine = new HeadlessGameEngine(seats, seed);
+        for (int i = 0; i < turns; i++) {
+            engine.playTurn();
+        }
+        return engine;
+    }
+}
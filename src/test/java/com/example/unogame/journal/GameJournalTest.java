@@ -0,0 +1,108 @@
+package com.example.unogame.journal;
+
+import com.example.unogame.engine.HeadlessGameEngine;
+import com.example.unogame.model.interfaces.IGameEventListener;
+import com.example.unogame.replay.GameRecorder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Several threads journaling their own games into one {@link GameJournal}, and a
+ * journal sharing its model with other listeners.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+class GameJournalTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void concurrentWritersKeepEveryRecordAndItsOrder() throws Exception {
+        int threads = 4;
+        int games = 100;
+        long recorded;
+        // Segmentos pequeños para que los escritores se crucen en muchos cambios de segmento
+        try (GameJournal journal = new GameJournal(dir, 16 * 1024, 0)) {
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                Future<?>[] tasks = new Future<?>[threads];
+                for (int t = 0; t < threads; t++) {
+                    long seed = 100 + t;
+                    tasks[t] = pool.submit(() -> {
+                        HeadlessGameEngine engine = new HeadlessGameEngine(2, seed);
+                        journal.attach(engine.getModel());
+                        for (int g = 0; g < games; g++) {
+                            engine.playGame();
+                            engine.newGame();
+                        }
+                        return null;
+                    });
+                }
+                for (Future<?> task : tasks) {
+                    task.get();
+                }
+            } finally {
+                pool.shutdown();
+            }
+            recorded = journal.getRecordCount();
+            assertTrue(journal.getSegmentIndex() > 1, "no hubo cambio de segmento");
+        }
+
+        // Por partida: registros SNAPSHOT que faltan tras el START, o -1 si ya llegó el SEED
+        Map<Integer, Integer> pending = new HashMap<>();
+        int[] starts = new int[1];
+        long read = GameJournalReader.read(dir, (type, seat, code, color, gameId, payload) -> {
+            Integer left = pending.get(gameId);
+            if (type == GameJournal.START) {
+                starts[0]++;
+                assertEquals(null, left, "START repetido en la partida " + gameId);
+                int length = ((code & 0xFF) << 8) | (color & 0xFF);
+                pending.put(gameId, (length + Long.BYTES - 1) / Long.BYTES);
+            } else if (type == GameJournal.SNAPSHOT) {
+                assertTrue(left != null && left > 0, "SNAPSHOT fuera de orden en la partida " + gameId);
+                pending.put(gameId, left - 1);
+            } else if (type == GameJournal.SEED) {
+                assertEquals(0, left, "SEED fuera de orden en la partida " + gameId);
+                pending.put(gameId, -1);
+            } else {
+                assertEquals(-1, left, "la partida " + gameId + " no empieza con START, SNAPSHOT y SEED");
+            }
+        });
+        assertEquals(recorded, read);
+        assertEquals(threads * (games + 1), starts[0]);
+    }
+
+    @Test
+    void journalSharesTheModelWithOtherListeners() throws Exception {
+        HeadlessGameEngine engine = new HeadlessGameEngine(2, 7);
+        GameRecorder recorder = GameRecorder.attach(engine.getModel());
+        try (GameJournal journal = new GameJournal(dir, 16 * 1024, 0)) {
+            IGameEventListener journaled = journal.attach(engine.getModel());
+            long atStart = journal.getRecordCount();
+            engine.playGame();
+            long afterGame = journal.getRecordCount();
+            assertTrue(afterGame > atStart, "el diario no recibió la partida");
+            assertTrue(recorder.getEventCount() > 0, "el grabador dejó de recibir eventos");
+
+            // Quitar el diario no afecta al grabador
+            engine.getModel().removeEventListener(journaled);
+            engine.newGame();
+            assertEquals(0, recorder.getEventCount());
+            engine.playGame();
+            assertEquals(afterGame, journal.getRecordCount());
+            assertTrue(recorder.getEventCount() > 0, "el grabador perdió la segunda partida");
+        }
+    }
+}
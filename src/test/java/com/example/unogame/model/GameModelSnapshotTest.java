@@ -0,0 +1,65 @@
+package com.example.unogame.model;
+
+import com.example.unogame.engine.HeadlessGameEngine;
+import org.junit.jupiter.api.Test;
+
+import static com.example.unogame.engine.TestGames.midGame;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Round trips of {@link GameModel#snapshot()}, {@link GameModel#restore} and
+ * {@link GameModel#fork()}.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+class GameModelSnapshotTest {
+
+    @Test
+    void restoreOfSnapshotReproducesThePosition() throws Exception {
+        GameModel original = midGame(3, 7L, 25).getModel();
+        byte[] snapshot = original.snapshot();
+
+        GameModel copy = new GameModel(3, 99L);
+        int end = copy.restore(snapshot, 0);
+
+        assertEquals(snapshot.length, end);
+        assertArrayEquals(snapshot, copy.snapshot());
+        assertEquals(original.stateHash(), copy.stateHash());
+        assertEquals(original.getCurrentSeat(), copy.getCurrentSeat());
+        assertEquals(original.getCurrentColor(), copy.getCurrentColor());
+        assertEquals(original.getDeckSize(), copy.getDeckSize());
+    }
+
+    @Test
+    void restoreReadsAtAnOffset() throws Exception {
+        GameModel original = midGame(2, 11L, 10).getModel();
+        byte[] data = new byte[5 + original.snapshotSize()];
+        original.snapshot(data, 5);
+
+        GameModel copy = new GameModel(2, 1L);
+        assertEquals(data.length, copy.restore(data, 5));
+        assertEquals(original.stateHash(), copy.stateHash());
+    }
+
+    @Test
+    void restoreRejectsAnotherSeatCount() throws Exception {
+        byte[] snapshot = midGame(2, 3L, 4).getModel().snapshot();
+        assertThrows(IllegalArgumentException.class, () -> new GameModel(4, 3L).restore(snapshot, 0));
+    }
+
+    @Test
+    void forkIsIndependentOfTheOriginal() throws Exception {
+        GameModel original = midGame(2, 5L, 12).getModel();
+        long hash = original.stateHash();
+
+        GameModel fork = original.fork();
+        assertEquals(hash, fork.stateHash());
+
+        new HeadlessGameEngine(fork).playGame();
+        assertEquals(hash, original.stateHash());
+    }
+}
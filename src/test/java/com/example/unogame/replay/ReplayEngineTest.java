@@ -0,0 +1,73 @@
+package com.example.unogame.replay;
+
+import com.example.unogame.engine.HeadlessGameEngine;
+import com.example.unogame.exceptions.ReplayMismatchException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Records headless games with {@link GameRecorder} and replays them with
+ * {@link ReplayEngine}.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+class ReplayEngineTest {
+
+    private static GameRecording[] record(int games, int seats, long seed) throws Exception {
+        HeadlessGameEngine engine = new HeadlessGameEngine(seats, seed);
+        GameRecorder recorder = GameRecorder.attach(engine.getModel());
+        GameRecording[] recordings = new GameRecording[games];
+        for (int i = 0; i < games; i++) {
+            engine.newGame();
+            engine.playGame();
+            recordings[i] = recorder.finish(engine.getModel());
+        }
+        return recordings;
+    }
+
+    @Test
+    void recordedGamesReplayToTheSameState() throws Exception {
+        ReplayEngine replayer = new ReplayEngine();
+        for (int seats = 2; seats <= 4; seats++) {
+            for (GameRecording recording : record(50, seats, 42L + seats)) {
+                assertTrue(replayer.replay(recording) > 0);
+            }
+        }
+    }
+
+    @Test
+    void replayIsRepeatable() throws Exception {
+        GameRecording recording = record(1, 3, 9L)[0];
+        ReplayEngine replayer = new ReplayEngine();
+        assertEquals(replayer.replay(recording), replayer.replay(recording));
+    }
+
+    @Test
+    void anotherSeedIsDetected() throws Exception {
+        GameRecording recording = record(1, 2, 5L)[0];
+        int[] events = new int[recording.getEventCount()];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = recording.getEvent(i);
+        }
+        GameRecording forged = new GameRecording(recording.getSeed() + 1, recording.getSeatCount(),
+                events, recording.getFinalHash());
+        assertThrows(ReplayMismatchException.class, () -> new ReplayEngine().replay(forged));
+    }
+
+    @Test
+    void anotherFinalHashIsDetected() throws Exception {
+        GameRecording recording = record(1, 2, 6L)[0];
+        int[] events = new int[recording.getEventCount()];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = recording.getEvent(i);
+        }
+        GameRecording forged = new GameRecording(recording.getSeed(), recording.getSeatCount(),
+                events, recording.getFinalHash() ^ 1);
+        assertThrows(ReplayMismatchException.class, () -> new ReplayEngine().replay(forged));
+    }
+}
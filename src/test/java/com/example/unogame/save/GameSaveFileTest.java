@@ -0,0 +1,81 @@
+package com.example.unogame.save;
+
+import com.example.unogame.engine.HeadlessGameEngine;
+import com.example.unogame.model.GameModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static com.example.unogame.engine.TestGames.midGame;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checkpoints of {@link GameModel} and the save files of {@link GameSaveFile}.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+class GameSaveFileTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void restoreCheckpointKeepsTheStateHash() throws Exception {
+        GameModel original = midGame(3, 21L, 30).getModel();
+        byte[] checkpoint = new byte[original.checkpointSize()];
+        assertEquals(checkpoint.length, original.checkpoint(checkpoint, 0));
+
+        GameModel restored = new GameModel(3, 1L);
+        assertEquals(checkpoint.length, restored.restoreCheckpoint(checkpoint, 0));
+        assertEquals(original.stateHash(), restored.stateHash());
+        assertEquals(original.getSeed(), restored.getSeed());
+    }
+
+    @Test
+    void gameContinuedFromCheckpointEndsLikeTheOriginal() throws Exception {
+        HeadlessGameEngine engine = midGame(2, 33L, 15);
+        byte[] checkpoint = new byte[engine.getModel().checkpointSize()];
+        engine.getModel().checkpoint(checkpoint, 0);
+
+        // Las mismas jugadas deben barajar y robar igual en los dos modelos
+        HeadlessGameEngine resumed = new HeadlessGameEngine(GameModel.fromCheckpoint(checkpoint, 0));
+        engine.playGame();
+        resumed.playGame();
+        assertEquals(engine.getModel().stateHash(), resumed.getModel().stateHash());
+    }
+
+    @Test
+    void savedGameReadsBack() throws Exception {
+        GameModel model = midGame(2, 8L, 12).getModel();
+        UnoTimerState timers = new UnoTimerState(1500, false, -1, true, false, 77L);
+        Path file = dir.resolve("partida.uno");
+        GameSaveFile.write(file, model, timers);
+
+        SavedGame saved = GameSaveFile.read(file);
+        assertEquals(model.stateHash(), saved.getModel().stateHash());
+        assertEquals(1500, saved.getTimers().getUserRemainingMillis());
+        assertTrue(saved.getTimers().isCpuDeclaredUno());
+        assertEquals(77L, saved.getTimers().getRandomState());
+    }
+
+    @Test
+    void corruptedSaveIsRejected() throws Exception {
+        byte[] data = GameSaveFile.encode(midGame(2, 4L, 6).getModel(), UnoTimerState.NONE);
+        data[data.length / 2] ^= 0x10;
+        IOException error = assertThrows(IOException.class, () -> GameSaveFile.decode(data));
+        assertTrue(error.getMessage().contains("CRC"), error.getMessage());
+    }
+
+    @Test
+    void truncatedSaveIsRejected() throws Exception {
+        byte[] data = GameSaveFile.encode(midGame(2, 4L, 6).getModel(), UnoTimerState.NONE);
+        byte[] truncated = Arrays.copyOf(data, data.length - 1);
+        assertThrows(IOException.class, () -> GameSaveFile.decode(truncated));
+    }
+}
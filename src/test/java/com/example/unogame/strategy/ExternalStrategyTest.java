@@ -0,0 +1,124 @@
+package com.example.unogame.strategy;
+
+import com.example.unogame.model.GameModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.module.Configuration;
+import java.lang.module.ModuleFinder;
+import java.lang.module.ResolvedModule;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.spi.ToolProvider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compiles a strategy in a module of its own against the game module and loads it
+ * through {@link ServiceLoader}, as a third-party provider would be.
+ *
+ * @authors
+ *   Jhon Steven Angulo Nieves
+ *   Braulio Robledo Delgado
+ */
+class ExternalStrategyTest {
+    private static final String MODULE_INFO = """
+            module uno.bot {
+                requires com.example.unogame;
+                provides com.example.unogame.strategy.Strategy with uno.bot.LowestCardStrategy;
+            }
+            """;
+
+    private static final String STRATEGY = """
+            package uno.bot;
+
+            import com.example.unogame.model.UnoCard;
+            import com.example.unogame.strategy.Decision;
+            import com.example.unogame.strategy.PositionView;
+            import com.example.unogame.strategy.Strategy;
+
+            public final class LowestCardStrategy implements Strategy {
+                @Override
+                public String name() {
+                    return "lowest";
+                }
+
+                @Override
+                public Decision decide(PositionView position) {
+                    long mask = position.getPlayableMask();
+                    if (mask == 0) return Decision.DRAW;
+                    int code = Long.numberOfTrailingZeros(mask);
+                    UnoCard.Color color = code >= UnoCard.WILD_CODE ? position.bestColor() : null;
+                    return Decision.play(code, color, position.getHandSize() == 2);
+                }
+            }
+            """;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void providerInAnotherModuleDecides() throws Exception {
+        Module game = Strategy.class.getModule();
+        assumeTrue(game.isNamed(), "las pruebas no se ejecutan en la ruta de módulos");
+        ToolProvider javac = ToolProvider.findFirst("javac").orElse(null);
+        assumeTrue(javac != null, "no hay compilador disponible");
+
+        Path src = dir.resolve("src");
+        Path classes = dir.resolve("classes");
+        write(src.resolve("module-info.java"), MODULE_INFO);
+        write(src.resolve("uno/bot/LowestCardStrategy.java"), STRATEGY);
+
+        // El módulo del juego y sus dependencias, tal como los cargó el arranque
+        List<String> modulePath = new ArrayList<>();
+        for (ResolvedModule module : ModuleLayer.boot().configuration().modules()) {
+            module.reference().location()
+                    .filter(uri -> "file".equals(uri.getScheme()))
+                    .ifPresent(uri -> modulePath.add(Path.of(uri).toString()));
+        }
+        StringWriter errors = new StringWriter();
+        PrintWriter out = new PrintWriter(errors);
+        int status = javac.run(out, out, "-d", classes.toString(),
+                "--module-path", String.join(File.pathSeparator, modulePath),
+                src.resolve("module-info.java").toString(),
+                src.resolve("uno/bot/LowestCardStrategy.java").toString());
+        out.flush();
+        assertEquals(0, status, errors.toString());
+
+        ModuleLayer boot = ModuleLayer.boot();
+        Configuration config = boot.configuration()
+                .resolve(ModuleFinder.of(classes), ModuleFinder.of(), Set.of("uno.bot"));
+        ModuleLayer layer = boot.defineModulesWithOneLoader(config, ClassLoader.getSystemClassLoader());
+
+        Strategy lowest = ServiceLoader.load(layer, Strategy.class).stream()
+                .map(ServiceLoader.Provider::get)
+                .filter(strategy -> strategy.name().equals("lowest"))
+                .findFirst()
+                .orElseThrow();
+
+        GameModel model = new GameModel(42);
+        PositionView position = PositionView.of(model, model.getCurrentSeat());
+        Decision decision = lowest.decide(position);
+        long mask = position.getPlayableMask();
+        if (mask == 0) {
+            assertTrue(decision.isDraw());
+        } else {
+            assertEquals(Long.numberOfTrailingZeros(mask), decision.getCode());
+        }
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}